@@ -1,28 +1,90 @@
 package com.codism.config;
 
-import org.springframework.cache.CacheManager;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * 캐시 설정
  * 사주 계산 결과를 메모리에 캐싱하여 DB 조회 최소화
+ * 천간/지지 십성은 규칙 스냅샷의 십성 행렬에서 바로 조회하므로 캐시하지 않음
+ * 규칙에서 파생된 캐시(sipsungDetail, natalChart)는 키에 규칙 내용 지문이 들어가므로 규칙을 다시 읽어도 비울 필요가 없음
+ *
+ * 모든 캐시는 Caffeine 으로 만들며 최대 크기(또는 가중치)를 넘으면 W-TinyLFU 정책으로 제거됩니다.
+ * 캐시별 크기/만료는 application.yml 의 cache.specs 에서 설정합니다 (CacheProperties).
+ * cache.redis.enabled 이면 remote-ttl 을 지정한 캐시는 Redis 를 2단계 캐시로 함께 씁니다 (RedisCacheConfig).
  */
+@Slf4j
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
 public class CacheConfig {
 
+    // Redis 에 저장할 수 있는 캐시와 값 코덱
+    private static final Map<String, CacheValueCodec<?>> CODECS = Map.of(
+            "natalChart", new NatalChartCodec()
+    );
+
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
-                "sipsung",          // 천간십성 계산 결과 캐시
-                "jijiSipsung",      // 지지십성 계산 결과 캐시
-                "sipsungDetail",    // 십성 상세 정보 캐시
-                "sinsal",           // 신살 계산 결과 캐시
-                "cheongan",         // 천간 마스터 캐시
-                "jiji"              // 지지 마스터 캐시
-        );
+    public TwoLevelCacheManager cacheManager(CacheProperties cacheProperties,
+                                             ObjectProvider<RemoteCacheStore> remoteCacheStore) {
+        Map<String, Duration> remoteTtls = new HashMap<>();
+        for (Map.Entry<String, CacheProperties.Spec> entry : cacheProperties.getSpecs().entrySet()) {
+            Duration remoteTtl = entry.getValue().getRemoteTtl();
+            if (remoteTtl == null) {
+                continue;
+            }
+            if (!CODECS.containsKey(entry.getKey())) {
+                throw new IllegalStateException("캐시 " + entry.getKey() + ": remote-ttl 을 지원하지 않는 캐시입니다.");
+            }
+            remoteTtls.put(entry.getKey(), remoteTtl);
+        }
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(remoteCacheStore.getIfAvailable(), remoteTtls,
+                CODECS, cacheProperties.getRedis().getKeyPrefix());
+
+        // 설정에 없는 이름으로 요청된 캐시도 기본값으로 크기 제한
+        cacheManager.setCaffeine(builder("defaults", cacheProperties.getDefaults()));
+
+        for (Map.Entry<String, CacheProperties.Spec> entry : cacheProperties.getSpecs().entrySet()) {
+            cacheManager.registerCustomCache(entry.getKey(), builder(entry.getKey(), entry.getValue()).build());
+        }
+
+        return cacheManager;
+    }
+
+    private Caffeine<Object, Object> builder(String name, CacheProperties.Spec spec) {
+        if (spec.getMaximumSize() != null && spec.getMaximumWeight() != null) {
+            throw new IllegalStateException("캐시 " + name + ": maximum-size 와 maximum-weight 는 함께 지정할 수 없습니다.");
+        }
+        if (spec.getMaximumSize() == null && spec.getMaximumWeight() == null) {
+            throw new IllegalStateException("캐시 " + name + ": maximum-size 또는 maximum-weight 가 필요합니다.");
+        }
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        } else {
+            builder.maximumWeight(spec.getMaximumWeight()).weigher(new CacheWeigher());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.isRecordStats()) {
+            builder.recordStats();
+        }
+
+        log.info("캐시 설정 - {}: maximumSize={}, maximumWeight={}, expireAfterWrite={}, remoteTtl={}, stats={}",
+                name, spec.getMaximumSize(), spec.getMaximumWeight(), spec.getExpireAfterWrite(), spec.getRemoteTtl(),
+                spec.isRecordStats());
+        return builder;
     }
 }
@@ -0,0 +1,68 @@
+package com.codism.config;
+
+/**
+ * 노드 간 캐시 무효화 메시지
+ * Redis pub/sub 채널로 "노드ID|종류|인자" 형태의 문자열을 주고받습니다.
+ *
+ * <ul>
+ *   <li>EVICT - 인자: 캐시 이름 + ":" + 키</li>
+ *   <li>CLEAR - 인자: 캐시 이름</li>
+ *   <li>RULES - 인자: 새 규칙 내용 지문 (받은 노드는 지문이 다르면 규칙을 다시 읽음)</li>
+ * </ul>
+ */
+public final class CacheInvalidation {
+
+    public enum Type {
+        EVICT, CLEAR, RULES
+    }
+
+    private static final char SEPARATOR = '|';
+
+    private final String nodeId;
+    private final Type type;
+    private final String argument;
+
+    public CacheInvalidation(String nodeId, Type type, String argument) {
+        this.nodeId = nodeId;
+        this.type = type;
+        this.argument = argument;
+    }
+
+    /**
+     * 메시지 문자열 해석 (형식이 맞지 않으면 null)
+     */
+    public static CacheInvalidation parse(String message) {
+        int first = message.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : message.indexOf(SEPARATOR, first + 1);
+        if (second < 0) {
+            return null;
+        }
+        try {
+            Type type = Type.valueOf(message.substring(first + 1, second));
+            return new CacheInvalidation(message.substring(0, first), type, message.substring(second + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public String encode() {
+        return nodeId + SEPARATOR + type + SEPARATOR + argument;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    public String argument() {
+        return argument;
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
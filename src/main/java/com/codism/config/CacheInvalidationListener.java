@@ -0,0 +1,74 @@
+package com.codism.config;
+
+import com.codism.service.RuleSetReloadedEvent;
+import com.codism.service.RuleSetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 노드 간 캐시 무효화 (Redis pub/sub)
+ *
+ * 보내기: 이 노드가 규칙/기준 정보를 다시 읽어 내용 지문이 바뀌면 RULES 메시지를 보냅니다.
+ * 받기:
+ * <ul>
+ *   <li>RULES - 이 노드의 지문과 다르면 폴링 주기를 기다리지 않고 바로 규칙을 다시 읽음</li>
+ *   <li>EVICT/CLEAR - 다른 노드에서 제거/비운 캐시 항목을 이 노드의 L1 에서도 제거</li>
+ * </ul>
+ * 자신이 보낸 메시지는 무시합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final RemoteCacheStore remote;
+    private final RuleSetService ruleSetService;
+
+    @EventListener
+    public void onRuleSetReloaded(RuleSetReloadedEvent event) {
+        if (!event.contentChanged()) {
+            return;
+        }
+        String cacheVersion = event.current().cacheVersion();
+        log.info("규칙 내용 변경 전파 - {}", cacheVersion);
+        remote.publish(new CacheInvalidation(cacheManager.nodeId(), CacheInvalidation.Type.RULES, cacheVersion).encode());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation invalidation = CacheInvalidation.parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (invalidation == null || cacheManager.nodeId().equals(invalidation.nodeId())) {
+            return;
+        }
+
+        switch (invalidation.type()) {
+            case RULES -> {
+                if (!invalidation.argument().equals(ruleSetService.cacheVersion())) {
+                    log.info("다른 노드의 규칙 변경 수신 ({}) - 규칙을 다시 읽습니다.", invalidation.argument());
+                    ruleSetService.reload();
+                }
+            }
+            case CLEAR -> {
+                if (localCache(invalidation.argument()) instanceof TwoLevelCache cache) {
+                    cache.clearLocal();
+                }
+            }
+            case EVICT -> {
+                int colon = invalidation.argument().indexOf(':');
+                if (colon > 0 && localCache(invalidation.argument().substring(0, colon)) instanceof TwoLevelCache cache) {
+                    cache.evictLocal(invalidation.argument().substring(colon + 1));
+                }
+            }
+        }
+    }
+
+    private Cache localCache(String name) {
+        return cacheManager.getCacheNames().contains(name) ? cacheManager.getCache(name) : null;
+    }
+}
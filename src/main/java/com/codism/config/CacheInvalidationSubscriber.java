@@ -0,0 +1,54 @@
+package com.codism.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 캐시 무효화 채널 구독 시작
+ *
+ * RedisMessageListenerContainer 는 기동 시 Redis 에 연결하지 못하면 애플리케이션 기동 자체를 실패시키므로,
+ * 자동 시작을 끄고 기동 후 retryInterval 간격으로 구독을 시도합니다.
+ * 한 번 구독에 성공한 뒤의 연결 끊김은 컨테이너가 스스로 재구독합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationSubscriber {
+
+    private final RedisMessageListenerContainer container;
+    private final TaskScheduler taskScheduler;
+    private final Duration retryInterval;
+
+    private ScheduledFuture<?> task;
+    private boolean warned;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        task = taskScheduler.scheduleWithFixedDelay(this::subscribe, retryInterval);
+    }
+
+    private synchronized void subscribe() {
+        if (container.isListening()) {
+            task.cancel(false);
+            return;
+        }
+        try {
+            // 이전 시도가 실패한 상태를 정리하고 다시 시작
+            container.stop();
+            container.start();
+            task.cancel(false);
+            log.info("캐시 무효화 채널 구독 시작");
+        } catch (RuntimeException e) {
+            if (!warned) {
+                warned = true;
+                log.warn("캐시 무효화 채널 구독 실패 - {} 간격으로 재시도합니다: {}", retryInterval, e.getMessage());
+            }
+        }
+    }
+}
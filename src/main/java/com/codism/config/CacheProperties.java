@@ -0,0 +1,79 @@
+package com.codism.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시별 크기/만료 설정 (application.yml 의 cache.*)
+ *
+ * <pre>
+ * cache:
+ *   defaults:
+ *     maximum-size: 1000
+ *   specs:
+ *     natalChart:
+ *       maximum-weight: 150000
+ *       expire-after-write: 24h
+ *       remote-ttl: 7d
+ *   redis:
+ *     enabled: true
+ * </pre>
+ *
+ * specs 에 없는 이름의 캐시는 defaults 설정으로 생성됩니다.
+ * redis.enabled 이고 remote-ttl 이 있는 캐시는 Redis 를 2단계 캐시로 함께 사용합니다 (TwoLevelCache).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+
+    // specs 에 없는 캐시에 적용할 기본값 (최대 크기가 없으면 무제한이 되므로 반드시 제한)
+    private Spec defaults = new Spec(1000L, null, null, true);
+
+    // 캐시 이름별 설정
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    // 원격(L2) 캐시
+    private Redis redis = new Redis();
+
+    /**
+     * 캐시 하나의 설정
+     * maximumSize(항목 수)와 maximumWeight(CacheWeigher 가중치 합) 중 하나만 지정
+     */
+    @Getter
+    @Setter
+    public static class Spec {
+        private Long maximumSize;           // 최대 항목 수
+        private Long maximumWeight;         // 최대 가중치 합
+        private Duration expireAfterWrite;  // 저장 후 만료 시간 (없으면 만료 없음)
+        private boolean recordStats = true; // 적중/실패/제거 통계 기록 여부
+        private Duration remoteTtl;         // Redis 보관 기간 (없으면 로컬 캐시만 사용)
+
+        public Spec() {
+        }
+
+        public Spec(Long maximumSize, Long maximumWeight, Duration expireAfterWrite, boolean recordStats) {
+            this.maximumSize = maximumSize;
+            this.maximumWeight = maximumWeight;
+            this.expireAfterWrite = expireAfterWrite;
+            this.recordStats = recordStats;
+        }
+    }
+
+    /**
+     * Redis 2단계 캐시 설정 (연결 정보는 spring.data.redis.*)
+     */
+    @Getter
+    @Setter
+    public static class Redis {
+        private boolean enabled = false;                            // 사용 여부
+        private String keyPrefix = "saju:cache:";                   // 키 접두어
+        private String channel = "saju:cache:invalidation";         // 무효화 메시지 채널
+        private Duration retryInterval = Duration.ofSeconds(30);    // 장애 후 재시도 간격
+    }
+}
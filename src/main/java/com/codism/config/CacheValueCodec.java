@@ -0,0 +1,24 @@
+package com.codism.config;
+
+import java.io.IOException;
+
+/**
+ * 원격(Redis) 캐시 값 직렬화
+ * 캐시마다 값의 형태가 정해져 있으므로 범용 직렬화 대신 필드를 순서대로 기록하는 전용 형식을 사용합니다.
+ *
+ * @param <T> 캐시 값 타입
+ */
+public interface CacheValueCodec<T> {
+
+    /**
+     * 이 코덱이 다루는 값 타입
+     */
+    Class<T> type();
+
+    byte[] encode(T value) throws IOException;
+
+    /**
+     * 형식 버전이 다르면 null (캐시 미스로 처리)
+     */
+    T decode(byte[] bytes) throws IOException;
+}
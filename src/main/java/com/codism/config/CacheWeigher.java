@@ -0,0 +1,30 @@
+package com.codism.config;
+
+import com.codism.model.vo.NatalChart;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 캐시 항목 가중치 (maximumWeight 를 지정한 캐시에서 사용)
+ * 정확한 바이트 수가 아니라 항목이 담고 있는 하위 객체 수로 크기를 어림합니다.
+ * 사주 원국은 신살/대운 수에 따라 크기가 달라지므로 항목 수보다 가중치로 제한하는 편이 메모리 상한에 가깝습니다.
+ */
+public class CacheWeigher implements Weigher<Object, Object> {
+
+    @Override
+    public int weigh(Object key, Object value) {
+        if (value instanceof NatalChart natal) {
+            // 네 기둥 + 합충 분석 + 신살 + 대운표
+            return 5 + natal.sinsals().size() + natal.daeunTimeline().size();
+        }
+        if (value instanceof Collection<?> collection) {
+            return 1 + collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return 1 + map.size();
+        }
+        return 1;
+    }
+}
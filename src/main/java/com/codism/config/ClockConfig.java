@@ -0,0 +1,20 @@
+package com.codism.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 기준 시각 설정
+ * 나이, 현재 대운, 세운, 월운처럼 오늘 날짜에 따라 달라지는 계산은 이 Clock 을 사용합니다.
+ * 기본 시간대는 Application 에서 Asia/Seoul 로 고정합니다.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
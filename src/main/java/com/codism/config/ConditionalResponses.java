@@ -0,0 +1,127 @@
+package com.codism.config;
+
+import com.codism.service.RuleSet;
+import com.codism.service.RuleSetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ETag / Cache-Control 조건부 응답
+ *
+ * ETag 는 엔드포인트 이름, 입력값, 데이터 버전으로 만든 강한 ETag 입니다.
+ * 요청의 If-None-Match 가 일치하면 응답을 계산/직렬화하지 않고 바로 304 를 돌려줍니다.
+ *
+ * <ul>
+ *   <li>calendar - 천간지지처럼 입력만으로 정해지는 계산 (데이터 버전 = http-cache.calendar-version)</li>
+ *   <li>masterData - 십성/신살 기준 정보 (데이터 버전 = 규칙 스냅샷 내용 지문)</li>
+ * </ul>
+ * 2xx 가 아닌 응답(404, 400 등)에는 캐시 헤더를 붙이지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(HttpCacheProperties.class)
+public class ConditionalResponses {
+
+    private static final int ETAG_LENGTH = 16;
+
+    private final RuleSetService ruleSetService;
+    private final HttpCacheProperties properties;
+
+    /**
+     * 입력만으로 정해지는 계산 결과
+     *
+     * @param ifNoneMatch 요청의 If-None-Match 헤더 (없으면 null)
+     * @param response    응답 생성 (ETag 가 일치하지 않을 때만 호출)
+     * @param key         엔드포인트 이름과 입력값
+     */
+    public <T> ResponseEntity<T> calendar(String ifNoneMatch, Supplier<ResponseEntity<T>> response, Object... key) {
+        return conditional(ifNoneMatch, etag(properties.getCalendarVersion(), key),
+                properties.getCalendarMaxAge(), response);
+    }
+
+    /**
+     * 십성/신살 기준 정보 (규칙 스냅샷을 다시 읽어 내용이 바뀌면 ETag 도 바뀜)
+     * 응답은 ETag 를 계산한 스냅샷으로 만들어야 하므로, 스냅샷을 한 번만 읽어 ETag 와 응답 생성에 함께 넘깁니다.
+     *
+     * @param response 스냅샷으로 응답 생성 (ETag 가 일치하지 않을 때만 호출)
+     */
+    public <T> ResponseEntity<T> masterData(String ifNoneMatch, Function<RuleSet, ResponseEntity<T>> response,
+                                            Object... key) {
+        RuleSet ruleSet = ruleSetService.current();
+        return conditional(ifNoneMatch, etag(ruleSet.cacheVersion(), key),
+                properties.getMasterDataMaxAge(), () -> response.apply(ruleSet));
+    }
+
+    private <T> ResponseEntity<T> conditional(String ifNoneMatch, String etag, Duration maxAge,
+                                              Supplier<ResponseEntity<T>> response) {
+        CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+
+        ResponseEntity<T> entity = response.get();
+        if (!entity.getStatusCode().is2xxSuccessful()) {
+            return entity;
+        }
+        return ResponseEntity.status(entity.getStatusCode())
+                .headers(entity.getHeaders())
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(entity.getBody());
+    }
+
+    /**
+     * If-None-Match 비교 (여러 값, "*", 약한 비교 W/ 허용)
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 강한 ETag ("16자리 16진수")
+     */
+    static String etag(String version, Object... key) {
+        MessageDigest digest = sha256();
+        digest.update(version.getBytes(StandardCharsets.UTF_8));
+        for (Object part : key) {
+            digest.update((byte) 0x1f);
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+        }
+        return "\"" + HexFormat.of().formatHex(digest.digest()).substring(0, ETAG_LENGTH) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.codism.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * HTTP 캐시 헤더 설정 (application.yml 의 http-cache.*)
+ *
+ * 입력만으로 결과가 정해지는 응답에 ETag 와 Cache-Control 을 붙여 CDN/클라이언트가 재요청을 흡수하도록 합니다 (ConditionalResponses).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http-cache")
+public class HttpCacheProperties {
+
+    // 천간지지 계산 결과 보관 기간 (입력이 같으면 결과가 바뀌지 않음)
+    private Duration calendarMaxAge = Duration.ofDays(30);
+
+    // 천간지지 계산 방식 버전 (절입 시각/역법 계산이 바뀌면 올려서 기존 ETag 를 무효화)
+    private String calendarVersion = "1";
+
+    // 십성/신살 기준 정보 보관 기간 (기준 정보를 다시 읽으면 ETag 가 바뀌므로 만료 후 재검증)
+    private Duration masterDataMaxAge = Duration.ofHours(1);
+}
@@ -0,0 +1,282 @@
+package com.codism.config;
+
+import com.codism.model.dto.response.SajuDetailResponse.DaeunInfo;
+import com.codism.model.dto.response.SajuDetailResponse.HapChungAnalysis;
+import com.codism.model.dto.response.SajuDetailResponse.MatchedRule;
+import com.codism.model.dto.response.SajuDetailResponse.SajuPillar;
+import com.codism.model.dto.response.SajuDetailResponse.SinsalInfo;
+import com.codism.model.enums.SinsalRuleType;
+import com.codism.model.enums.SinsalType;
+import com.codism.model.vo.DaeunStartAge;
+import com.codism.model.vo.FourPillars;
+import com.codism.model.vo.NatalChart;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사주 원국 이진 직렬화 (Redis 캐시용)
+ * 첫 바이트는 형식 버전이며, NatalChart/DTO 필드가 바뀌면 FORMAT 을 올려 이전 형식 값을 미스로 처리합니다.
+ *
+ * 문자열은 DataOutputStream.writeUTF(수정 UTF-8), null 가능 값은 앞에 존재 여부 1바이트를 붙입니다.
+ * 필드 이름이나 타입 정보를 싣지 않으므로 JSON/Java 직렬화보다 작고 빠릅니다.
+ */
+public class NatalChartCodec implements CacheValueCodec<NatalChart> {
+
+    private static final byte FORMAT = 1;
+
+    @Override
+    public Class<NatalChart> type() {
+        return NatalChart.class;
+    }
+
+    @Override
+    public byte[] encode(NatalChart natal) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        DataOutputStream out = new DataOutputStream(buffer);
+
+        out.writeByte(FORMAT);
+        out.writeInt(natal.pillars().packed());
+        writeString(out, natal.gender());
+        writePillar(out, natal.year());
+        writePillar(out, natal.month());
+        writePillar(out, natal.day());
+        writePillar(out, natal.hour());
+
+        out.writeShort(natal.sinsals().size());
+        for (SinsalInfo sinsal : natal.sinsals()) {
+            writeSinsal(out, sinsal);
+        }
+
+        writeHapChung(out, natal.hapChung());
+        writeDaeunStart(out, natal.daeunStart());
+
+        out.writeShort(natal.daeunTimeline().size());
+        for (DaeunInfo daeun : natal.daeunTimeline()) {
+            writeDaeun(out, daeun);
+        }
+
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    @Override
+    public NatalChart decode(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readByte() != FORMAT) {
+            return null;
+        }
+
+        FourPillars pillars = FourPillars.fromPacked(in.readInt());
+        String gender = readString(in);
+        SajuPillar year = readPillar(in);
+        SajuPillar month = readPillar(in);
+        SajuPillar day = readPillar(in);
+        SajuPillar hour = readPillar(in);
+
+        int sinsalCount = in.readUnsignedShort();
+        List<SinsalInfo> sinsals = new ArrayList<>(sinsalCount);
+        for (int i = 0; i < sinsalCount; i++) {
+            sinsals.add(readSinsal(in));
+        }
+
+        HapChungAnalysis hapChung = readHapChung(in);
+        DaeunStartAge daeunStart = readDaeunStart(in);
+
+        int daeunCount = in.readUnsignedShort();
+        List<DaeunInfo> daeunTimeline = new ArrayList<>(daeunCount);
+        for (int i = 0; i < daeunCount; i++) {
+            daeunTimeline.add(readDaeun(in));
+        }
+
+        return new NatalChart(pillars, gender, year, month, day, hour, sinsals, hapChung, daeunStart, daeunTimeline);
+    }
+
+    // ===== 기둥 =====
+
+    private void writePillar(DataOutputStream out, SajuPillar pillar) throws IOException {
+        out.writeBoolean(pillar != null);
+        if (pillar == null) {
+            return;
+        }
+        writeString(out, pillar.getCheongan());
+        writeString(out, pillar.getCheonganHanja());
+        writeString(out, pillar.getCheonganColor());
+        writeString(out, pillar.getCheonganColorHex());
+        writeString(out, pillar.getJiji());
+        writeString(out, pillar.getJijiHanja());
+        writeString(out, pillar.getJijiColor());
+        writeString(out, pillar.getJijiColorHex());
+        writeString(out, pillar.getCheonganSipsung());
+        writeString(out, pillar.getJijiSipsung());
+        writeInteger(out, pillar.getYear());
+    }
+
+    private SajuPillar readPillar(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return new SajuPillar(readString(in), readString(in), readString(in), readString(in),
+                readString(in), readString(in), readString(in), readString(in),
+                readString(in), readString(in), readInteger(in));
+    }
+
+    // ===== 신살 =====
+
+    private void writeSinsal(DataOutputStream out, SinsalInfo sinsal) throws IOException {
+        writeString(out, sinsal.getSinsalName());
+        writeEnum(out, sinsal.getSinsalType());
+        writeString(out, sinsal.getIcon());
+
+        MatchedRule rule = sinsal.getMatchedRule();
+        out.writeBoolean(rule != null);
+        if (rule != null) {
+            out.writeBoolean(rule.getRuleId() != null);
+            if (rule.getRuleId() != null) {
+                out.writeLong(rule.getRuleId());
+            }
+            writeEnum(out, rule.getRuleType());
+            writeString(out, rule.getMatchPosition());
+            writeString(out, rule.getDescription());
+        }
+    }
+
+    private SinsalInfo readSinsal(DataInputStream in) throws IOException {
+        String name = readString(in);
+        SinsalType type = readEnum(in, SinsalType.class);
+        String icon = readString(in);
+
+        MatchedRule rule = null;
+        if (in.readBoolean()) {
+            Long ruleId = in.readBoolean() ? in.readLong() : null;
+            rule = new MatchedRule(ruleId, readEnum(in, SinsalRuleType.class), readString(in), readString(in));
+        }
+        return new SinsalInfo(name, type, icon, rule);
+    }
+
+    // ===== 합충형파해 =====
+
+    private void writeHapChung(DataOutputStream out, HapChungAnalysis hapChung) throws IOException {
+        out.writeBoolean(hapChung != null);
+        if (hapChung == null) {
+            return;
+        }
+        writeStrings(out, hapChung.getHapList());
+        writeStrings(out, hapChung.getChungList());
+        writeStrings(out, hapChung.getHyeongList());
+        writeStrings(out, hapChung.getPaList());
+        writeStrings(out, hapChung.getHaeList());
+        writeStrings(out, hapChung.getSajuToDaeun());
+        writeStrings(out, hapChung.getSajuToSeun());
+        writeStrings(out, hapChung.getSajuToWolun());
+    }
+
+    private HapChungAnalysis readHapChung(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return new HapChungAnalysis(readStrings(in), readStrings(in), readStrings(in), readStrings(in),
+                readStrings(in), readStrings(in), readStrings(in), readStrings(in));
+    }
+
+    // ===== 대운 =====
+
+    private void writeDaeunStart(DataOutputStream out, DaeunStartAge start) throws IOException {
+        out.writeBoolean(start != null);
+        if (start == null) {
+            return;
+        }
+        out.writeShort(start.years());
+        out.writeByte(start.months());
+        out.writeByte(start.days());
+        out.writeBoolean(start.isForward());
+    }
+
+    private DaeunStartAge readDaeunStart(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return DaeunStartAge.of(in.readShort(), in.readByte(), in.readByte(), in.readBoolean());
+    }
+
+    private void writeDaeun(DataOutputStream out, DaeunInfo daeun) throws IOException {
+        out.writeShort(daeun.getStartAge());
+        out.writeShort(daeun.getEndAge());
+        writeString(out, daeun.getCheongan());
+        writeString(out, daeun.getCheonganHanja());
+        writeString(out, daeun.getJiji());
+        writeString(out, daeun.getJijiHanja());
+        writeString(out, daeun.getCheonganSipsung());
+        writeString(out, daeun.getJijiSipsung());
+        out.writeBoolean(daeun.isCurrent());
+        writeString(out, daeun.getInterpretation());
+        writeInteger(out, daeun.getYearsRemaining());
+        writeString(out, daeun.getPeriodInfo());
+    }
+
+    private DaeunInfo readDaeun(DataInputStream in) throws IOException {
+        return new DaeunInfo(in.readShort(), in.readShort(),
+                readString(in), readString(in), readString(in), readString(in), readString(in), readString(in),
+                in.readBoolean(), readString(in), readInteger(in), readString(in));
+    }
+
+    // ===== 기본 값 =====
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private Integer readInteger(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+        writeString(out, value != null ? value.name() : null);
+    }
+
+    private <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> type) throws IOException {
+        String name = readString(in);
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeShort(values != null ? values.size() : -1);
+        if (values == null) {
+            return;
+        }
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readShort();
+        if (size < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,65 @@
+package com.codism.config;
+
+import com.codism.service.RuleSetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+
+/**
+ * 사주 원국 캐시 키 생성 (NatalChartService.getNatalChart)
+ * SpEL 평가와 문자열 이어 붙이기 없이 입력과 규칙 내용 지문을 long 하나에 담습니다.
+ * 캐시 적중 시에도 매번 만드는 키이므로, 조회보다 키 생성이 비싸지 않도록 하기 위함입니다.
+ *
+ * 비트 구성: [규칙 지문 상위 34bit][생년월일 epochDay 22bit][시 5bit][남성 1bit][양력 1bit][explain 1bit]
+ *
+ * 원국은 성별 중 대운 순행/역행(남성 여부)에만 영향을 받으므로 성별은 1bit 로 줄입니다.
+ * 지문을 34bit 로 자르므로 서로 다른 규칙 내용이 같은 키를 쓸 확률은 규칙 변경 한 번에 약 2^-34 입니다.
+ * 생년월일이 담을 수 있는 범위(약 -3771 ~ 7711년)를 벗어나면 SimpleKey 로 대신합니다.
+ */
+@Component("natalChartKeyGenerator")
+@RequiredArgsConstructor
+public class NatalChartKeyGenerator implements KeyGenerator {
+
+    private static final int FLAG_BITS = 3;
+    private static final int HOUR_BITS = 5;
+    private static final int DAY_BITS = 22;
+    private static final int VERSION_BITS = Long.SIZE - DAY_BITS - HOUR_BITS - FLAG_BITS;
+
+    private static final int HOUR_SHIFT = FLAG_BITS;
+    private static final int DAY_SHIFT = HOUR_SHIFT + HOUR_BITS;
+    private static final int VERSION_SHIFT = DAY_SHIFT + DAY_BITS;
+
+    private static final long DAY_OFFSET = 1L << (DAY_BITS - 1);
+    private static final long NO_HOUR = 24;
+
+    private final RuleSetService ruleSetService;
+
+    /**
+     * @param params birthDate, hour, gender, isSolarCalendar, explain (getNatalChart 인자 순서)
+     */
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        LocalDate birthDate = (LocalDate) params[0];
+        Integer hour = (Integer) params[1];
+        boolean male = "M".equalsIgnoreCase((String) params[2]);
+        boolean solar = (Boolean) params[3];
+        boolean explain = (Boolean) params[4];
+        long versionBits = ruleSetService.current().cacheVersionBits();
+
+        long day = birthDate.toEpochDay() + DAY_OFFSET;
+        if (day < 0 || day >= (1L << DAY_BITS) || (hour != null && (hour < 0 || hour > 23))) {
+            return new SimpleKey(versionBits, birthDate, hour, male, solar, explain);
+        }
+
+        return (versionBits >>> (Long.SIZE - VERSION_BITS)) << VERSION_SHIFT
+                | day << DAY_SHIFT
+                | (hour != null ? hour : NO_HOUR) << HOUR_SHIFT
+                | (male ? 4 : 0)
+                | (solar ? 2 : 0)
+                | (explain ? 1 : 0);
+    }
+}
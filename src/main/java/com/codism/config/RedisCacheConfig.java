@@ -0,0 +1,68 @@
+package com.codism.config;
+
+import com.codism.service.RuleSetService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * Redis 2단계 캐시 설정 (cache.redis.enabled=true 일 때만)
+ * 연결 정보는 spring.data.redis.* 를 따릅니다.
+ *
+ * Redis 에 연결할 수 없어도 기동은 계속되며, 캐시는 로컬(L1)만으로 동작하고 구독은 백그라운드에서 재시도합니다
+ * (CacheInvalidationSubscriber).
+ * 로컬 Redis 대신 다른 저장소로 시험하려면 RemoteCacheStore 빈을 직접 등록하면 됩니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "cache.redis", name = "enabled", havingValue = "true")
+public class RedisCacheConfig {
+
+    @Bean
+    public RemoteCacheStore remoteCacheStore(RedisConnectionFactory connectionFactory, CacheProperties cacheProperties) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+
+        CacheProperties.Redis redis = cacheProperties.getRedis();
+        return new RedisRemoteCacheStore(template, redis.getChannel(), redis.getRetryInterval());
+    }
+
+    @Bean
+    public CacheInvalidationListener cacheInvalidationListener(TwoLevelCacheManager cacheManager,
+                                                               RemoteCacheStore remoteCacheStore,
+                                                               RuleSetService ruleSetService) {
+        return new CacheInvalidationListener(cacheManager, remoteCacheStore, ruleSetService);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationContainer(RedisConnectionFactory connectionFactory,
+                                                                    CacheInvalidationListener listener,
+                                                                    CacheProperties cacheProperties) {
+        // 기동 시 Redis 에 연결하지 못하면 기동이 실패하므로 자동 시작하지 않고 CacheInvalidationSubscriber 가 시작
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public boolean isAutoStartup() {
+                return false;
+            }
+        };
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(listener, new ChannelTopic(cacheProperties.getRedis().getChannel()));
+        return container;
+    }
+
+    @Bean
+    public CacheInvalidationSubscriber cacheInvalidationSubscriber(RedisMessageListenerContainer cacheInvalidationContainer,
+                                                                   TaskScheduler taskScheduler,
+                                                                   CacheProperties cacheProperties) {
+        return new CacheInvalidationSubscriber(cacheInvalidationContainer, taskScheduler,
+                cacheProperties.getRedis().getRetryInterval());
+    }
+}
@@ -0,0 +1,112 @@
+package com.codism.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Redis 원격 캐시 저장소
+ *
+ * 명령이 실패하면 retryInterval 동안 Redis 를 쓰지 않고 바로 미스/무시로 처리합니다.
+ * 장애 중 요청마다 연결 시간 초과를 기다리지 않도록 하기 위함이며, 경고 로그도 장애가 시작될 때 한 번만 남깁니다.
+ */
+@Slf4j
+public class RedisRemoteCacheStore implements RemoteCacheStore {
+
+    private static final int DELETE_BATCH = 500;
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final String channel;
+    private final long retryIntervalMillis;
+
+    // 이 시각(ms) 전까지는 Redis 를 사용하지 않음 (0 이면 정상)
+    private volatile long downUntil;
+
+    public RedisRemoteCacheStore(RedisTemplate<String, byte[]> redisTemplate, String channel, Duration retryInterval) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.retryIntervalMillis = retryInterval.toMillis();
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return execute("조회", () -> redisTemplate.opsForValue().get(key));
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        execute("저장", () -> {
+            redisTemplate.opsForValue().set(key, value, ttl);
+            return null;
+        });
+    }
+
+    @Override
+    public void delete(String key) {
+        execute("삭제", () -> redisTemplate.delete(key));
+    }
+
+    @Override
+    public void deleteByPrefix(String prefix) {
+        // KEYS 는 Redis 전체를 막으므로 SCAN 으로 나눠서 삭제
+        Long deleted = execute("접두어 삭제", () -> {
+            long count = 0;
+            List<String> batch = new ArrayList<>(DELETE_BATCH);
+            ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(DELETE_BATCH).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() == DELETE_BATCH) {
+                        count += redisTemplate.delete(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                count += redisTemplate.delete(batch);
+            }
+            return count;
+        });
+        if (deleted != null) {
+            log.info("원격 캐시 삭제 - {}* : {}건", prefix, deleted);
+        }
+    }
+
+    @Override
+    public void publish(String message) {
+        execute("무효화 전파", () -> redisTemplate.convertAndSend(channel, message));
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return System.currentTimeMillis() >= downUntil;
+    }
+
+    private <T> T execute(String operation, Supplier<T> command) {
+        if (!isAvailable()) {
+            return null;
+        }
+        try {
+            T result = command.get();
+            if (downUntil != 0) {
+                downUntil = 0;
+                log.info("원격 캐시(Redis) 복구 - 2단계 캐시를 다시 사용합니다.");
+            }
+            return result;
+        } catch (RuntimeException e) {
+            boolean wasUp = downUntil == 0;
+            downUntil = System.currentTimeMillis() + retryIntervalMillis;
+            if (wasUp) {
+                log.warn("원격 캐시(Redis) {} 실패 - {}ms 동안 로컬 캐시만 사용합니다: {}",
+                        operation, retryIntervalMillis, e.getMessage());
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.codism.config;
+
+import java.time.Duration;
+
+/**
+ * 원격(L2) 캐시 저장소
+ * 운영에서는 Redis(RedisRemoteCacheStore)를 쓰고, 테스트에서는 메모리 구현으로 바꿔 끼울 수 있습니다.
+ *
+ * 구현체는 저장소에 접근할 수 없을 때 예외를 던지지 않고 미스/무시로 처리해야 합니다.
+ * 원격 캐시가 멈춰도 각 노드는 로컬(L1) 캐시만으로 계속 동작합니다.
+ */
+public interface RemoteCacheStore {
+
+    /**
+     * 값 조회 (없거나 저장소에 접근할 수 없으면 null)
+     */
+    byte[] get(String key);
+
+    void put(String key, byte[] value, Duration ttl);
+
+    void delete(String key);
+
+    /**
+     * 접두어로 시작하는 키 모두 삭제
+     */
+    void deleteByPrefix(String prefix);
+
+    /**
+     * 무효화 메시지를 모든 노드에 전파
+     */
+    void publish(String message);
+
+    /**
+     * 현재 저장소를 사용할 수 있는지 여부 (장애 후 재시도 대기 중이면 false)
+     */
+    boolean isAvailable();
+}
@@ -2,17 +2,22 @@ package com.codism.config;
 
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -20,16 +25,37 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.Arrays;
 import java.util.List;
 
+@Slf4j
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
 @RequiredArgsConstructor
 public class SecurityConfig {
+
+    private static final String ADMIN_PATHS = "/api/v1/admin/**";
+    private static final String ADMIN_ROLE = "ADMIN";
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * 관리 API(/api/v1/admin/**) 계정 (spring.security.user.name / password)
+     * 비밀번호를 설정하지 않으면 임의 값이 생성되어 관리 API 를 사실상 사용할 수 없습니다.
+     */
+    @Bean
+    public UserDetailsService userDetailsService(SecurityProperties securityProperties, PasswordEncoder passwordEncoder) {
+        SecurityProperties.User admin = securityProperties.getUser();
+        if (admin.isPasswordGenerated()) {
+            log.warn("관리자 비밀번호(spring.security.user.password)가 설정되지 않았습니다. 관리 API 를 사용할 수 없습니다.");
+        }
+        return new InMemoryUserDetailsManager(User.withUsername(admin.getName())
+                .password(passwordEncoder.encode(admin.getPassword()))
+                .roles(ADMIN_ROLE)
+                .build());
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -45,8 +71,13 @@ public class SecurityConfig {
                 // 세션 비활성화 (JWT 사용)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
-                // 요청 권한 설정 - 모든 요청 허용 (서비스 레벨에서 인증 처리)
-                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                // 요청 권한 설정 - 관리 API(규칙 재적재, 캐시 비우기 등)는 관리자만, 나머지는 허용 (서비스 레벨에서 인증 처리)
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(ADMIN_PATHS).hasRole(ADMIN_ROLE)
+                        .anyRequest().permitAll())
+
+                // 관리 API 인증 (HTTP Basic)
+                .httpBasic(Customizer.withDefaults())
 
                 // 예외 처리
                 .exceptionHandling(exception -> exception
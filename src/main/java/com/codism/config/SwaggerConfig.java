@@ -32,6 +32,11 @@ public class SwaggerConfig {
                 .in(SecurityScheme.In.HEADER)
                 .name("Authorization");
 
+        // 관리 API(/api/v1/admin/**) HTTP Basic 인증 스키마
+        SecurityScheme adminAuth = new SecurityScheme()
+                .type(SecurityScheme.Type.HTTP)
+                .scheme("basic");
+
         // 보안 요구사항 추가
         SecurityRequirement securityRequirement = new SecurityRequirement().addList("bearerAuth");
 
@@ -52,7 +57,9 @@ public class SwaggerConfig {
                         new Server().url("http://jaebum7396.iptime.org:8000/"+serviceName).description("프로덕션 서버")
                 ))
                 // 보안 스키마 컴포넌트 추가
-                .components(new Components().addSecuritySchemes("bearerAuth", bearerAuth))
+                .components(new Components()
+                        .addSecuritySchemes("bearerAuth", bearerAuth)
+                        .addSecuritySchemes("adminAuth", adminAuth))
                 // 글로벌 보안 요구사항 추가
                 .addSecurityItem(securityRequirement);
     }
@@ -0,0 +1,185 @@
+package com.codism.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2단계 캐시 (L1: 노드 메모리 Caffeine, L2: 원격 저장소)
+ *
+ * 조회는 L1 -> L2 순서로 하고 L2 에서 찾으면 L1 에도 넣습니다. 저장은 L1/L2 모두에 합니다.
+ * 제거/비우기는 L2 에서도 지우고 다른 노드에 무효화 메시지를 보내 각 노드의 L1 도 비우게 합니다.
+ *
+ * L2 값은 CacheValueCodec 으로 직렬화하며, 읽기/쓰기 실패나 형식 불일치는 미스로 처리합니다.
+ * L1 통계(Caffeine)는 그대로 유지되고 L2 적중/실패 수는 따로 셉니다.
+ */
+@Slf4j
+public class TwoLevelCache extends CaffeineCache {
+
+    private final RemoteCacheStore remote;
+    private final CacheValueCodec<Object> codec;
+    private final Duration remoteTtl;
+    private final String keyPrefix;
+    private final String nodeId;
+
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+
+    /**
+     * @param keyPrefix L2 키 접두어 (전체 접두어 + 캐시 이름 + "::")
+     * @param nodeId    무효화 메시지에 넣을 이 노드의 ID
+     */
+    @SuppressWarnings("unchecked")
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                         boolean allowNullValues, RemoteCacheStore remote, CacheValueCodec<?> codec,
+                         Duration remoteTtl, String keyPrefix, String nodeId) {
+        super(name, cache, allowNullValues);
+        this.remote = remote;
+        this.codec = (CacheValueCodec<Object>) codec;
+        this.remoteTtl = remoteTtl;
+        this.keyPrefix = keyPrefix;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        if (value != null) {
+            return value;
+        }
+        value = readRemote(key);
+        if (value != null) {
+            getNativeCache().put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 같은 키의 동시 요청은 Caffeine 이 하나로 모으므로 L2 조회/계산도 한 번만 일어남
+        return super.get(key, () -> {
+            @SuppressWarnings("unchecked")
+            T value = (T) readRemote(key);
+            if (value == null) {
+                value = valueLoader.call();
+                writeRemote(key, value);
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        writeRemote(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            writeRemote(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        evictRemote(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = super.evictIfPresent(key);
+        evictRemote(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        clearRemote();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = super.invalidate();
+        clearRemote();
+        return notEmpty;
+    }
+
+    /**
+     * 이 노드의 L1 에서만 제거 (다른 노드의 무효화 메시지를 받았을 때)
+     * 메시지에는 키의 문자열 표현만 실리므로 문자열 표현이 같은 항목을 찾아 제거합니다.
+     */
+    public void evictLocal(String key) {
+        getNativeCache().asMap().keySet().removeIf(k -> k.toString().equals(key));
+    }
+
+    /**
+     * 이 노드의 L1 만 비우기 (다른 노드의 무효화 메시지를 받았을 때)
+     */
+    public void clearLocal() {
+        super.clear();
+    }
+
+    public long remoteHitCount() {
+        return remoteHits.sum();
+    }
+
+    public long remoteMissCount() {
+        return remoteMisses.sum();
+    }
+
+    public boolean isRemoteAvailable() {
+        return remote.isAvailable();
+    }
+
+    private Object readRemote(Object key) {
+        byte[] bytes = remote.get(remoteKey(key));
+        Object value = null;
+        if (bytes != null) {
+            try {
+                value = codec.decode(bytes);
+            } catch (IOException | RuntimeException e) {
+                log.warn("원격 캐시 값 해석 실패 - {} {}: {}", getName(), key, e.getMessage());
+            }
+        }
+        if (value != null) {
+            remoteHits.increment();
+        } else {
+            remoteMisses.increment();
+        }
+        return value;
+    }
+
+    private void writeRemote(Object key, Object value) {
+        if (!codec.type().isInstance(value)) {
+            return;
+        }
+        try {
+            remote.put(remoteKey(key), codec.encode(value), remoteTtl);
+        } catch (IOException e) {
+            log.warn("원격 캐시 값 직렬화 실패 - {} {}: {}", getName(), key, e.getMessage());
+        }
+    }
+
+    private void evictRemote(Object key) {
+        remote.delete(remoteKey(key));
+        remote.publish(new CacheInvalidation(nodeId, CacheInvalidation.Type.EVICT, getName() + ":" + key).encode());
+    }
+
+    private void clearRemote() {
+        remote.deleteByPrefix(keyPrefix);
+        remote.publish(new CacheInvalidation(nodeId, CacheInvalidation.Type.CLEAR, getName()).encode());
+    }
+
+    private String remoteKey(Object key) {
+        return keyPrefix + key;
+    }
+}
@@ -0,0 +1,56 @@
+package com.codism.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 원격(L2) 캐시를 붙일 수 있는 CaffeineCacheManager
+ * remoteTtl 이 설정되고 코덱이 있는 캐시만 TwoLevelCache 로 만들고, 나머지는 기존처럼 Caffeine 캐시만 사용합니다.
+ * 원격 저장소가 없으면(cache.redis.enabled=false) 모든 캐시가 로컬 전용입니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends CaffeineCacheManager {
+
+    private final RemoteCacheStore remote;
+    private final Map<String, Duration> remoteTtls;
+    private final Map<String, CacheValueCodec<?>> codecs;
+    private final String keyPrefix;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * @param remote     원격 저장소 (없으면 null)
+     * @param remoteTtls 캐시 이름별 L2 보관 기간
+     * @param codecs     캐시 이름별 L2 값 코덱
+     */
+    public TwoLevelCacheManager(RemoteCacheStore remote, Map<String, Duration> remoteTtls,
+                                Map<String, CacheValueCodec<?>> codecs, String keyPrefix) {
+        this.remote = remote;
+        this.remoteTtls = Map.copyOf(remoteTtls);
+        this.codecs = Map.copyOf(codecs);
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        Duration remoteTtl = remoteTtls.get(name);
+        CacheValueCodec<?> codec = codecs.get(name);
+        if (remote == null || remoteTtl == null || codec == null) {
+            return super.adaptCaffeineCache(name, cache);
+        }
+        log.info("2단계 캐시 - {}: remoteTtl={}", name, remoteTtl);
+        return new TwoLevelCache(name, cache, isAllowNullValues(), remote, codec, remoteTtl,
+                keyPrefix + name + "::", nodeId);
+    }
+
+    /**
+     * 이 노드의 ID (자신이 보낸 무효화 메시지를 구분)
+     */
+    public String nodeId() {
+        return nodeId;
+    }
+}
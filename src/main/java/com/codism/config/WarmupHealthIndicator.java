@@ -0,0 +1,35 @@
+package com.codism.config;
+
+import com.codism.model.dto.response.WarmupStatusResponse;
+import com.codism.service.CacheWarmupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 예열 상태 (/actuator/health/readiness 의 warmup)
+ * warmup.readiness-gate 가 켜져 있으면 예열이 끝날 때까지 OUT_OF_SERVICE 로 보고해 트래픽을 받지 않게 합니다.
+ * 예열이 중단(FAILED)되어도 트래픽은 받을 수 있으므로 UP 으로 봅니다.
+ */
+@Component("warmup")
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmupService cacheWarmupService;
+    private final WarmupProperties properties;
+
+    @Override
+    public Health health() {
+        WarmupStatusResponse status = cacheWarmupService.status();
+        Health.Builder builder = properties.isReadinessGate() && !cacheWarmupService.isFinished()
+                ? Health.outOfService()
+                : Health.up();
+        return builder
+                .withDetail("state", status.getState())
+                .withDetail("completed", status.getCompleted())
+                .withDetail("total", status.getTotal())
+                .withDetail("progress", status.getProgress())
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.codism.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 기동 후 캐시 예열 설정 (application.yml 의 warmup.*)
+ *
+ * <pre>
+ * warmup:
+ *   enabled: true
+ *   readiness-gate: true
+ *   threads: 2
+ *   ranges:
+ *     - from-year: 1960
+ *       to-year: 2010
+ * </pre>
+ *
+ * ranges 의 모든 날짜 x hours x genders 조합(양력, explain 없음)의 사주 원국을 미리 계산합니다.
+ * max-charts 가 그보다 작으면 ranges 전체에서 같은 간격으로 날짜를 골라(날짜마다 모든 시/성별) max-charts 건만 계산합니다.
+ * 예: 1960-2010 (18,628일), 시 23개 x 성별 2개, max-charts 5000 → 약 171일마다 하루씩 109일
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    private boolean enabled = false;
+
+    // 예열이 끝날 때까지 readiness 를 OUT_OF_SERVICE 로 보고 (maxCharts 로 예열량을 제한해 기동 시간을 묶어 둘 것)
+    private boolean readinessGate = false;
+
+    // 예열 스레드 수 (요청 처리 스레드와 CPU 를 나눠 쓰므로 작게 유지)
+    private int threads = 2;
+
+    // 예열할 출생 연도 범위 (앞에 적은 범위부터 계산)
+    private List<YearRange> ranges = new ArrayList<>();
+
+    // 출생 시 (0시는 SajuDetailService.parseHour 가 시간 미상으로 처리하므로 기본값에서 제외)
+    private List<Integer> hours = IntStream.rangeClosed(1, 23).boxed().toList();
+
+    // 성별 (대운 순행/역행이 달라 원국이 다름)
+    private List<String> genders = List.of("M", "F");
+
+    // 최대 계산 수 (없으면 범위 전체, 범위 전체보다 작으면 날짜를 고르게 추출, 로컬 캐시 용량을 넘는 만큼은 먼저 넣은 항목이 밀려남)
+    private Long maxCharts;
+
+    @Getter
+    @Setter
+    public static class YearRange {
+        private int fromYear;
+        private int toYear;
+    }
+}
@@ -0,0 +1,110 @@
+package com.codism.controller;
+
+import com.codism.config.TwoLevelCache;
+import com.codism.model.dto.response.CacheStatsResponse;
+import com.codism.model.dto.response.WarmupStatusResponse;
+import com.codism.service.CacheWarmupService;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 캐시 관리 API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/caches")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "adminAuth")
+@Tag(name = "캐시 관리 API", description = "캐시별 크기, 적중/실패/제거 통계 조회, 비우기, 예열 진행 상황")
+public class CacheAdminController {
+
+    private final CacheManager cacheManager;
+    private final CacheWarmupService cacheWarmupService;
+
+    /**
+     * 캐시 통계 조회
+     */
+    @GetMapping
+    @Operation(
+            summary = "캐시 통계 조회",
+            description = "캐시별 현재 크기, 최대 크기(또는 가중치), 적중/실패/제거 수를 조회합니다."
+    )
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        List<CacheStatsResponse> stats = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                stats.add(toResponse(name, caffeineCache));
+            }
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * 캐시 예열 진행 상황 조회
+     */
+    @GetMapping("/warmup")
+    @Operation(
+            summary = "캐시 예열 진행 상황",
+            description = "기동 후 사주 원국 캐시 예열의 상태, 진행률, 소요 시간을 조회합니다."
+    )
+    public ResponseEntity<WarmupStatusResponse> getWarmupStatus() {
+        return ResponseEntity.ok(cacheWarmupService.status());
+    }
+
+    /**
+     * 캐시 비우기
+     */
+    @DeleteMapping("/{name}")
+    @Operation(
+            summary = "캐시 비우기",
+            description = "지정한 캐시의 모든 항목을 제거합니다. 2단계 캐시는 Redis 와 다른 노드의 항목도 제거합니다. 통계는 유지됩니다."
+    )
+    public ResponseEntity<Void> clear(@PathVariable String name) {
+        Cache cache = cacheManager.getCacheNames().contains(name) ? cacheManager.getCache(name) : null;
+        if (cache == null) {
+            return ResponseEntity.notFound().build();
+        }
+        log.info("캐시 비우기 요청 - {}", name);
+        cache.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    private CacheStatsResponse toResponse(String name, CaffeineCache caffeineCache) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = caffeineCache.getNativeCache();
+        TwoLevelCache twoLevel = caffeineCache instanceof TwoLevelCache t ? t : null;
+        CacheStats stats = cache.stats();
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.policy().eviction();
+        boolean weighted = eviction.map(Policy.Eviction::isWeighted).orElse(false);
+        return new CacheStatsResponse(
+                name,
+                cache.estimatedSize(),
+                eviction.map(Policy.Eviction::getMaximum).orElse(null),
+                weighted,
+                weighted ? eviction.get().weightedSize().orElse(0L) : null,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.evictionWeight(),
+                twoLevel != null,
+                twoLevel != null ? twoLevel.isRemoteAvailable() : null,
+                twoLevel != null ? twoLevel.remoteHitCount() : null,
+                twoLevel != null ? twoLevel.remoteMissCount() : null
+        );
+    }
+}
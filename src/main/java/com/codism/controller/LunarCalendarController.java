@@ -1,5 +1,6 @@
 package com.codism.controller;
 
+import com.codism.config.ConditionalResponses;
 import com.codism.model.dto.response.StemBranchInfo;
 import com.codism.service.StemBranchCalculator;
 import io.swagger.v3.oas.annotations.Operation;
@@ -8,8 +9,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -21,15 +24,18 @@ import org.springframework.web.bind.annotation.RestController;
 public class LunarCalendarController {
 
     private final StemBranchCalculator stemBranchCalculator;
+    private final ConditionalResponses conditionalResponses;
 
     @Operation(
             summary = "천간지지 계산",
             description = "생년월일을 기준으로 천간지지를 계산합니다. " +
                     "시간이 제공되면 완전한 사주팔자(년월일시)를, " +
-                    "시간이 없으면 년월일만 계산합니다."
+                    "시간이 없으면 년월일만 계산합니다. " +
+                    "결과는 입력만으로 정해지므로 ETag 와 긴 Cache-Control 을 붙이고, If-None-Match 가 일치하면 304 를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 일치 (변경 없음)"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
@@ -42,12 +48,20 @@ public class LunarCalendarController {
             @RequestParam boolean isSolarCalendar,
 
             @Parameter(description = "출생시간 (HH:mm 또는 HH 형식, 선택사항. 제공하면 사주팔자 완성)", example = "14:30")
-            @RequestParam(required = false) String birthTime
-    ) throws Exception {
+            @RequestParam(required = false) String birthTime,
+
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
 
         log.info("천간지지 계산 요청 - birthDate: {}, birthTime: {}, isSolarCalendar: {}",
                 birthDate, birthTime, isSolarCalendar);
 
+        return conditionalResponses.calendar(ifNoneMatch,
+                () -> ResponseEntity.ok(calculate(birthDate, isSolarCalendar, birthTime)),
+                "stem-branch", birthDate, isSolarCalendar, birthTime);
+    }
+
+    private StemBranchInfo calculate(String birthDate, boolean isSolarCalendar, String birthTime) {
         StemBranchInfo result;
 
         // 시간이 제공되었는지 확인
@@ -61,6 +75,6 @@ public class LunarCalendarController {
 
         log.info("천간지지 계산 결과: {}", result.toString());
 
-        return ResponseEntity.ok(result);
+        return result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.codism.controller;
+
+import com.codism.model.dto.response.RuleSetResponse;
+import com.codism.model.dto.response.SinsalRuleMetricsResponse;
+import com.codism.service.RuleSet;
+import com.codism.service.RuleSetService;
+import com.codism.service.SinsalRuleMetrics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 규칙 관리 API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/rules")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "adminAuth")
+@Tag(name = "규칙 관리 API", description = "신살/십성 규칙 및 기준 정보 스냅샷 조회, 다시 읽기 및 평가 통계")
+public class RuleAdminController {
+
+    private final RuleSetService ruleSetService;
+    private final SinsalRuleMetrics sinsalRuleMetrics;
+
+    /**
+     * 현재 규칙 스냅샷 정보 조회
+     */
+    @GetMapping
+    @Operation(
+            summary = "현재 규칙 스냅샷 조회",
+            description = "현재 사용 중인 규칙 버전과 스냅샷 정보를 조회합니다."
+    )
+    public ResponseEntity<RuleSetResponse> getRuleSet() {
+        return ResponseEntity.ok(toResponse(ruleSetService.current()));
+    }
+
+    /**
+     * 규칙 다시 읽기
+     */
+    @PostMapping("/reload")
+    @Operation(
+            summary = "규칙 다시 읽기",
+            description = "DB 의 신살/십성 규칙과 천간/지지/육십갑자/십성 마스터를 다시 읽어 새 버전의 스냅샷으로 교체합니다. 처리 중인 요청은 이전 스냅샷으로 계속 계산됩니다."
+    )
+    public ResponseEntity<RuleSetResponse> reload() {
+        log.info("규칙 다시 읽기 요청");
+        return ResponseEntity.ok(toResponse(ruleSetService.reload()));
+    }
+
+    /**
+     * 신살 규칙 평가 통계 조회
+     */
+    @GetMapping("/metrics")
+    @Operation(
+            summary = "신살 규칙 평가 통계 조회",
+            description = "규칙 ID/규칙 타입별 평가 횟수, 매칭 횟수, 누적 소요 시간을 조회합니다. "
+                    + "사전 계산 테이블 생성 시의 평가도 포함되므로 매칭 횟수가 0인 규칙은 어떤 사주에서도 성립하지 않습니다."
+    )
+    public ResponseEntity<SinsalRuleMetricsResponse> getMetrics() {
+        List<SinsalRuleMetricsResponse.RuleMetric> byType = sinsalRuleMetrics.byType().values().stream()
+                .map(counter -> toMetric(null, counter))
+                .toList();
+        List<SinsalRuleMetricsResponse.RuleMetric> byRule = sinsalRuleMetrics.byRule().entrySet().stream()
+                .map(entry -> toMetric(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(SinsalRuleMetricsResponse.RuleMetric::getEvaluations).reversed())
+                .toList();
+
+        return ResponseEntity.ok(SinsalRuleMetricsResponse.builder()
+                .ruleVersion(ruleSetService.version())
+                .tableLookups(sinsalRuleMetrics.tableLookups())
+                .directEvaluations(sinsalRuleMetrics.directEvaluations())
+                .byType(byType)
+                .byRule(byRule)
+                .build());
+    }
+
+    private SinsalRuleMetricsResponse.RuleMetric toMetric(Long ruleId, SinsalRuleMetrics.Counter counter) {
+        return SinsalRuleMetricsResponse.RuleMetric.builder()
+                .ruleId(ruleId)
+                .sinsalName(counter.sinsalName())
+                .ruleType(counter.ruleType())
+                .evaluations(counter.evaluations())
+                .matches(counter.matches())
+                .totalNanos(counter.estimatedNanos())
+                .averageNanos(counter.averageNanos())
+                .build();
+    }
+
+    private RuleSetResponse toResponse(RuleSet ruleSet) {
+        return RuleSetResponse.builder()
+                .version(ruleSet.version())
+                .loadedAt(ruleSet.loadedAt())
+                .sinsalCount(ruleSet.sinsal().program().sinsalCount())
+                .sinsalRuleCount(ruleSet.sinsal().program().ruleCount())
+                .precomputed(ruleSet.sinsal().table() != null)
+                .masterDataRowCount(ruleSet.masterData().rowCount())
+                .lastUpdatedAt(ruleSet.watermark().lastUpdatedAt())
+                .rowCount(ruleSet.watermark().rowCount())
+                .build();
+    }
+}
@@ -1,19 +1,31 @@
 package com.codism.controller;
 
+import com.codism.model.dto.request.CompatibilityRankRequest;
+import com.codism.model.dto.response.CompatibilityRankResponse;
+import com.codism.model.dto.response.CompatibilityResponse;
 import com.codism.model.dto.response.IljuAnimalResponse;
 import com.codism.model.dto.response.SajuDetailResponse;
 import com.codism.model.dto.response.SimpleSajuResponse;
+import com.codism.model.dto.response.UnseTimelineItem;
+import com.codism.service.CompatibilityService;
 import com.codism.service.SajuDetailService;
+import com.codism.service.UnseTimelineService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 /**
  * 사주 상세 정보 조회 API 컨트롤러
@@ -25,7 +37,13 @@ import java.time.LocalDate;
 @Tag(name = "사주 상세 API", description = "사주 팔자, 십성, 신살 정보 조회")
 public class SajuDetailController {
 
+    // 줄 단위 JSON (항목마다 한 줄)
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final SajuDetailService sajuDetailService;
+    private final UnseTimelineService unseTimelineService;
+    private final CompatibilityService compatibilityService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 사주 상세 정보 조회
@@ -34,6 +52,8 @@ public class SajuDetailController {
      * @param birthTime 출생 시간 (HH:mm, 선택 사항)
      * @param gender 성별 (M: 남성, F: 여성)
      * @param isSolarCalendar 양력 여부 (기본값: true)
+     * @param explain 신살별 매칭 규칙 포함 여부 (기본값: false)
+     * @param asOf 나이/대운/세운/월운 기준일 (기본값: 오늘)
      * @return 사주 상세 정보
      */
     @GetMapping("/detail")
@@ -57,13 +77,22 @@ public class SajuDetailController {
 
             @Parameter(description = "양력 여부", example = "true")
             @RequestParam(required = false, defaultValue = "true")
-            boolean isSolarCalendar
+            boolean isSolarCalendar,
+
+            @Parameter(description = "신살별 매칭 규칙 포함 여부", example = "false")
+            @RequestParam(required = false, defaultValue = "false")
+            boolean explain,
+
+            @Parameter(description = "나이/대운/세운/월운 기준일 (YYYY-MM-DD, 기본값: 오늘)", example = "2025-01-01")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate asOf
     ) {
-        log.info("사주 상세 조회 요청 - birthDate: {}, birthTime: {}, gender: {}, isSolar: {}",
-                birthDate, birthTime, gender, isSolarCalendar);
+        log.info("사주 상세 조회 요청 - birthDate: {}, birthTime: {}, gender: {}, isSolar: {}, explain: {}, asOf: {}",
+                birthDate, birthTime, gender, isSolarCalendar, explain, asOf);
 
         SajuDetailResponse response = sajuDetailService.getSajuDetail(
-                birthDate, birthTime, gender, isSolarCalendar
+                birthDate, birthTime, gender, isSolarCalendar, explain, asOf
         );
 
         return ResponseEntity.ok(response);
@@ -74,6 +103,8 @@ public class SajuDetailController {
      *
      * @param birthDate 생년월일 (YYYY-MM-DD)
      * @param gender 성별 (M: 남성, F: 여성)
+     * @param explain 신살별 매칭 규칙 포함 여부 (기본값: false)
+     * @param asOf 나이/대운/세운/월운 기준일 (기본값: 오늘)
      * @return 사주 상세 정보
      */
     @GetMapping("/simple")
@@ -89,17 +120,115 @@ public class SajuDetailController {
 
             @Parameter(description = "성별 (M: 남성, F: 여성)", example = "M")
             @RequestParam(required = false, defaultValue = "M")
-            String gender
+            String gender,
+
+            @Parameter(description = "신살별 매칭 규칙 포함 여부", example = "false")
+            @RequestParam(required = false, defaultValue = "false")
+            boolean explain,
+
+            @Parameter(description = "나이/대운/세운/월운 기준일 (YYYY-MM-DD, 기본값: 오늘)", example = "2025-01-01")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate asOf
     ) {
-        log.info("간단 사주 조회 요청 - birthDate: {}, gender: {}", birthDate, gender);
+        log.info("간단 사주 조회 요청 - birthDate: {}, gender: {}, explain: {}, asOf: {}", birthDate, gender, explain, asOf);
 
         SajuDetailResponse response = sajuDetailService.getSajuDetail(
-                birthDate, "00:00", gender, true
+                birthDate, "00:00", gender, true, explain, asOf
         );
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 세운 타임라인 조회 (년도별 세운, 줄 단위 JSON 스트리밍)
+     *
+     * @param birthDate 생년월일 (YYYY-MM-DD)
+     * @param isSolarCalendar 양력 여부 (기본값: true)
+     * @param fromYear 시작 년도
+     * @param toYear 끝 년도 (포함)
+     * @return 세운 항목 스트림 (application/x-ndjson)
+     */
+    @GetMapping(value = "/timeline/seun", produces = "application/x-ndjson")
+    @Operation(
+            summary = "세운 타임라인 조회",
+            description = "기간 내 년도별 세운과 일간 기준 십성을 조회합니다. 항목은 계산되는 대로 한 줄씩(JSON) 전송됩니다. 최대 "
+                    + UnseTimelineService.MAX_SEUN_YEARS + "년."
+    )
+    public ResponseEntity<StreamingResponseBody> getSeunTimeline(
+            @Parameter(description = "생년월일 (YYYY-MM-DD)", example = "1996-12-01", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate birthDate,
+
+            @Parameter(description = "양력 여부", example = "true")
+            @RequestParam(required = false, defaultValue = "true")
+            boolean isSolarCalendar,
+
+            @Parameter(description = "시작 년도", example = "2020", required = true)
+            @RequestParam
+            int fromYear,
+
+            @Parameter(description = "끝 년도 (포함)", example = "2030", required = true)
+            @RequestParam
+            int toYear
+    ) {
+        log.info("세운 타임라인 조회 요청 - birthDate: {}, isSolar: {}, fromYear: {}, toYear: {}",
+                birthDate, isSolarCalendar, fromYear, toYear);
+
+        return streamOf(unseTimelineService.streamSeun(birthDate, isSolarCalendar, fromYear, toYear));
+    }
+
+    /**
+     * 월운 타임라인 조회 (해당 년도 인월 ~ 축월, 줄 단위 JSON 스트리밍)
+     *
+     * @param birthDate 생년월일 (YYYY-MM-DD)
+     * @param isSolarCalendar 양력 여부 (기본값: true)
+     * @param year 사주 기준 년도 (입춘 ~ 다음 해 입춘 전)
+     * @return 월운 항목 스트림 (application/x-ndjson)
+     */
+    @GetMapping(value = "/timeline/wolun", produces = "application/x-ndjson")
+    @Operation(
+            summary = "월운 타임라인 조회",
+            description = "해당 년도 입춘(인월)부터 다음 해 소한(축월)까지 12개월의 월운과 일간 기준 십성을 조회합니다. 항목은 계산되는 대로 한 줄씩(JSON) 전송됩니다."
+    )
+    public ResponseEntity<StreamingResponseBody> getWolunTimeline(
+            @Parameter(description = "생년월일 (YYYY-MM-DD)", example = "1996-12-01", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate birthDate,
+
+            @Parameter(description = "양력 여부", example = "true")
+            @RequestParam(required = false, defaultValue = "true")
+            boolean isSolarCalendar,
+
+            @Parameter(description = "사주 기준 년도", example = "2025", required = true)
+            @RequestParam
+            int year
+    ) {
+        log.info("월운 타임라인 조회 요청 - birthDate: {}, isSolar: {}, year: {}", birthDate, isSolarCalendar, year);
+
+        return streamOf(unseTimelineService.streamWolun(birthDate, isSolarCalendar, year));
+    }
+
+    /**
+     * 항목을 한 줄씩 계산해 쓰고 바로 내보냄 (전체 목록을 메모리에 모으지 않음)
+     * 입력 검증은 Stream 생성 시점에 끝나므로 잘못된 요청은 스트리밍 전에 400 으로 응답
+     */
+    private ResponseEntity<StreamingResponseBody> streamOf(Stream<UnseTimelineItem> items) {
+        StreamingResponseBody body = (OutputStream out) -> {
+            try (items) {
+                Iterator<UnseTimelineItem> iterator = items.iterator();
+                while (iterator.hasNext()) {
+                    out.write(objectMapper.writeValueAsBytes(iterator.next()));
+                    out.write('\n');
+                    out.flush();
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
     /**
      * 일주 동물 조회
      *
@@ -175,31 +304,69 @@ public class SajuDetailController {
     }
 
     /**
-     * 사주 궁합 조회 (추후 구현)
+     * 사주 궁합 조회
      *
      * @param birthDate1 첫 번째 생년월일
+     * @param birthTime1 첫 번째 출생 시간 (HH:mm, 선택 사항)
      * @param birthDate2 두 번째 생년월일
+     * @param birthTime2 두 번째 출생 시간 (HH:mm, 선택 사항)
      * @return 궁합 정보
      */
     @GetMapping("/compatibility")
     @Operation(
-            summary = "사주 궁합 조회 (추후 구현)",
-            description = "두 사람의 사주 궁합을 조회합니다."
+            summary = "사주 궁합 조회",
+            description = "두 사람의 일주 궁합(천간합/상생상극, 육합/삼합/충/형/파/해/원진/귀문), 오행 보완, 띠 궁합을 점수로 계산합니다."
     )
-    public ResponseEntity<String> getSajuCompatibility(
+    public ResponseEntity<CompatibilityResponse> getSajuCompatibility(
             @Parameter(description = "첫 번째 생년월일", example = "1996-12-01")
             @RequestParam
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
             LocalDate birthDate1,
 
+            @Parameter(description = "첫 번째 출생 시간 (HH:mm)", example = "07:00")
+            @RequestParam(required = false)
+            String birthTime1,
+
             @Parameter(description = "두 번째 생년월일", example = "1997-05-15")
             @RequestParam
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-            LocalDate birthDate2
+            LocalDate birthDate2,
+
+            @Parameter(description = "두 번째 출생 시간 (HH:mm)", example = "13:30")
+            @RequestParam(required = false)
+            String birthTime2
+    ) {
+        log.info("궁합 조회 요청 - birthDate1: {}, birthTime1: {}, birthDate2: {}, birthTime2: {}",
+                birthDate1, birthTime1, birthDate2, birthTime2);
+
+        CompatibilityResponse response = compatibilityService.getCompatibility(
+                birthDate1, birthTime1, birthDate2, birthTime2
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 궁합 순위 조회 (한 명 대 여러 후보)
+     *
+     * @param request 기준 사주, 후보 목록, topK
+     * @return 궁합 총점 상위 후보
+     */
+    @PostMapping("/compatibility/rank")
+    @Operation(
+            summary = "궁합 순위 조회",
+            description = "기준 사주 한 명과 후보 목록(최대 " + CompatibilityService.MAX_CANDIDATES
+                    + "명)의 궁합 총점을 병렬로 계산해 상위 topK(최대 " + CompatibilityService.MAX_TOP_K
+                    + "명)를 반환합니다. 생년월일이 잘못된 후보는 제외됩니다."
+    )
+    public ResponseEntity<CompatibilityRankResponse> rankCompatibility(
+            @RequestBody CompatibilityRankRequest request
     ) {
-        log.info("궁합 조회 요청 - birthDate1: {}, birthDate2: {}", birthDate1, birthDate2);
+        log.info("궁합 순위 조회 요청 - 후보: {}, topK: {}",
+                request.getCandidates() != null ? request.getCandidates().size() : 0, request.getTopK());
 
-        // TODO: 궁합 계산 로직 구현
-        return ResponseEntity.ok("궁합 조회 기능은 추후 구현 예정입니다.");
+        CompatibilityRankResponse response = compatibilityService.rank(request);
+
+        return ResponseEntity.ok(response);
     }
 }
@@ -1,15 +1,16 @@
 package com.codism.controller;
 
+import com.codism.config.ConditionalResponses;
 import com.codism.model.entity.SinsalMaster;
 import com.codism.model.entity.SipsungMaster;
 import com.codism.model.enums.SinsalType;
-import com.codism.repository.SinsalMasterRepository;
-import com.codism.repository.SipsungMasterRepository;
+import com.codism.service.MasterDataSnapshot;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,6 +18,8 @@ import java.util.List;
 
 /**
  * 사주 정보(십성, 신살) 상세 조회 API
+ * 기준 정보는 규칙 스냅샷을 다시 읽을 때만 바뀌므로 ETag/Cache-Control 을 붙이고 If-None-Match 가 일치하면 304 를 반환합니다.
+ * 응답 본문도 ETag 를 계산한 규칙 스냅샷의 기준 정보(MasterDataSnapshot)에서 읽습니다.
  */
 @Slf4j
 @RestController
@@ -25,8 +28,7 @@ import java.util.List;
 @Tag(name = "사주 정보 API", description = "십성, 신살 상세 정보 조회")
 public class SajuInfoController {
 
-    private final SipsungMasterRepository sipsungMasterRepository;
-    private final SinsalMasterRepository sinsalMasterRepository;
+    private final ConditionalResponses conditionalResponses;
 
     /**
      * 십성 상세 정보 조회
@@ -38,13 +40,14 @@ public class SajuInfoController {
     )
     public ResponseEntity<SipsungMaster> getSipsungDetail(
             @Parameter(description = "십성 이름", example = "비견")
-            @PathVariable String name
+            @PathVariable String name,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         log.info("십성 상세 조회 - name: {}", name);
 
-        return sipsungMasterRepository.findBySipsungName(name)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        return conditionalResponses.masterData(ifNoneMatch,
+                ruleSet -> okOrNotFound(ruleSet.masterData().sipsung(name)),
+                "saju-info/sipsung", name);
     }
 
     /**
@@ -55,9 +58,13 @@ public class SajuInfoController {
             summary = "모든 십성 목록 조회",
             description = "10가지 십성의 전체 목록과 설명을 조회합니다."
     )
-    public ResponseEntity<List<SipsungMaster>> getAllSipsung() {
+    public ResponseEntity<List<SipsungMaster>> getAllSipsung(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         log.info("전체 십성 목록 조회");
-        return ResponseEntity.ok(sipsungMasterRepository.findAll());
+        return conditionalResponses.masterData(ifNoneMatch,
+                ruleSet -> ResponseEntity.ok(ruleSet.masterData().sipsungs()),
+                "saju-info/sipsung");
     }
 
     /**
@@ -70,13 +77,14 @@ public class SajuInfoController {
     )
     public ResponseEntity<SinsalMaster> getSinsalDetail(
             @Parameter(description = "신살 이름", example = "천을귀인")
-            @PathVariable String name
+            @PathVariable String name,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         log.info("신살 상세 조회 - name: {}", name);
 
-        return sinsalMasterRepository.findBySinsalName(name)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        return conditionalResponses.masterData(ifNoneMatch,
+                ruleSet -> okOrNotFound(ruleSet.masterData().sinsal(name)),
+                "saju-info/sinsal", name);
     }
 
     /**
@@ -89,23 +97,33 @@ public class SajuInfoController {
     )
     public ResponseEntity<List<SinsalMaster>> getAllSinsal(
             @Parameter(description = "신살 유형 필터 (길신/흉신)", example = "길신")
-            @RequestParam(required = false) String type
+            @RequestParam(required = false) String type,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         log.info("전체 신살 목록 조회 - type: {}", type);
 
+        return conditionalResponses.masterData(ifNoneMatch,
+                ruleSet -> findSinsal(ruleSet.masterData(), type), "saju-info/sinsal-list", type);
+    }
+
+    private ResponseEntity<List<SinsalMaster>> findSinsal(MasterDataSnapshot masterData, String type) {
         List<SinsalMaster> sinsalList;
         if (type != null && !type.isEmpty()) {
             try {
                 SinsalType sinsalType = SinsalType.fromKorean(type);
-                sinsalList = sinsalMasterRepository.findBySinsalType(sinsalType);
+                sinsalList = masterData.sinsals(sinsalType);
             } catch (IllegalArgumentException e) {
                 log.warn("Invalid sinsal type: {}", type);
                 return ResponseEntity.badRequest().build();
             }
         } else {
-            sinsalList = sinsalMasterRepository.findByIsActiveTrueOrderByPriorityDesc();
+            sinsalList = masterData.activeSinsals();
         }
 
         return ResponseEntity.ok(sinsalList);
     }
+
+    private static <T> ResponseEntity<T> okOrNotFound(T body) {
+        return body != null ? ResponseEntity.ok(body) : ResponseEntity.notFound().build();
+    }
 }
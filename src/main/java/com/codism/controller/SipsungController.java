@@ -1,9 +1,11 @@
 package com.codism.controller;
 
+import com.codism.config.ConditionalResponses;
 import com.codism.model.dto.response.SipsungDetailResponse;
 import com.codism.service.SipsungDetailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -11,6 +13,8 @@ import java.util.List;
 
 /**
  * 십성 정보 조회 API
+ * 기준 정보 응답이므로 ETag/Cache-Control 을 붙이고 If-None-Match 가 일치하면 304 를 반환합니다.
+ * 응답 본문은 ETag 를 계산한 규칙 스냅샷의 기준 정보로 만듭니다.
  */
 @Slf4j
 @RestController
@@ -19,6 +23,7 @@ import java.util.List;
 public class SipsungController {
 
     private final SipsungDetailService sipsungDetailService;
+    private final ConditionalResponses conditionalResponses;
 
     /**
      * 십성 상세 정보 조회
@@ -28,12 +33,14 @@ public class SipsungController {
      */
     @GetMapping("/{sipsungName}")
     public ResponseEntity<SipsungDetailResponse> getSipsungDetail(
-            @PathVariable String sipsungName) {
+            @PathVariable String sipsungName,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         log.info("십성 상세 조회 요청 - sipsungName: {}", sipsungName);
 
-        SipsungDetailResponse response = sipsungDetailService.getSipsungDetail(sipsungName);
-        return ResponseEntity.ok(response);
+        return conditionalResponses.masterData(ifNoneMatch,
+                ruleSet -> ResponseEntity.ok(sipsungDetailService.getSipsungDetail(ruleSet.masterData(), sipsungName)),
+                "sipsung", sipsungName);
     }
 
     /**
@@ -42,10 +49,12 @@ public class SipsungController {
      * @return 십성 목록
      */
     @GetMapping
-    public ResponseEntity<List<SipsungDetailResponse>> getAllSipsung() {
+    public ResponseEntity<List<SipsungDetailResponse>> getAllSipsung(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("전체 십성 목록 조회 요청");
 
-        List<SipsungDetailResponse> response = sipsungDetailService.getAllSipsung();
-        return ResponseEntity.ok(response);
+        return conditionalResponses.masterData(ifNoneMatch,
+                ruleSet -> ResponseEntity.ok(sipsungDetailService.getAllSipsung(ruleSet.masterData())),
+                "sipsung");
     }
 }
@@ -0,0 +1,45 @@
+package com.codism.model.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 궁합 순위 요청 DTO
+ * 기준 사주 한 명과 후보 목록을 받아 궁합 점수 상위 topK 명을 계산
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompatibilityRankRequest {
+
+    private BirthInfo subject;          // 기준 사주
+    private List<Candidate> candidates; // 후보 목록
+    private Integer topK;               // 반환할 상위 인원 (기본값: 10)
+
+    /**
+     * 출생 정보
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BirthInfo {
+        private LocalDate birthDate;    // 생년월일 (양력)
+        private String birthTime;       // 출생 시간 (HH:mm, 선택 사항)
+    }
+
+    /**
+     * 후보 (호출 측 식별자 포함)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Candidate {
+        private String id;              // 후보 식별자 (응답에 그대로 반환)
+        private LocalDate birthDate;    // 생년월일 (양력)
+        private String birthTime;       // 출생 시간 (HH:mm, 선택 사항)
+    }
+}
@@ -0,0 +1,30 @@
+package com.codism.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 통계 응답 DTO
+ * 통계를 기록하지 않는 캐시는 적중/실패/제거 수가 0
+ * 적중/실패 수는 로컬(L1) 기준이며, 2단계 캐시는 L1 실패 중 Redis 적중/실패 수를 따로 표시
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private String name;                // 캐시 이름
+    private long estimatedSize;         // 현재 항목 수 (근사값)
+    private Long maximum;               // 최대 항목 수 또는 최대 가중치 (제한 없으면 null)
+    private boolean weighted;           // 가중치 기준 제한 여부
+    private Long weightedSize;          // 현재 가중치 합 (가중치 기준일 때만)
+    private long hitCount;              // 적중 수
+    private long missCount;             // 실패 수
+    private double hitRate;             // 적중률 (0-1)
+    private long evictionCount;         // 크기 초과/만료로 제거된 수
+    private long evictionWeight;        // 제거된 가중치 합
+    private boolean remote;             // Redis 2단계 캐시 여부
+    private Boolean remoteAvailable;    // Redis 사용 가능 여부 (2단계 캐시일 때만)
+    private Long remoteHitCount;        // Redis 적중 수 (2단계 캐시일 때만)
+    private Long remoteMissCount;       // Redis 실패 수 (2단계 캐시일 때만)
+}
@@ -0,0 +1,38 @@
+package com.codism.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 궁합 순위 응답 DTO
+ * 후보 전체 중 총점 상위 topK 명 (점수가 같으면 요청 순서)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompatibilityRankResponse {
+
+    private String subjectDayPillar;    // 기준 사주 일주
+    private int candidateCount;         // 요청 후보 수
+    private int skippedCount;           // 생년월일 오류로 제외된 후보 수
+    private List<RankedCandidate> ranking;
+
+    /**
+     * 순위 항목
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RankedCandidate {
+        private int rank;               // 순위 (1부터)
+        private String id;              // 후보 식별자
+        private LocalDate birthDate;    // 생년월일
+        private String dayPillar;       // 일주
+        private int totalScore;         // 총점 (0-100)
+        private String grade;           // 등급
+    }
+}
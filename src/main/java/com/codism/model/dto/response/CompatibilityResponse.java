@@ -0,0 +1,49 @@
+package com.codism.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사주 궁합 응답 DTO
+ * 일주 궁합, 띠(년지) 궁합, 오행 보완을 각각 점수로 계산하고 가중 합산한 총점을 포함
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompatibilityResponse {
+
+    // 두 사람
+    private Person person1;
+    private Person person2;
+
+    // 점수 (0-100)
+    private int totalScore;         // 총점 (일주 60%, 오행 25%, 띠 15%)
+    private String grade;           // 등급 (천생연분, 좋은 궁합...)
+    private int dayPillarScore;     // 일주 궁합
+    private int ohangScore;         // 오행 보완
+    private int yearBranchScore;    // 띠 궁합
+
+    // 관계 (천간합, 육합, 충, 원진, 귀문, 오행 보완...)
+    private List<String> dayPillarRelations;
+    private List<String> yearBranchRelations;
+    private List<String> ohangRelations;
+
+    /**
+     * 궁합 대상 요약
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Person {
+        private LocalDate birthDate;            // 생년월일
+        private String birthTime;               // 출생 시간
+        private String dayPillar;               // 일주 (갑자, 을축...)
+        private String yearBranch;              // 띠 (년지: 자, 축...)
+        private Map<String, Integer> ohangCount; // 오행 개수 (목, 화, 토, 금, 수)
+    }
+}
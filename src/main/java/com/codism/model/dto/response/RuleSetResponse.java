@@ -0,0 +1,44 @@
+package com.codism.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 규칙 스냅샷 정보 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "규칙 스냅샷 정보")
+public class RuleSetResponse {
+
+    @Schema(description = "규칙 버전", example = "2")
+    private long version;
+
+    @Schema(description = "스냅샷 생성 시각")
+    private LocalDateTime loadedAt;
+
+    @Schema(description = "규칙이 있는 활성 신살 수", example = "32")
+    private int sinsalCount;
+
+    @Schema(description = "신살 규칙 수", example = "60")
+    private int sinsalRuleCount;
+
+    @Schema(description = "신살 사전 계산 사용 여부", example = "true")
+    private boolean precomputed;
+
+    @Schema(description = "기준 정보 스냅샷의 천간/지지/육십갑자/십성 마스터 행 수", example = "92")
+    private int masterDataRowCount;
+
+    @Schema(description = "규칙/마스터 테이블의 가장 최근 수정 일시")
+    private LocalDateTime lastUpdatedAt;
+
+    @Schema(description = "규칙/마스터 테이블의 전체 행 수", example = "120")
+    private long rowCount;
+}
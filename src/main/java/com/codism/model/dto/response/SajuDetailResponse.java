@@ -1,7 +1,10 @@
 package com.codism.model.dto.response;
 
 import com.codism.model.entity.SinsalMaster;
+import com.codism.model.entity.SinsalRule;
+import com.codism.model.enums.SinsalRuleType;
 import com.codism.model.enums.SinsalType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -34,6 +37,7 @@ public class SajuDetailResponse {
     private SajuPillar daeun;   // 현재 대운
     private SajuPillar seun;    // 현재 세운
     private SajuPillar wolun;   // 현재 월운
+    private DaeunStart daeunStart; // 대운수 (첫 대운 시작 나이)
 
     // 대운 타임라인 (전체 대운 목록)
     private List<DaeunInfo> daeunList;
@@ -64,6 +68,19 @@ public class SajuDetailResponse {
         private Integer year;           // 년도 (세운용, 예: 2025)
     }
 
+    /**
+     * 대운수 (출생 시각과 절입 시각 사이 거리, 3일 = 1년)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DaeunStart {
+        private int years;          // 년
+        private int months;         // 개월
+        private int days;           // 일
+        private boolean forward;    // 순행 여부 (역행이면 false)
+    }
+
     /**
      * 신살 정보 (간략 버전 - 클릭 시 별도 API로 상세 조회)
      */
@@ -75,6 +92,9 @@ public class SajuDetailResponse {
         private SinsalType sinsalType;      // 길신/흉신 (Enum)
         private String icon;                // 아이콘 (☀️, ⚠️...)
 
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private MatchedRule matchedRule;    // 매칭된 규칙 (explain=true 일 때만)
+
         /**
          * Entity로부터 DTO 생성
          */
@@ -83,6 +103,36 @@ public class SajuDetailResponse {
             this.sinsalType = sinsal.getSinsalType();
             this.icon = sinsal.getIcon();
         }
+
+        /**
+         * 매칭된 규칙을 붙인 사본
+         */
+        public SinsalInfo withMatchedRule(MatchedRule matchedRule) {
+            return new SinsalInfo(sinsalName, sinsalType, icon, matchedRule);
+        }
+    }
+
+    /**
+     * 신살을 성립시킨 규칙 (explain 모드)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MatchedRule {
+        private Long ruleId;                // 규칙 ID
+        private SinsalRuleType ruleType;    // 규칙 타입
+        private String matchPosition;       // 매칭 위치 (year, month, day, hour, any)
+        private String description;         // 규칙 설명
+
+        /**
+         * Entity로부터 DTO 생성
+         */
+        public MatchedRule(SinsalRule rule) {
+            this.ruleId = rule.getRuleId();
+            this.ruleType = rule.getRuleType();
+            this.matchPosition = rule.getMatchPosition();
+            this.description = rule.getDescription();
+        }
     }
 
     /**
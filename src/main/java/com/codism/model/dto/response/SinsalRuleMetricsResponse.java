@@ -0,0 +1,69 @@
+package com.codism.model.dto.response;
+
+import com.codism.model.enums.SinsalRuleType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 신살 규칙 평가 통계 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "신살 규칙 평가 통계")
+public class SinsalRuleMetricsResponse {
+
+    @Schema(description = "현재 규칙 버전", example = "1")
+    private long ruleVersion;
+
+    @Schema(description = "사전 계산 테이블 조회 횟수", example = "10432")
+    private long tableLookups;
+
+    @Schema(description = "규칙을 직접 평가한 요청 수 (explain, 테이블 밖 조합)", example = "12")
+    private long directEvaluations;
+
+    @Schema(description = "규칙 타입별 통계")
+    private List<RuleMetric> byType;
+
+    @Schema(description = "규칙 ID 별 통계 (평가 횟수 순)")
+    private List<RuleMetric> byRule;
+
+    /**
+     * 규칙(또는 규칙 타입) 하나의 통계
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RuleMetric {
+
+        @Schema(description = "규칙 ID (타입별 통계에서는 없음)", example = "3")
+        private Long ruleId;
+
+        @Schema(description = "신살 이름 (타입별 통계에서는 없음)", example = "천을귀인")
+        private String sinsalName;
+
+        @Schema(description = "규칙 타입", example = "ILGAN_JIJI")
+        private SinsalRuleType ruleType;
+
+        @Schema(description = "평가 횟수", example = "561600")
+        private long evaluations;
+
+        @Schema(description = "매칭 횟수 (0이면 한 번도 성립하지 않은 규칙)", example = "93600")
+        private long matches;
+
+        @Schema(description = "누적 소요 시간 추정값 (ns, 평균 x 평가 횟수)", example = "8123456")
+        private long totalNanos;
+
+        @Schema(description = "평가 1회 평균 소요 시간 (ns, 64회 중 1회 표본 측정)", example = "14.5")
+        private double averageNanos;
+    }
+}
@@ -0,0 +1,25 @@
+package com.codism.model.dto.response;
+
+import com.codism.model.dto.response.SajuDetailResponse.SajuPillar;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세운/월운 타임라인 항목 응답 DTO
+ * 타임라인 API 는 항목 하나를 한 줄(JSON)씩 스트리밍으로 내려줌
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UnseTimelineItem {
+    private int year;                   // 년도 (월운이면 사주 기준 년도)
+    private Integer month;              // 사주 월 (1=인월 ~ 12=축월), 세운이면 null
+    private String termName;            // 시작 절기 이름 (입춘, 경칩...)
+    private LocalDateTime startsAt;     // 시작 절입 시각 (KST)
+    private SajuPillar pillar;          // 세운/월운 간지 (일간 기준 십성 포함)
+}
@@ -0,0 +1,25 @@
+package com.codism.model.dto.response;
+
+import com.codism.model.enums.WarmupState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 예열 진행 상황 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarmupStatusResponse {
+    private WarmupState state;          // 상태
+    private long total;                 // 계산할 원국 수
+    private long completed;             // 계산한 원국 수
+    private long failed;                // 계산 실패 수
+    private double progress;            // 진행률 (0-1)
+    private LocalDateTime startedAt;    // 시작 시각 (시작 전이면 null)
+    private LocalDateTime finishedAt;   // 종료 시각 (진행 중이면 null)
+    private long elapsedMillis;         // 소요 시간 (ms)
+}
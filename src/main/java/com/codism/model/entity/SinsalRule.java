@@ -6,6 +6,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
 
 /**
  * 신살 계산 규칙 엔티티
@@ -57,6 +61,16 @@ public class SinsalRule {
     @Comment("규칙 설명")
     private String description;
 
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    @Comment("생성 일시")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    @Comment("수정 일시 (규칙 변경 감지용)")
+    private LocalDateTime updatedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sinsal_id", insertable = false, updatable = false)
     private SinsalMaster sinsalMaster;
@@ -5,6 +5,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
 
 /**
  * 십성 계산 규칙 엔티티
@@ -47,6 +51,16 @@ public class SipsungRule {
     @Comment("오행 관계 (같은 오행, 생하는 관계, 극하는 관계 등)")
     private String relationship;
 
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    @Comment("생성 일시")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    @Comment("수정 일시 (규칙 변경 감지용)")
+    private LocalDateTime updatedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sipsung_id", insertable = false, updatable = false)
     private SipsungMaster sipsungMaster;
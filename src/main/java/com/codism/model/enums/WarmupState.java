@@ -0,0 +1,12 @@
+package com.codism.model.enums;
+
+/**
+ * 캐시 예열 상태
+ */
+public enum WarmupState {
+    DISABLED,   // 예열 사용 안 함
+    PENDING,    // 기동 완료 대기
+    RUNNING,    // 예열 중
+    COMPLETED,  // 완료
+    FAILED      // 중단 (예외 또는 종료)
+}
@@ -0,0 +1,85 @@
+package com.codism.model.vo;
+
+/**
+ * 대운 시작 나이 (대운수) 값 객체
+ * 출생 시각과 절입 시각 사이의 거리를 3일 = 1년, 1일 = 4개월, 2시간 = 10일 로 환산한 값입니다.
+ * 순행이면 다음 절까지, 역행이면 이전 절부터의 거리를 사용합니다.
+ */
+public final class DaeunStartAge {
+
+    private static final long MINUTES_PER_DAY = 1440;
+
+    // 3일 = 1년, 1일 = 4개월 -> 1개월 = 360분, 1개월 = 30일 -> 1일 = 12분
+    private static final long MINUTES_PER_YEAR = 3 * MINUTES_PER_DAY;
+    private static final long MINUTES_PER_MONTH = MINUTES_PER_DAY / 4;
+    private static final long MINUTES_PER_DAY_OF_AGE = MINUTES_PER_MONTH / 30;
+
+    private final int years;
+    private final int months;
+    private final int days;
+    private final boolean forward;
+
+    private DaeunStartAge(int years, int months, int days, boolean forward) {
+        this.years = years;
+        this.months = months;
+        this.days = days;
+        this.forward = forward;
+    }
+
+    /**
+     * 저장된 값으로 복원 (캐시 직렬화용)
+     */
+    public static DaeunStartAge of(int years, int months, int days, boolean forward) {
+        return new DaeunStartAge(years, months, days, forward);
+    }
+
+    /**
+     * 출생 시각과 절입 시각 사이의 거리(분)로 생성
+     *
+     * @param minutes 거리 (분, 0 이상)
+     * @param forward 순행 여부
+     */
+    public static DaeunStartAge ofMinutes(long minutes, boolean forward) {
+        long distance = Math.max(0, minutes);
+        int years = (int) (distance / MINUTES_PER_YEAR);
+        long remainder = distance % MINUTES_PER_YEAR;
+        int months = (int) (remainder / MINUTES_PER_MONTH);
+        int days = (int) (remainder % MINUTES_PER_MONTH / MINUTES_PER_DAY_OF_AGE);
+        return new DaeunStartAge(years, months, days, forward);
+    }
+
+    /**
+     * 첫 대운이 시작되는 만 나이 (년 단위, 나머지 개월/일은 버림)
+     */
+    public int years() {
+        return years;
+    }
+
+    public int months() {
+        return months;
+    }
+
+    public int days() {
+        return days;
+    }
+
+    public boolean isForward() {
+        return forward;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof DaeunStartAge other
+                && years == other.years && months == other.months && days == other.days && forward == other.forward);
+    }
+
+    @Override
+    public int hashCode() {
+        return ((years * 12 + months) * 31 + days) * 2 + (forward ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return years + "년 " + months + "개월 " + days + "일 (" + (forward ? "순행" : "역행") + ")";
+    }
+}
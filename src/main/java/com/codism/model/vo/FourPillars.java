@@ -0,0 +1,105 @@
+package com.codism.model.vo;
+
+import com.codism.model.dto.response.StemBranchInfo;
+
+/**
+ * 사주 네 기둥(년/월/일/시) 값 객체
+ * 기둥마다 60갑자 인덱스를 6bit 씩 int 하나에 담습니다. 시주가 없으면 해당 칸은 NO_HOUR(63) 입니다.
+ *
+ * 비트 구성: [시 6bit][일 6bit][월 6bit][년 6bit]
+ */
+public final class FourPillars {
+
+    private static final int BITS = 6;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int NO_HOUR = MASK;
+
+    private static final int YEAR_SHIFT = 0;
+    private static final int MONTH_SHIFT = BITS;
+    private static final int DAY_SHIFT = BITS * 2;
+    private static final int HOUR_SHIFT = BITS * 3;
+
+    private final int packed;
+
+    private FourPillars(int packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * @param hour 시주, 출생 시간을 모르면 null
+     */
+    public static FourPillars of(Ganji year, Ganji month, Ganji day, Ganji hour) {
+        return new FourPillars(pack(year.index(), month.index(), day.index(), hour != null ? hour.index() : NO_HOUR));
+    }
+
+    /**
+     * packed 값으로 복원
+     */
+    public static FourPillars fromPacked(int packed) {
+        return new FourPillars(packed);
+    }
+
+    private static int pack(int year, int month, int day, int hour) {
+        return (year << YEAR_SHIFT) | (month << MONTH_SHIFT) | (day << DAY_SHIFT) | (hour << HOUR_SHIFT);
+    }
+
+    public int packed() {
+        return packed;
+    }
+
+    public Ganji year() {
+        return Ganji.of((packed >>> YEAR_SHIFT) & MASK);
+    }
+
+    public Ganji month() {
+        return Ganji.of((packed >>> MONTH_SHIFT) & MASK);
+    }
+
+    public Ganji day() {
+        return Ganji.of((packed >>> DAY_SHIFT) & MASK);
+    }
+
+    /**
+     * 시주, 출생 시간을 모르면 null
+     */
+    public Ganji hour() {
+        int hour = (packed >>> HOUR_SHIFT) & MASK;
+        return hour == NO_HOUR ? null : Ganji.of(hour);
+    }
+
+    public boolean hasHour() {
+        return ((packed >>> HOUR_SHIFT) & MASK) != NO_HOUR;
+    }
+
+    /**
+     * 일간(일주의 천간) 인덱스
+     */
+    public int ilgan() {
+        return day().stem();
+    }
+
+    /**
+     * 응답 DTO 로 변환
+     */
+    public StemBranchInfo toStemBranchInfo() {
+        Ganji hour = hour();
+        return new StemBranchInfo(year().toString(), month().toString(), day().toString(),
+                hour != null ? hour.toString() : null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof FourPillars other && packed == other.packed);
+    }
+
+    @Override
+    public int hashCode() {
+        return packed;
+    }
+
+    @Override
+    public String toString() {
+        Ganji hour = hour();
+        return year() + " " + month() + " " + day() + (hour != null ? " " + hour : "");
+    }
+}
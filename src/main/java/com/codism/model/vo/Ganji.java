@@ -0,0 +1,169 @@
+package com.codism.model.vo;
+
+/**
+ * 60갑자 간지 값 객체
+ * 0(갑자) ~ 59(계해) 인덱스 하나로 표현하며, 60개 인스턴스를 미리 만들어 두고 재사용합니다.
+ * 천간 = 인덱스 % 10, 지지 = 인덱스 % 12
+ */
+public final class Ganji {
+
+    // 천간(天干)
+    private static final String[] STEM_NAMES = {
+            "갑", "을", "병", "정", "무", "기", "경", "신", "임", "계"
+    };
+
+    // 지지(地支)
+    private static final String[] BRANCH_NAMES = {
+            "자", "축", "인", "묘", "진", "사", "오", "미", "신", "유", "술", "해"
+    };
+
+    private static final Ganji[] VALUES = new Ganji[60];
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = new Ganji((byte) i);
+        }
+    }
+
+    private final byte index;
+    private final String name;
+
+    private Ganji(byte index) {
+        this.index = index;
+        this.name = STEM_NAMES[index % 10] + BRANCH_NAMES[index % 12];
+    }
+
+    /**
+     * 60갑자 인덱스로 조회 (범위 밖 값은 60으로 나눈 나머지 사용)
+     */
+    public static Ganji of(int index) {
+        return VALUES[Math.floorMod(index, 60)];
+    }
+
+    /**
+     * 천간/지지 인덱스로 조회
+     *
+     * @param stem   천간 인덱스 (0-9)
+     * @param branch 지지 인덱스 (0-11)
+     */
+    public static Ganji of(int stem, int branch) {
+        if (stem < 0 || stem > 9 || branch < 0 || branch > 11 || (stem & 1) != (branch & 1)) {
+            throw new IllegalArgumentException("유효하지 않은 간지 조합입니다: " + stem + ", " + branch);
+        }
+        // 중국인의 나머지 정리: index ≡ stem (mod 10), index ≡ branch (mod 12)
+        return VALUES[(6 * stem - 5 * branch + 60) % 60];
+    }
+
+    /**
+     * 한글 간지 문자열로 조회 (예: "갑자", "경자월" 처럼 뒤에 붙은 글자는 무시)
+     */
+    public static Ganji parse(String value) {
+        if (value == null || value.length() < 2) {
+            throw new IllegalArgumentException("유효하지 않은 간지입니다: " + value);
+        }
+        int stem = stemIndexOf(value.charAt(0));
+        int branch = branchIndexOf(value.charAt(1));
+        if (stem < 0 || branch < 0) {
+            throw new IllegalArgumentException("유효하지 않은 간지입니다: " + value);
+        }
+        return of(stem, branch);
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public int stem() {
+        return index % 10;
+    }
+
+    public int branch() {
+        return index % 12;
+    }
+
+    public String stemName() {
+        return STEM_NAMES[index % 10];
+    }
+
+    public String branchName() {
+        return BRANCH_NAMES[index % 12];
+    }
+
+    /**
+     * offset 만큼 이동한 간지 (음수면 역행)
+     */
+    public Ganji plus(int offset) {
+        return of(index + offset);
+    }
+
+    /**
+     * 양간(갑병무경임) 여부
+     */
+    public boolean isYangStem() {
+        return (index & 1) == 0;
+    }
+
+    public static String stemName(int stem) {
+        return STEM_NAMES[stem];
+    }
+
+    public static String branchName(int branch) {
+        return BRANCH_NAMES[branch];
+    }
+
+    /**
+     * 천간 글자의 인덱스, 천간이 아니면 -1
+     */
+    public static int stemIndexOf(String stem) {
+        return stem != null && stem.length() == 1 ? stemIndexOf(stem.charAt(0)) : -1;
+    }
+
+    /**
+     * 지지 글자의 인덱스, 지지가 아니면 -1
+     */
+    public static int branchIndexOf(String branch) {
+        return branch != null && branch.length() == 1 ? branchIndexOf(branch.charAt(0)) : -1;
+    }
+
+    public static int stemIndexOf(char stem) {
+        switch (stem) {
+            case '갑': return 0;
+            case '을': return 1;
+            case '병': return 2;
+            case '정': return 3;
+            case '무': return 4;
+            case '기': return 5;
+            case '경': return 6;
+            case '신': return 7;
+            case '임': return 8;
+            case '계': return 9;
+            default: return -1;
+        }
+    }
+
+    public static int branchIndexOf(char branch) {
+        switch (branch) {
+            case '자': return 0;
+            case '축': return 1;
+            case '인': return 2;
+            case '묘': return 3;
+            case '진': return 4;
+            case '사': return 5;
+            case '오': return 6;
+            case '미': return 7;
+            case '신': return 8;
+            case '유': return 9;
+            case '술': return 10;
+            case '해': return 11;
+            default: return -1;
+        }
+    }
+
+    /**
+     * 한글 간지 문자열 (예: "갑자")
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+}
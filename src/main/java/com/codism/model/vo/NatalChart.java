@@ -0,0 +1,97 @@
+package com.codism.model.vo;
+
+import com.codism.model.dto.response.SajuDetailResponse.DaeunInfo;
+import com.codism.model.dto.response.SajuDetailResponse.HapChungAnalysis;
+import com.codism.model.dto.response.SajuDetailResponse.SajuPillar;
+import com.codism.model.dto.response.SajuDetailResponse.SinsalInfo;
+
+import java.util.List;
+
+/**
+ * 사주 원국 (불변)
+ * 출생 정보(생년월일, 시, 성별, 양력 여부)와 규칙 버전만으로 정해지는 부분을 모아 둔 값 객체입니다.
+ * 나이, 현재 대운, 세운, 월운처럼 기준일에 따라 달라지는 값은 담지 않으므로 기한 없이 캐시할 수 있습니다.
+ *
+ * 담긴 DTO 와 목록은 여러 응답이 함께 참조하므로 수정하지 않습니다.
+ */
+public final class NatalChart {
+
+    private final FourPillars pillars;
+    private final String gender;
+    private final SajuPillar year;
+    private final SajuPillar month;
+    private final SajuPillar day;
+    private final SajuPillar hour;
+    private final List<SinsalInfo> sinsals;
+    private final HapChungAnalysis hapChung;
+    private final DaeunStartAge daeunStart;
+    private final List<DaeunInfo> daeunTimeline;
+
+    /**
+     * @param hapChung      사주 내부 합충형파해 (운과의 작용은 비어 있음)
+     * @param daeunStart    대운 시작 나이 (대운수)
+     * @param daeunTimeline 전체 생애 대운표 (현재 대운 여부/남은 년수는 비어 있음)
+     */
+    public NatalChart(FourPillars pillars, String gender,
+                      SajuPillar year, SajuPillar month, SajuPillar day, SajuPillar hour,
+                      List<SinsalInfo> sinsals, HapChungAnalysis hapChung, DaeunStartAge daeunStart,
+                      List<DaeunInfo> daeunTimeline) {
+        this.pillars = pillars;
+        this.gender = gender;
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.hour = hour;
+        this.sinsals = List.copyOf(sinsals);
+        this.hapChung = hapChung;
+        this.daeunStart = daeunStart;
+        this.daeunTimeline = List.copyOf(daeunTimeline);
+    }
+
+    public FourPillars pillars() {
+        return pillars;
+    }
+
+    public String gender() {
+        return gender;
+    }
+
+    /**
+     * 일간 (한글)
+     */
+    public String ilgan() {
+        return day.getCheongan();
+    }
+
+    public SajuPillar year() {
+        return year;
+    }
+
+    public SajuPillar month() {
+        return month;
+    }
+
+    public SajuPillar day() {
+        return day;
+    }
+
+    public SajuPillar hour() {
+        return hour;
+    }
+
+    public List<SinsalInfo> sinsals() {
+        return sinsals;
+    }
+
+    public HapChungAnalysis hapChung() {
+        return hapChung;
+    }
+
+    public DaeunStartAge daeunStart() {
+        return daeunStart;
+    }
+
+    public List<DaeunInfo> daeunTimeline() {
+        return daeunTimeline;
+    }
+}
@@ -2,8 +2,10 @@ package com.codism.repository;
 
 import com.codism.model.entity.JijiMaster;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -26,4 +28,10 @@ public interface JijiMasterRepository extends JpaRepository<JijiMaster, Long> {
      * 순서로 조회
      */
     Optional<JijiMaster> findBySequenceOrder(Integer sequenceOrder);
+
+    /**
+     * 가장 최근 수정 일시 (지지 마스터 변경 감지용, 데이터가 없으면 null)
+     */
+    @Query("SELECT MAX(jm.updatedAt) FROM JijiMaster jm")
+    LocalDateTime findLastUpdatedAt();
 }
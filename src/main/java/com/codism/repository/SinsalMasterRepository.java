@@ -3,8 +3,10 @@ package com.codism.repository;
 import com.codism.model.entity.SinsalMaster;
 import com.codism.model.enums.SinsalType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +35,10 @@ public interface SinsalMasterRepository extends JpaRepository<SinsalMaster, Long
      * 활성화된 신살을 우선순위로 정렬하여 조회
      */
     List<SinsalMaster> findByIsActiveTrueOrderByPriorityDesc();
+
+    /**
+     * 가장 최근 수정 일시 (신살 마스터 변경 감지용, 데이터가 없으면 null)
+     */
+    @Query("SELECT MAX(sm.updatedAt) FROM SinsalMaster sm")
+    LocalDateTime findLastUpdatedAt();
 }
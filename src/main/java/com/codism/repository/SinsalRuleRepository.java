@@ -2,8 +2,10 @@ package com.codism.repository;
 
 import com.codism.model.entity.SinsalRule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -26,4 +28,19 @@ public interface SinsalRuleRepository extends JpaRepository<SinsalRule, Long> {
      * 신살 ID와 규칙 타입으로 조회
      */
     List<SinsalRule> findBySinsalIdAndRuleType(Long sinsalId, String ruleType);
+
+    /**
+     * 활성화된 신살의 모든 규칙을 신살 마스터와 함께 한 번에 조회
+     * 신살 우선순위 순, 같은 신살 안에서는 규칙 ID 순
+     */
+    @Query("SELECT sr FROM SinsalRule sr JOIN FETCH sr.sinsalMaster sm " +
+            "WHERE sm.isActive = true " +
+            "ORDER BY sm.priority DESC, sm.sinsalId, sr.ruleId")
+    List<SinsalRule> findActiveRulesWithSinsal();
+
+    /**
+     * 가장 최근 수정 일시 (신살 규칙 변경 감지용, 데이터가 없으면 null)
+     */
+    @Query("SELECT MAX(sr.updatedAt) FROM SinsalRule sr")
+    LocalDateTime findLastUpdatedAt();
 }
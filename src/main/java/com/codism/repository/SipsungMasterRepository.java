@@ -2,8 +2,10 @@ package com.codism.repository;
 
 import com.codism.model.entity.SipsungMaster;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -21,4 +23,10 @@ public interface SipsungMasterRepository extends JpaRepository<SipsungMaster, Lo
      * 십성 한자명으로 조회
      */
     Optional<SipsungMaster> findBySipsungHanja(String sipsungHanja);
+
+    /**
+     * 가장 최근 수정 일시 (십성 마스터 변경 감지용, 데이터가 없으면 null)
+     */
+    @Query("SELECT MAX(sm.updatedAt) FROM SipsungMaster sm")
+    LocalDateTime findLastUpdatedAt();
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,4 +35,10 @@ public interface SipsungRuleRepository extends JpaRepository<SipsungRule, Long>
             @Param("ilganEumyang") String ilganEumyang,
             @Param("targetEumyang") String targetEumyang
     );
+
+    /**
+     * 가장 최근 수정 일시 (십성 규칙 변경 감지용, 데이터가 없으면 null)
+     */
+    @Query("SELECT MAX(sr.updatedAt) FROM SipsungRule sr")
+    LocalDateTime findLastUpdatedAt();
 }
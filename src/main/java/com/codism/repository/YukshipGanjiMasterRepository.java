@@ -2,8 +2,10 @@ package com.codism.repository;
 
 import com.codism.model.entity.YukshipGanjiMaster;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -26,4 +28,10 @@ public interface  YukshipGanjiMasterRepository extends JpaRepository<YukshipGanj
      * @return 육십갑자 정보
      */
     Optional<YukshipGanjiMaster> findByGanjiName(String ganjiName);
+
+    /**
+     * 가장 최근 수정 일시 (육십갑자 마스터 변경 감지용, 데이터가 없으면 null)
+     */
+    @Query("SELECT MAX(ym.updatedAt) FROM YukshipGanjiMaster ym")
+    LocalDateTime findLastUpdatedAt();
 }
@@ -0,0 +1,215 @@
+package com.codism.service;
+
+import com.codism.config.WarmupProperties;
+import com.codism.model.dto.response.WarmupStatusResponse;
+import com.codism.model.enums.WarmupState;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기동 후 캐시 예열
+ *
+ * 배포 직후에는 모든 요청이 캐시 미스라 사주 상세 조회의 지연이 튀므로,
+ * 기동이 끝나면(DataInitializer 적재와 규칙 스냅샷 생성 이후) 설정한 출생 연도 범위의 사주 원국을 백그라운드에서 미리 계산합니다.
+ * 신살/십성은 규칙 스냅샷을 만들 때 이미 전부 계산해 두므로(SinsalTable, SipsungMatrix) 원국 캐시만 채웁니다.
+ *
+ * maxCharts 가 범위 전체보다 작으면 범위 앞쪽부터 채우지 않고, 범위 전체에서 같은 간격으로 날짜를 골라 계산합니다.
+ * 작업은 한 달 분량의 날짜 단위로 나눠 고정 크기 스레드 풀에서 실행하며, 10% 마다 진행 상황을 로그로 남깁니다.
+ * 로컬 캐시 용량보다 많이 계산하면 먼저 넣은 항목이 밀려나므로, Redis 2단계 캐시가 없으면 maxCharts 로 제한하는 편이 좋습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(WarmupProperties.class)
+public class CacheWarmupService {
+
+    private static final int PROGRESS_STEPS = 10;
+
+    // 작업 하나가 맡는 날짜 수
+    private static final int DAYS_PER_TASK = 31;
+
+    private final NatalChartService natalChartService;
+    private final WarmupProperties properties;
+    private final Clock clock;
+
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile WarmupState state;
+    private volatile long total;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private ExecutorService executor;
+
+    /**
+     * 기동 완료 후 예열 시작 (요청 처리와 별개로 백그라운드에서 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!properties.isEnabled() || properties.getRanges().isEmpty()) {
+            state = WarmupState.DISABLED;
+            return;
+        }
+
+        List<LocalDate> allDays = days();
+        long chartsPerDay = (long) properties.getHours().size() * properties.getGenders().size();
+        long fullTotal = allDays.size() * chartsPerDay;
+        List<LocalDate> days = allDays;
+        total = fullTotal;
+        if (properties.getMaxCharts() != null && properties.getMaxCharts() < fullTotal) {
+            // 날짜마다 모든 시/성별을 계산하므로 필요한 날짜 수만큼 범위 전체에서 고르게 추출
+            long dayBudget = chartsPerDay > 0 ? (properties.getMaxCharts() + chartsPerDay - 1) / chartsPerDay : 0;
+            days = sampleDays(allDays, dayBudget);
+            total = properties.getMaxCharts();
+        }
+        if (properties.isReadinessGate() && properties.getMaxCharts() == null) {
+            log.warn("캐시 예열 - warmup.max-charts 없이 readiness-gate 가 켜져 있어 원국 {}건을 모두 계산할 때까지 트래픽을 받지 않습니다.",
+                    total);
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, properties.getThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        state = WarmupState.RUNNING;
+        startedAt = LocalDateTime.now(clock);
+        log.info("캐시 예열 시작 - 전체 {}일 중 {}일, 원국 {}건, 스레드 {}개",
+                allDays.size(), days.size(), total, properties.getThreads());
+
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        for (int from = 0; from < days.size(); from += DAYS_PER_TASK) {
+            List<LocalDate> chunk = days.subList(from, Math.min(from + DAYS_PER_TASK, days.size()));
+            tasks.add(CompletableFuture.runAsync(() -> warmDays(chunk), executor));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).whenComplete((ignored, error) -> finish(error));
+    }
+
+    /**
+     * 진행 상황
+     */
+    public WarmupStatusResponse status() {
+        WarmupState current = state != null ? state
+                : properties.isEnabled() ? WarmupState.PENDING : WarmupState.DISABLED;
+        long done = completed.get() + failed.get();
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now(clock);
+        return new WarmupStatusResponse(
+                current,
+                total,
+                completed.get(),
+                failed.get(),
+                total > 0 ? Math.min(1.0, (double) done / total) : 0,
+                startedAt,
+                finishedAt,
+                startedAt != null ? Duration.between(startedAt, end).toMillis() : 0
+        );
+    }
+
+    /**
+     * 예열이 끝났는지 여부 (사용 안 함, 완료, 중단 모두 끝난 것으로 봄)
+     */
+    public boolean isFinished() {
+        WarmupState current = status().getState();
+        return current != WarmupState.PENDING && current != WarmupState.RUNNING;
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void warmDays(List<LocalDate> days) {
+        for (LocalDate birthDate : days) {
+            for (Integer hour : properties.getHours()) {
+                for (String gender : properties.getGenders()) {
+                    if (Thread.currentThread().isInterrupted() || claimed.getAndIncrement() >= total) {
+                        return;
+                    }
+                    try {
+                        natalChartService.getNatalChart(birthDate, hour, gender, true, false);
+                        completed.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                        log.debug("캐시 예열 실패 - {} {}시 {}: {}", birthDate, hour, gender, e.getMessage());
+                    }
+                    reportProgress();
+                }
+            }
+        }
+    }
+
+    private void reportProgress() {
+        long done = completed.get() + failed.get();
+        long step = Math.max(1, total / PROGRESS_STEPS);
+        if (done % step == 0) {
+            log.info("캐시 예열 진행 - {}/{} ({}%)", done, total, done * 100 / total);
+        }
+    }
+
+    private synchronized void finish(Throwable error) {
+        finishedAt = LocalDateTime.now(clock);
+        long elapsed = Duration.between(startedAt, finishedAt).toMillis();
+        if (error != null || executor.isShutdown()) {
+            state = WarmupState.FAILED;
+            log.warn("캐시 예열 중단 - {}/{}건, {}ms", completed.get(), total, elapsed, error);
+        } else {
+            state = WarmupState.COMPLETED;
+            log.info("캐시 예열 완료 - 성공 {}건, 실패 {}건, {}ms", completed.get(), failed.get(), elapsed);
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * 날짜 목록에서 같은 간격으로 dayBudget 개 추출 (첫 날짜 포함, 순서 유지)
+     */
+    static List<LocalDate> sampleDays(List<LocalDate> days, long dayBudget) {
+        if (dayBudget >= days.size()) {
+            return days;
+        }
+        List<LocalDate> sampled = new ArrayList<>((int) dayBudget);
+        for (long k = 0; k < dayBudget; k++) {
+            sampled.add(days.get((int) (k * days.size() / dayBudget)));
+        }
+        return sampled;
+    }
+
+    /**
+     * 예열 범위의 모든 날짜 (설정 순서)
+     */
+    private List<LocalDate> days() {
+        List<LocalDate> days = new ArrayList<>();
+        for (WarmupProperties.YearRange range : properties.getRanges()) {
+            if (range.getFromYear() > range.getToYear()) {
+                log.warn("캐시 예열 범위 무시 - fromYear({}) > toYear({})", range.getFromYear(), range.getToYear());
+                continue;
+            }
+            LocalDate end = LocalDate.of(range.getToYear(), 12, 31);
+            for (LocalDate day = LocalDate.of(range.getFromYear(), 1, 1); !day.isAfter(end); day = day.plusDays(1)) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+}
@@ -0,0 +1,387 @@
+package com.codism.service;
+
+import com.codism.config.error.entity.ApiException;
+import com.codism.config.error.type.ErrorCode;
+import com.codism.model.dto.request.CompatibilityRankRequest;
+import com.codism.model.dto.request.CompatibilityRankRequest.BirthInfo;
+import com.codism.model.dto.request.CompatibilityRankRequest.Candidate;
+import com.codism.model.dto.response.CompatibilityRankResponse;
+import com.codism.model.dto.response.CompatibilityRankResponse.RankedCandidate;
+import com.codism.model.dto.response.CompatibilityResponse;
+import com.codism.model.dto.response.CompatibilityResponse.Person;
+import com.codism.model.vo.FourPillars;
+import com.codism.model.vo.Ganji;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사주 궁합 서비스
+ * 일주 쌍과 띠(년지) 쌍의 점수/관계는 CompatibilityTable 에서 조회하고, 오행 보완만 두 사람의 오행 개수로 계산합니다.
+ * 한 명과 여러 후보의 궁합 순위는 전용 ForkJoinPool 에서 병렬로 계산합니다.
+ */
+@Slf4j
+@Service
+public class CompatibilityService {
+
+    // 총점 가중치 (%)
+    private static final int DAY_PILLAR_WEIGHT = 60;
+    private static final int OHANG_WEIGHT = 25;
+    private static final int YEAR_BRANCH_WEIGHT = 15;
+
+    // 오행 보완 점수 (기본 50, 0-100)
+    private static final int OHANG_BASE_SCORE = 50;
+    private static final int OHANG_COMPLEMENT_SCORE = 10;
+    private static final int OHANG_BOTH_MISSING_SCORE = -5;
+
+    // 궁합 순위
+    public static final int MAX_CANDIDATES = 10_000;
+    public static final int MAX_TOP_K = 100;
+    private static final int DEFAULT_TOP_K = 10;
+    private static final int RANK_SPLIT_THRESHOLD = 512;  // 이 수 이하의 구간은 나누지 않고 순차 계산
+
+    private final ForkJoinPool rankingPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * 두 사람의 궁합 조회
+     *
+     * @param birthDate1 첫 번째 생년월일
+     * @param birthTime1 첫 번째 출생 시간 (예: "07:00"), 모르면 null
+     * @param birthDate2 두 번째 생년월일
+     * @param birthTime2 두 번째 출생 시간, 모르면 null
+     * @return 궁합 정보
+     */
+    public CompatibilityResponse getCompatibility(LocalDate birthDate1, String birthTime1,
+                                                  LocalDate birthDate2, String birthTime2) {
+        log.debug("궁합 계산 - {} {} / {} {}", birthDate1, birthTime1, birthDate2, birthTime2);
+
+        FourPillars pillars1 = pillarsOf(birthDate1, birthTime1);
+        FourPillars pillars2 = pillarsOf(birthDate2, birthTime2);
+
+        // 1. 일주 궁합 (60 x 60 표 조회)
+        int dayPillarScore = CompatibilityTable.dayPillarScore(pillars1.day(), pillars2.day());
+        List<String> dayPillarRelations = CompatibilityTable.dayPillarLabels(pillars1.day(), pillars2.day());
+
+        // 2. 띠 궁합 (12 x 12 표 조회)
+        int yearBranch1 = pillars1.year().branch();
+        int yearBranch2 = pillars2.year().branch();
+        int yearBranchScore = CompatibilityTable.yearBranchScore(yearBranch1, yearBranch2);
+        List<String> yearBranchRelations = CompatibilityTable.yearBranchLabels(yearBranch1, yearBranch2);
+
+        // 3. 오행 보완 (한쪽에 없는 오행을 상대가 가진 경우 가점)
+        int[] ohang1 = countOhang(pillars1, new int[CompatibilityTable.OHANG_COUNT]);
+        int[] ohang2 = countOhang(pillars2, new int[CompatibilityTable.OHANG_COUNT]);
+        List<String> ohangRelations = new ArrayList<>();
+        int ohangScore = ohangScore(ohang1, ohang2, ohangRelations);
+
+        // 4. 총점
+        int totalScore = totalScore(dayPillarScore, ohangScore, yearBranchScore);
+
+        return new CompatibilityResponse(
+                toPerson(birthDate1, birthTime1, pillars1, ohang1),
+                toPerson(birthDate2, birthTime2, pillars2, ohang2),
+                totalScore,
+                grade(totalScore),
+                dayPillarScore,
+                ohangScore,
+                yearBranchScore,
+                dayPillarRelations,
+                yearBranchRelations,
+                ohangRelations
+        );
+    }
+
+    private FourPillars pillarsOf(LocalDate birthDate, String birthTime) {
+        Integer hour = birthTime != null ? SajuDetailService.parseHour(birthTime) : null;
+        return StemBranchCalculator.getFourPillars(
+                birthDate.getYear(), birthDate.getMonthValue(), birthDate.getDayOfMonth(), hour, true);
+    }
+
+    /**
+     * 기준 사주 한 명과 후보 여러 명의 궁합 총점 상위 topK
+     * 후보는 ForkJoinPool 에서 구간별로 나눠 계산하고, 구간마다 크기 topK 의 최소 힙만 유지한 뒤 합칩니다.
+     * 후보별 계산은 사주 기둥과 정수 점수만 사용하고, 응답 DTO 는 최종 topK 명에 대해서만 생성합니다.
+     *
+     * @param request 기준 사주, 후보 목록, topK
+     * @return 상위 topK 후보 (점수가 같으면 요청 순서)
+     */
+    public CompatibilityRankResponse rank(CompatibilityRankRequest request) {
+        BirthInfo subject = request.getSubject();
+        List<Candidate> candidates = request.getCandidates();
+        if (subject == null || subject.getBirthDate() == null) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "기준 사주의 생년월일이 필요합니다.");
+        }
+        if (candidates == null || candidates.isEmpty() || candidates.size() > MAX_CANDIDATES) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "후보는 1~" + MAX_CANDIDATES + "명이어야 합니다.");
+        }
+        int topK = request.getTopK() != null ? request.getTopK() : DEFAULT_TOP_K;
+        if (topK < 1 || topK > MAX_TOP_K) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "topK 는 1~" + MAX_TOP_K + " 범위여야 합니다: " + topK);
+        }
+
+        FourPillars subjectPillars = computePillars(subject.getBirthDate(), subject.getBirthTime());
+        if (subjectPillars == null) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "기준 사주를 계산할 수 없습니다: " + subject.getBirthDate());
+        }
+        int[] subjectOhang = countOhang(subjectPillars, new int[CompatibilityTable.OHANG_COUNT]);
+
+        RankTask task = new RankTask(subjectPillars, subjectOhang, candidates, 0, candidates.size(), topK);
+        TopK top = rankingPool.invoke(task);
+        long[] keys = top.sortedDescending();
+
+        List<RankedCandidate> ranking = new ArrayList<>(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            int score = (int) (keys[i] >>> 32);
+            int index = Integer.MAX_VALUE - (int) keys[i];
+            Candidate candidate = candidates.get(index);
+            FourPillars pillars = computePillars(candidate.getBirthDate(), candidate.getBirthTime());
+            ranking.add(new RankedCandidate(i + 1, candidate.getId(), candidate.getBirthDate(),
+                    pillars.day().toString(), score, grade(score)));
+        }
+
+        log.debug("궁합 순위 - 후보: {}, 제외: {}, topK: {}", candidates.size(), task.skipped(), topK);
+
+        return new CompatibilityRankResponse(subjectPillars.day().toString(), candidates.size(),
+                task.skipped(), ranking);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rankingPool.shutdown();
+    }
+
+    /**
+     * 두 사주의 궁합 총점 (표 조회와 정수 연산만 사용)
+     *
+     * @param ohangScratch 후보 오행 개수를 담을 작업 배열 (길이 5, 재사용)
+     */
+    private static int score(FourPillars subject, int[] subjectOhang, FourPillars candidate, int[] ohangScratch) {
+        int dayPillarScore = CompatibilityTable.dayPillarScore(subject.day(), candidate.day());
+        int yearBranchScore = CompatibilityTable.yearBranchScore(subject.year().branch(), candidate.year().branch());
+        Arrays.fill(ohangScratch, 0);
+        int ohangScore = ohangScore(subjectOhang, countOhang(candidate, ohangScratch), null);
+        return totalScore(dayPillarScore, ohangScore, yearBranchScore);
+    }
+
+    private static int totalScore(int dayPillarScore, int ohangScore, int yearBranchScore) {
+        return Math.round((dayPillarScore * DAY_PILLAR_WEIGHT
+                + ohangScore * OHANG_WEIGHT
+                + yearBranchScore * YEAR_BRANCH_WEIGHT) / 100f);
+    }
+
+    /**
+     * 오행 보완 점수
+     *
+     * @param relations 보완 관계 이름을 담을 목록, 필요 없으면 null
+     */
+    private static int ohangScore(int[] ohang1, int[] ohang2, List<String> relations) {
+        int score = OHANG_BASE_SCORE;
+        for (int ohang = 0; ohang < CompatibilityTable.OHANG_COUNT; ohang++) {
+            if (ohang1[ohang] == 0 && ohang2[ohang] == 0) {
+                score += OHANG_BOTH_MISSING_SCORE;
+                if (relations != null) relations.add(CompatibilityTable.ohangName(ohang) + " 부족 (둘 다 없음)");
+            } else if (ohang1[ohang] == 0) {
+                score += OHANG_COMPLEMENT_SCORE;
+                if (relations != null) relations.add(CompatibilityTable.ohangName(ohang) + " 보완 (두 번째 → 첫 번째)");
+            } else if (ohang2[ohang] == 0) {
+                score += OHANG_COMPLEMENT_SCORE;
+                if (relations != null) relations.add(CompatibilityTable.ohangName(ohang) + " 보완 (첫 번째 → 두 번째)");
+            }
+        }
+        return Math.max(0, Math.min(100, score));
+    }
+
+    /**
+     * 후보 사주 기둥 (생년월일이 없거나 계산할 수 없으면 null)
+     */
+    private static FourPillars computePillars(LocalDate birthDate, String birthTime) {
+        if (birthDate == null) {
+            return null;
+        }
+        try {
+            Integer hour = birthTime != null ? SajuDetailService.parseHour(birthTime) : null;
+            return StemBranchCalculator.computeFourPillars(
+                    birthDate.getYear(), birthDate.getMonthValue(), birthDate.getDayOfMonth(), hour, 0);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 오행 개수 (천간, 지지 각각, 시주를 모르면 6글자)
+     */
+    private static int[] countOhang(FourPillars pillars, int[] counts) {
+        addOhang(counts, pillars.year());
+        addOhang(counts, pillars.month());
+        addOhang(counts, pillars.day());
+        if (pillars.hasHour()) {
+            addOhang(counts, pillars.hour());
+        }
+        return counts;
+    }
+
+    private static void addOhang(int[] counts, Ganji ganji) {
+        counts[CompatibilityTable.stemOhang(ganji.stem())]++;
+        counts[CompatibilityTable.branchOhang(ganji.branch())]++;
+    }
+
+    private Person toPerson(LocalDate birthDate, String birthTime, FourPillars pillars, int[] ohang) {
+        Map<String, Integer> ohangCount = new LinkedHashMap<>();
+        for (int i = 0; i < ohang.length; i++) {
+            ohangCount.put(CompatibilityTable.ohangName(i), ohang[i]);
+        }
+        return new Person(birthDate, birthTime, pillars.day().toString(), pillars.year().branchName(), ohangCount);
+    }
+
+    private static String grade(int totalScore) {
+        if (totalScore >= 80) return "천생연분";
+        if (totalScore >= 65) return "좋은 궁합";
+        if (totalScore >= 50) return "무난한 궁합";
+        if (totalScore >= 35) return "노력이 필요한 궁합";
+        return "어려운 궁합";
+    }
+
+    /**
+     * 후보 구간의 상위 topK 계산 (구간이 크면 반으로 나눠 병렬 계산 후 합침)
+     */
+    private static final class RankTask extends RecursiveTask<TopK> {
+        private final FourPillars subject;
+        private final int[] subjectOhang;
+        private final List<Candidate> candidates;
+        private final int from;
+        private final int to;
+        private final int topK;
+        private final AtomicInteger skipped;
+
+        RankTask(FourPillars subject, int[] subjectOhang, List<Candidate> candidates, int from, int to, int topK) {
+            this(subject, subjectOhang, candidates, from, to, topK, new AtomicInteger());
+        }
+
+        private RankTask(FourPillars subject, int[] subjectOhang, List<Candidate> candidates, int from, int to,
+                         int topK, AtomicInteger skipped) {
+            this.subject = subject;
+            this.subjectOhang = subjectOhang;
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.topK = topK;
+            this.skipped = skipped;
+        }
+
+        int skipped() {
+            return skipped.get();
+        }
+
+        @Override
+        protected TopK compute() {
+            if (to - from <= RANK_SPLIT_THRESHOLD) {
+                TopK top = new TopK(topK);
+                int[] ohangScratch = new int[CompatibilityTable.OHANG_COUNT];
+                for (int i = from; i < to; i++) {
+                    Candidate candidate = candidates.get(i);
+                    FourPillars pillars = candidate != null
+                            ? computePillars(candidate.getBirthDate(), candidate.getBirthTime()) : null;
+                    if (pillars == null) {
+                        skipped.incrementAndGet();
+                        continue;
+                    }
+                    top.offer(score(subject, subjectOhang, pillars, ohangScratch), i);
+                }
+                return top;
+            }
+            int mid = (from + to) >>> 1;
+            RankTask left = new RankTask(subject, subjectOhang, candidates, from, mid, topK, skipped);
+            RankTask right = new RankTask(subject, subjectOhang, candidates, mid, to, topK, skipped);
+            left.fork();
+            TopK top = right.compute();
+            top.merge(left.join());
+            return top;
+        }
+    }
+
+    /**
+     * 크기가 정해진 최소 힙 (long 키: 상위 32bit 점수, 하위 32bit 는 앞 순서일수록 큰 값)
+     * 키가 클수록 높은 순위이며, 힙의 루트는 현재 topK 중 가장 낮은 순위
+     */
+    private static final class TopK {
+        private final long[] heap;
+        private int size;
+
+        TopK(int capacity) {
+            this.heap = new long[capacity];
+        }
+
+        void offer(int score, int index) {
+            offer(((long) score << 32) | (Integer.MAX_VALUE - index));
+        }
+
+        void offer(long key) {
+            if (size < heap.length) {
+                heap[size] = key;
+                siftUp(size++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(0);
+            }
+        }
+
+        void merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.heap[i]);
+            }
+        }
+
+        long[] sortedDescending() {
+            long[] keys = Arrays.copyOf(heap, size);
+            Arrays.sort(keys);
+            for (int i = 0, j = keys.length - 1; i < j; i++, j--) {
+                long tmp = keys[i];
+                keys[i] = keys[j];
+                keys[j] = tmp;
+            }
+            return keys;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= heap[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && heap[left] < heap[smallest]) smallest = left;
+                if (right < size && heap[right] < heap[smallest]) smallest = right;
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+}
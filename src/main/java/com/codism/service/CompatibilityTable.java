@@ -0,0 +1,195 @@
+package com.codism.service;
+
+import com.codism.model.vo.Ganji;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 궁합 관계표 (불변)
+ * 일주 60 x 60 쌍마다 천간/지지 관계 점수와 관계 이름을, 지지 12 x 12 쌍마다 원진/귀문을 포함한 관계 비트를 미리 계산해 둡니다.
+ * 두 사람의 궁합은 일주 쌍, 띠(년지) 쌍 조회와 오행 개수 비교만으로 계산됩니다.
+ */
+public final class CompatibilityTable {
+
+    // 지지 관계 (GanjiRelationMatrix 의 비트에 궁합용 관계 추가)
+    public static final int WONJIN = 1 << 6;        // 원진
+    public static final int GWIMUN = 1 << 7;        // 귀문
+
+    // 오행 (목=0, 화=1, 토=2, 금=3, 수=4)
+    public static final int OHANG_COUNT = 5;
+    private static final String[] OHANG_NAMES = {"목", "화", "토", "금", "수"};
+
+    // 천간 오행: 갑을=목, 병정=화, 무기=토, 경신=금, 임계=수
+    private static final int[] STEM_OHANG = {0, 0, 1, 1, 2, 2, 3, 3, 4, 4};
+
+    // 지지 오행: 자=수, 축=토, 인묘=목, 진=토, 사오=화, 미=토, 신유=금, 술=토, 해=수
+    private static final int[] BRANCH_OHANG = {4, 2, 0, 0, 2, 1, 1, 2, 3, 3, 2, 4};
+
+    private static final String[][] WONJIN_PAIRS = {
+            {"자", "미"}, {"축", "오"}, {"인", "유"}, {"묘", "신"}, {"진", "해"}, {"사", "술"}
+    };
+
+    private static final String[][] GWIMUN_PAIRS = {
+            {"진", "해"}, {"자", "유"}, {"인", "미"}, {"축", "오"}, {"묘", "신"}, {"사", "술"}
+    };
+
+    // 일주 점수 (기본 50, 0-100)
+    private static final int BASE_SCORE = 50;
+    private static final int STEM_HAP_SCORE = 20;
+    private static final int STEM_SAENGSAENG_SCORE = 10;
+    private static final int STEM_BIHWA_SCORE = 5;
+    private static final int STEM_SANGGEUK_SCORE = -10;
+    private static final int[][] DAY_BRANCH_SCORES = {
+            {GanjiRelationMatrix.YUKHAP, 20}, {GanjiRelationMatrix.BANHAP, 15},
+            {GanjiRelationMatrix.CHUNG, -20}, {GanjiRelationMatrix.HYEONG, -10},
+            {GanjiRelationMatrix.PA, -5}, {GanjiRelationMatrix.HAE, -10},
+            {WONJIN, -15}, {GWIMUN, -10}
+    };
+
+    // 띠(년지) 점수 (기본 50, 0-100)
+    private static final int[][] YEAR_BRANCH_SCORES = {
+            {GanjiRelationMatrix.YUKHAP, 25}, {GanjiRelationMatrix.BANHAP, 25},
+            {GanjiRelationMatrix.CHUNG, -25}, {GanjiRelationMatrix.HAE, -10}, {WONJIN, -20}
+    };
+
+    private static final short[] BRANCH = new short[144];
+    private static final byte[] DAY_PILLAR_SCORE = new byte[3600];
+    private static final String[][] DAY_PILLAR_LABELS = new String[3600][];
+    private static final byte[] YEAR_BRANCH_SCORE = new byte[144];
+    private static final String[][] YEAR_BRANCH_LABELS = new String[144][];
+
+    static {
+        for (int a = 0; a < 12; a++) {
+            for (int b = 0; b < 12; b++) {
+                BRANCH[a * 12 + b] = (short) GanjiRelationMatrix.branch(a, b);
+            }
+        }
+        addPairs(WONJIN, WONJIN_PAIRS);
+        addPairs(GWIMUN, GWIMUN_PAIRS);
+
+        for (int a = 0; a < 12; a++) {
+            for (int b = 0; b < 12; b++) {
+                List<String> labels = new ArrayList<>();
+                int score = BASE_SCORE + branchScore(YEAR_BRANCH_SCORES, a, b, labels);
+                YEAR_BRANCH_SCORE[a * 12 + b] = (byte) clamp(score);
+                YEAR_BRANCH_LABELS[a * 12 + b] = labels.toArray(new String[0]);
+            }
+        }
+
+        for (int p = 0; p < 60; p++) {
+            Ganji first = Ganji.of(p);
+            for (int q = 0; q < 60; q++) {
+                Ganji second = Ganji.of(q);
+                List<String> labels = new ArrayList<>();
+                int score = BASE_SCORE
+                        + stemScore(first.stem(), second.stem(), labels)
+                        + branchScore(DAY_BRANCH_SCORES, first.branch(), second.branch(), labels);
+                DAY_PILLAR_SCORE[p * 60 + q] = (byte) clamp(score);
+                DAY_PILLAR_LABELS[p * 60 + q] = labels.toArray(new String[0]);
+            }
+        }
+    }
+
+    private CompatibilityTable() {
+    }
+
+    /**
+     * 두 일주의 궁합 점수 (0-100)
+     */
+    public static int dayPillarScore(Ganji a, Ganji b) {
+        return DAY_PILLAR_SCORE[a.index() * 60 + b.index()];
+    }
+
+    /**
+     * 두 일주 사이의 관계 이름 (천간 관계, 지지 관계 순)
+     */
+    public static List<String> dayPillarLabels(Ganji a, Ganji b) {
+        return List.of(DAY_PILLAR_LABELS[a.index() * 60 + b.index()]);
+    }
+
+    /**
+     * 두 띠(년지)의 궁합 점수 (0-100)
+     */
+    public static int yearBranchScore(int a, int b) {
+        return YEAR_BRANCH_SCORE[a * 12 + b];
+    }
+
+    public static List<String> yearBranchLabels(int a, int b) {
+        return List.of(YEAR_BRANCH_LABELS[a * 12 + b]);
+    }
+
+    /**
+     * 두 지지의 관계 비트 (GanjiRelationMatrix 비트 + WONJIN, GWIMUN)
+     */
+    public static int branch(int a, int b) {
+        return BRANCH[a * 12 + b];
+    }
+
+    public static int stemOhang(int stem) {
+        return STEM_OHANG[stem];
+    }
+
+    public static int branchOhang(int branch) {
+        return BRANCH_OHANG[branch];
+    }
+
+    public static String ohangName(int ohang) {
+        return OHANG_NAMES[ohang];
+    }
+
+    private static int stemScore(int a, int b, List<String> labels) {
+        if ((GanjiRelationMatrix.stem(a, b) & GanjiRelationMatrix.STEM_HAP) != 0) {
+            labels.add(GanjiRelationMatrix.stemLabel(a, b));
+            return STEM_HAP_SCORE;
+        }
+        int ohangA = STEM_OHANG[a];
+        int ohangB = STEM_OHANG[b];
+        if (ohangA == ohangB) {
+            labels.add("천간 비화(" + OHANG_NAMES[ohangA] + ")");
+            return STEM_BIHWA_SCORE;
+        }
+        if ((ohangA + 1) % OHANG_COUNT == ohangB || (ohangB + 1) % OHANG_COUNT == ohangA) {
+            labels.add("천간 상생(" + OHANG_NAMES[ohangA] + OHANG_NAMES[ohangB] + ")");
+            return STEM_SAENGSAENG_SCORE;
+        }
+        labels.add("천간 상극(" + OHANG_NAMES[ohangA] + OHANG_NAMES[ohangB] + ")");
+        return STEM_SANGGEUK_SCORE;
+    }
+
+    private static int branchScore(int[][] scores, int a, int b, List<String> labels) {
+        int relations = BRANCH[a * 12 + b];
+        int score = 0;
+        for (int[] entry : scores) {
+            int relation = entry[0];
+            if ((relations & relation) != 0) {
+                labels.add(branchLabel(relation, a, b));
+                score += entry[1];
+            }
+        }
+        return score;
+    }
+
+    private static String branchLabel(int relation, int a, int b) {
+        if (relation == WONJIN) {
+            return Ganji.branchName(a) + Ganji.branchName(b) + "원진";
+        }
+        if (relation == GWIMUN) {
+            return Ganji.branchName(a) + Ganji.branchName(b) + "귀문";
+        }
+        return GanjiRelationMatrix.branchLabel(relation, a, b);
+    }
+
+    private static void addPairs(int relation, String[][] pairs) {
+        for (String[] pair : pairs) {
+            int a = Ganji.branchIndexOf(pair[0]);
+            int b = Ganji.branchIndexOf(pair[1]);
+            BRANCH[a * 12 + b] |= (short) relation;
+            BRANCH[b * 12 + a] |= (short) relation;
+        }
+    }
+
+    private static int clamp(int score) {
+        return Math.max(0, Math.min(100, score));
+    }
+}
@@ -0,0 +1,162 @@
+package com.codism.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * 절기 시각 바이너리 테이블 (ephemeris/ephemeris.bin)
+ * EphemerisGenerator 로 미리 생성한 파일을 FileChannel.map 으로 읽기 전용 매핑하여 모든 스레드가 공유합니다.
+ * 같은 호스트의 여러 JVM 이 동일한 파일을 매핑하므로 페이지 캐시도 공유됩니다.
+ *
+ * 파일 구성 (big-endian int):
+ * [MAGIC][VERSION][최소 연도][최대 연도][절기 수][절기 KST epoch minute ...]
+ * 절기는 연도별 24개씩 (0=소한 ~ 23=동지) 순서대로 저장됩니다.
+ */
+@Slf4j
+public final class EphemerisTable {
+
+    /** 테이블 범위 밖일 때 반환값 */
+    public static final int NOT_FOUND = -1;
+
+    static final String RESOURCE = "/ephemeris/ephemeris.bin";
+    static final int MAGIC = 0x45504853; // "EPHS"
+    static final int VERSION = 2;
+    static final int HEADER_INTS = 5;
+
+    private EphemerisTable() {
+    }
+
+    /**
+     * 최초 사용 시점에 한 번만 매핑
+     */
+    private static final class Holder {
+        static final MappedByteBuffer BUFFER = load();
+        static final int MIN_YEAR = BUFFER != null ? BUFFER.getInt(8) : 0;
+        static final int TERM_COUNT = BUFFER != null ? BUFFER.getInt(16) : 0;
+        static final int TERM_OFFSET = HEADER_INTS * Integer.BYTES;
+    }
+
+    /**
+     * kstMinute 이전(포함) 마지막 절기의 테이블 순번
+     *
+     * @param kstMinute KST epoch minute
+     * @return 순번 (연도 = 최소 연도 + 순번 / 24, 절기 인덱스 = 순번 % 24), 범위 밖이면 NOT_FOUND
+     */
+    public static int findTermOrdinal(long kstMinute) {
+        MappedByteBuffer buffer = Holder.BUFFER;
+        if (buffer == null) {
+            return NOT_FOUND;
+        }
+        int count = Holder.TERM_COUNT;
+        int offset = Holder.TERM_OFFSET;
+        // 마지막 절기(최대 연도 동지) 이후는 다음 소한을 알 수 없으므로 범위 밖으로 처리
+        if (kstMinute < buffer.getInt(offset) || kstMinute >= buffer.getInt(offset + (count - 1) * Integer.BYTES)) {
+            return NOT_FOUND;
+        }
+        return floorIndex(buffer, offset, count, kstMinute);
+    }
+
+    /**
+     * 절기 순번의 양력 연도
+     */
+    public static int termYear(int ordinal) {
+        return Holder.MIN_YEAR + ordinal / SolarTermCalculator.TERM_COUNT;
+    }
+
+    /**
+     * 절기 순번의 절기 인덱스 (0=소한 ~ 23=동지)
+     */
+    public static int termIndex(int ordinal) {
+        return ordinal % SolarTermCalculator.TERM_COUNT;
+    }
+
+    /**
+     * 절기 순번의 절입 시각 (KST epoch minute)
+     */
+    public static long termMinute(int ordinal) {
+        return Holder.BUFFER.getInt(Holder.TERM_OFFSET + ordinal * Integer.BYTES);
+    }
+
+    /**
+     * 정렬된 int 구간에서 key 이하인 마지막 원소의 인덱스 (절대 위치 조회만 사용하므로 스레드 안전)
+     */
+    private static int floorIndex(MappedByteBuffer buffer, int offset, int count, long key) {
+        int low = 0;
+        int high = count - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (buffer.getInt(offset + mid * Integer.BYTES) <= key) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static MappedByteBuffer load() {
+        URL url = EphemerisTable.class.getResource(RESOURCE);
+        if (url == null) {
+            log.warn("절기 테이블 리소스가 없습니다. 천문 계산으로 대체합니다: {}", RESOURCE);
+            return null;
+        }
+        try {
+            Path path = "file".equals(url.getProtocol()) ? Paths.get(url.toURI()) : extract(url);
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                log.warn("절기 테이블 형식이 올바르지 않습니다. 천문 계산으로 대체합니다: {}", path);
+                return null;
+            }
+            log.info("절기 테이블 매핑 완료 - {} ({}~{}년, 절기 {}개)", path,
+                    buffer.getInt(8), buffer.getInt(12), buffer.getInt(16));
+            return buffer;
+        } catch (Exception e) {
+            log.warn("절기 테이블 매핑 실패. 천문 계산으로 대체합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * jar 내부 리소스는 매핑할 수 없으므로 임시 디렉토리에 한 번만 풀어 둡니다.
+     * 파일명에 CRC 를 붙여 같은 내용이면 여러 JVM 이 같은 파일을 공유합니다.
+     */
+    private static Path extract(URL url) throws IOException {
+        byte[] bytes;
+        try (InputStream in = url.openStream()) {
+            bytes = in.readAllBytes();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+
+        Path target = Paths.get(System.getProperty("java.io.tmpdir"),
+                String.format("codism-ephemeris-%08x.bin", crc.getValue()));
+        if (Files.exists(target) && Files.size(target) == bytes.length) {
+            return target;
+        }
+
+        Path temp = Files.createTempFile(target.getParent(), "codism-ephemeris-", ".tmp");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return target;
+    }
+}
@@ -3,9 +3,6 @@ package com.codism.service;
 import com.codism.model.entity.CheonganMaster;
 import com.codism.model.entity.JijiMaster;
 import com.codism.model.entity.YukshipGanjiMaster;
-import com.codism.repository.CheonganMasterRepository;
-import com.codism.repository.JijiMasterRepository;
-import com.codism.repository.YukshipGanjiMasterRepository;
 import com.codism.util.ColorUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,14 +10,13 @@ import org.springframework.stereotype.Service;
 /**
  * 간지 특징 조합 서비스
  * 육십갑자의 특징 + 천간 색상 + 지지 동물 조합
+ * 마스터 정보는 기준 정보 스냅샷(RuleSetService)에서 조회
  */
 @Service
 @RequiredArgsConstructor
 public class GanjiCharacteristicService {
 
-    private final YukshipGanjiMasterRepository yukshipGanjiMasterRepository;
-    private final CheonganMasterRepository cheonganMasterRepository;
-    private final JijiMasterRepository jijiMasterRepository;
+    private final RuleSetService ruleSetService;
 
     /**
      * 간지 조합의 전체 특징 문구 생성
@@ -31,24 +27,16 @@ public class GanjiCharacteristicService {
      * @return 특징 + 색상형용사 + 동물 조합 문구
      */
     public String getFullCharacteristic(String cheongan, String jiji) {
+        MasterDataSnapshot masterData = ruleSetService.current().masterData();
+
         // 1. 육십갑자에서 특징 조회
-        String characteristic = yukshipGanjiMasterRepository
-                .findByCheonganAndJiji(cheongan, jiji)
-                .map(YukshipGanjiMaster::getCharacteristic)
-                .orElse("");
+        String characteristic = characteristicOf(masterData.ganji(cheongan, jiji));
 
         // 2. 천간에서 색상 조회 및 형용사 변환
-        String colorAdjective = cheonganMasterRepository
-                .findByCheonganKorean(cheongan)
-                .map(CheonganMaster::getColor)
-                .map(ColorUtils::convertColorToAdjective)
-                .orElse("");
+        String colorAdjective = colorAdjectiveOf(masterData.cheongan(cheongan));
 
         // 3. 지지에서 동물 조회
-        String animal = jijiMasterRepository
-                .findByJijiKorean(jiji)
-                .map(JijiMaster::getAnimal)
-                .orElse("");
+        String animal = animalOf(masterData.jiji(jiji));
 
         // 4. 조합: "특징 + 색상형용사 + 동물"
         return String.format("%s %s %s", characteristic, colorAdjective, animal).trim();
@@ -60,11 +48,7 @@ public class GanjiCharacteristicService {
      * @return 색상 형용사 (푸른, 붉은, 누런, 흰, 검은)
      */
     public String getColorAdjective(String cheongan) {
-        return cheonganMasterRepository
-                .findByCheonganKorean(cheongan)
-                .map(CheonganMaster::getColor)
-                .map(ColorUtils::convertColorToAdjective)
-                .orElse("");
+        return colorAdjectiveOf(ruleSetService.current().masterData().cheongan(cheongan));
     }
 
     /**
@@ -73,10 +57,7 @@ public class GanjiCharacteristicService {
      * @return 동물명 (쥐, 소, 호랑이...)
      */
     public String getAnimal(String jiji) {
-        return jijiMasterRepository
-                .findByJijiKorean(jiji)
-                .map(JijiMaster::getAnimal)
-                .orElse("");
+        return animalOf(ruleSetService.current().masterData().jiji(jiji));
     }
 
     /**
@@ -86,10 +67,7 @@ public class GanjiCharacteristicService {
      * @return 특징 (센스 있는, 영리한, 용감한...)
      */
     public String getCharacteristic(String cheongan, String jiji) {
-        return yukshipGanjiMasterRepository
-                .findByCheonganAndJiji(cheongan, jiji)
-                .map(YukshipGanjiMaster::getCharacteristic)
-                .orElse("");
+        return characteristicOf(ruleSetService.current().masterData().ganji(cheongan, jiji));
     }
 
     /**
@@ -105,4 +83,20 @@ public class GanjiCharacteristicService {
         String animal = getAnimal(jiji);
         return String.format("%s %s", colorAdjective, animal).trim();
     }
+
+    private String characteristicOf(YukshipGanjiMaster ganji) {
+        return ganji != null && ganji.getCharacteristic() != null ? ganji.getCharacteristic() : "";
+    }
+
+    private String colorAdjectiveOf(CheonganMaster cheongan) {
+        if (cheongan == null || cheongan.getColor() == null) {
+            return "";
+        }
+        String adjective = ColorUtils.convertColorToAdjective(cheongan.getColor());
+        return adjective != null ? adjective : "";
+    }
+
+    private String animalOf(JijiMaster jiji) {
+        return jiji != null && jiji.getAnimal() != null ? jiji.getAnimal() : "";
+    }
 }
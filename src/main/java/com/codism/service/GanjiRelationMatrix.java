@@ -0,0 +1,236 @@
+package com.codism.service;
+
+import com.codism.model.vo.Ganji;
+
+import java.util.List;
+
+/**
+ * 천간/지지 관계 행렬 (불변)
+ * 천간 10 x 10, 지지 12 x 12 의 모든 쌍에 대해 합/충/형/파/해 관계를 비트 플래그로 미리 계산해 둡니다.
+ * 분석은 쌍마다 배열 조회 한 번이고, 표시용 이름은 쌍마다 미리 만들어 둔 문자열을 사용합니다.
+ *
+ * 세 지지가 모두 있어야 성립하는 삼합/방합/삼형은 지지 12bit 집합(bit i = 지지 i)으로 판단합니다.
+ */
+public final class GanjiRelationMatrix {
+
+    // 천간 관계
+    public static final int STEM_HAP = 1;           // 천간합 (갑기, 을경, 병신, 정임, 무계)
+
+    // 지지 관계
+    public static final int YUKHAP = 1;             // 육합
+    public static final int BANHAP = 1 << 1;        // 반합 (삼합 중 왕지를 포함한 두 지지)
+    public static final int CHUNG = 1 << 2;         // 육충
+    public static final int HYEONG = 1 << 3;        // 형 (삼형 중 두 지지, 자묘형, 자형)
+    public static final int PA = 1 << 4;            // 육파
+    public static final int HAE = 1 << 5;           // 육해
+
+    private static final int BRANCH_RELATION_COUNT = 6;
+
+    // 천간합 이름 (갑기=0, 을경=1, ... 앞 천간 기준)
+    private static final String[] STEM_HAP_NAMES = {"갑기합토", "을경합금", "병신합수", "정임합목", "무계합화"};
+
+    // 육합/육파/육해 (두 지지, 이름)
+    private static final String[][] YUKHAP_PAIRS = {
+            {"자", "축", "자축합토"}, {"인", "해", "인해합목"}, {"묘", "술", "묘술합화"},
+            {"진", "유", "진유합금"}, {"사", "신", "사신합수"}, {"오", "미", "오미합화"}
+    };
+
+    private static final String[][] PA_PAIRS = {
+            {"자", "유", "자유파"}, {"오", "묘", "오묘파"}, {"진", "축", "진축파"},
+            {"술", "미", "술미파"}, {"해", "신", "해신파"}, {"인", "사", "인사파"}
+    };
+
+    private static final String[][] HAE_PAIRS = {
+            {"자", "미", "자미해"}, {"축", "오", "축오해"}, {"인", "사", "인사해"},
+            {"묘", "진", "묘진해"}, {"신", "해", "신해해"}, {"유", "술", "유술해"}
+    };
+
+    // 삼합 (생지, 왕지, 묘지, 오행)
+    private static final String[][] SAMHAP = {
+            {"신", "자", "진", "수"}, {"해", "묘", "미", "목"}, {"인", "오", "술", "화"}, {"사", "유", "축", "금"}
+    };
+
+    // 방합 (계절별 세 지지, 오행)
+    private static final String[][] BANGHAP = {
+            {"인", "묘", "진", "목"}, {"사", "오", "미", "화"}, {"신", "유", "술", "금"}, {"해", "자", "축", "수"}
+    };
+
+    // 삼형 (세 지지, 이름)
+    private static final String[][] SAMHYEONG = {
+            {"인", "사", "신", "무은지형"}, {"축", "술", "미", "지세지형"}
+    };
+
+    // 자형 (같은 지지끼리)
+    private static final String[] JAHYEONG = {"진", "오", "유", "해"};
+
+    private static final byte[] STEM = new byte[100];
+    private static final String[] STEM_LABELS = new String[100];
+    private static final byte[] BRANCH = new byte[144];
+    private static final String[][] BRANCH_LABELS = new String[BRANCH_RELATION_COUNT][144];
+
+    // 반합/형 쌍이 속한 세 지지 집합 (없으면 0), 세 지지가 모두 있으면 쌍 대신 삼합/삼형으로 표시
+    private static final short[] BANHAP_GROUP = new short[144];
+    private static final short[] HYEONG_GROUP = new short[144];
+
+    private static final short[] SAMHAP_MASKS = new short[SAMHAP.length];
+    private static final String[] SAMHAP_LABELS = new String[SAMHAP.length];
+    private static final short[] BANGHAP_MASKS = new short[BANGHAP.length];
+    private static final String[] BANGHAP_LABELS = new String[BANGHAP.length];
+    private static final short[] SAMHYEONG_MASKS = new short[SAMHYEONG.length];
+    private static final String[] SAMHYEONG_LABELS = new String[SAMHYEONG.length];
+
+    static {
+        for (int a = 0; a < 10; a++) {
+            for (int b = 0; b < 10; b++) {
+                if (Math.abs(a - b) == 5) {
+                    STEM[a * 10 + b] = STEM_HAP;
+                    STEM_LABELS[a * 10 + b] = STEM_HAP_NAMES[Math.min(a, b)];
+                }
+            }
+        }
+
+        addPairs(YUKHAP, YUKHAP_PAIRS);
+        addPairs(PA, PA_PAIRS);
+        addPairs(HAE, HAE_PAIRS);
+
+        // 충: 마주 보는 지지
+        for (int a = 0; a < 12; a++) {
+            int b = (a + 6) % 12;
+            if (a < b) {
+                put(CHUNG, a, b, Ganji.branchName(a) + Ganji.branchName(b) + "충");
+            }
+        }
+
+        for (int g = 0; g < SAMHAP.length; g++) {
+            String[] group = SAMHAP[g];
+            SAMHAP_MASKS[g] = mask(group);
+            SAMHAP_LABELS[g] = group[0] + group[1] + group[2] + " 삼합" + group[3] + "국";
+            // 왕지(가운데)를 포함한 두 지지만 반합
+            put(BANHAP, index(group[0]), index(group[1]), group[0] + group[1] + "반합" + group[3]);
+            put(BANHAP, index(group[1]), index(group[2]), group[1] + group[2] + "반합" + group[3]);
+            setGroup(BANHAP_GROUP, index(group[0]), index(group[1]), SAMHAP_MASKS[g]);
+            setGroup(BANHAP_GROUP, index(group[1]), index(group[2]), SAMHAP_MASKS[g]);
+        }
+
+        for (int g = 0; g < BANGHAP.length; g++) {
+            String[] group = BANGHAP[g];
+            BANGHAP_MASKS[g] = mask(group);
+            BANGHAP_LABELS[g] = group[0] + group[1] + group[2] + " 방합" + group[3] + "국";
+        }
+
+        for (int g = 0; g < SAMHYEONG.length; g++) {
+            String[] group = SAMHYEONG[g];
+            SAMHYEONG_MASKS[g] = mask(group);
+            SAMHYEONG_LABELS[g] = group[0] + group[1] + group[2] + " 삼형(" + group[3] + ")";
+            int[][] pairs = {{0, 1}, {1, 2}, {0, 2}};
+            for (int[] pair : pairs) {
+                int a = index(group[pair[0]]);
+                int b = index(group[pair[1]]);
+                put(HYEONG, a, b, group[pair[0]] + group[pair[1]] + "형");
+                setGroup(HYEONG_GROUP, a, b, SAMHYEONG_MASKS[g]);
+            }
+        }
+        put(HYEONG, index("자"), index("묘"), "자묘형");
+        for (String branch : JAHYEONG) {
+            put(HYEONG, index(branch), index(branch), branch + branch + "자형");
+        }
+    }
+
+    private GanjiRelationMatrix() {
+    }
+
+    /**
+     * 두 천간의 관계 비트 (천간 0-9, 범위 밖이면 0)
+     */
+    public static int stem(int a, int b) {
+        return a < 0 || b < 0 || a > 9 || b > 9 ? 0 : STEM[a * 10 + b];
+    }
+
+    public static String stemLabel(int a, int b) {
+        return STEM_LABELS[a * 10 + b];
+    }
+
+    /**
+     * 두 지지의 관계 비트 (지지 0-11, 범위 밖이면 0)
+     */
+    public static int branch(int a, int b) {
+        return a < 0 || b < 0 || a > 11 || b > 11 ? 0 : BRANCH[a * 12 + b];
+    }
+
+    /**
+     * 두 지지의 관계 이름
+     *
+     * @param relation 관계 비트 하나 (YUKHAP, CHUNG ...)
+     */
+    public static String branchLabel(int relation, int a, int b) {
+        return BRANCH_LABELS[Integer.numberOfTrailingZeros(relation)][a * 12 + b];
+    }
+
+    /**
+     * 반합/형 쌍이 속한 세 지지가 모두 있어 쌍 대신 삼합/삼형으로 표시해야 하는지 여부
+     *
+     * @param present 사주에 있는 지지 집합 (bit i = 지지 i)
+     */
+    public static boolean coveredByGroup(int relation, int a, int b, int present) {
+        short[] groups = relation == BANHAP ? BANHAP_GROUP : relation == HYEONG ? HYEONG_GROUP : null;
+        if (groups == null) {
+            return false;
+        }
+        int group = groups[a * 12 + b];
+        return group != 0 && (present & group) == group;
+    }
+
+    /**
+     * 세 지지가 모두 있는 삼합/방합 이름 (삼합, 방합 순)
+     */
+    public static void addGroupHaps(List<String> hapList, int present) {
+        for (int g = 0; g < SAMHAP_MASKS.length; g++) {
+            if ((present & SAMHAP_MASKS[g]) == SAMHAP_MASKS[g]) {
+                hapList.add(SAMHAP_LABELS[g]);
+            }
+        }
+        for (int g = 0; g < BANGHAP_MASKS.length; g++) {
+            if ((present & BANGHAP_MASKS[g]) == BANGHAP_MASKS[g]) {
+                hapList.add(BANGHAP_LABELS[g]);
+            }
+        }
+    }
+
+    /**
+     * 세 지지가 모두 있는 삼형 이름
+     */
+    public static void addGroupHyeongs(List<String> hyeongList, int present) {
+        for (int g = 0; g < SAMHYEONG_MASKS.length; g++) {
+            if ((present & SAMHYEONG_MASKS[g]) == SAMHYEONG_MASKS[g]) {
+                hyeongList.add(SAMHYEONG_LABELS[g]);
+            }
+        }
+    }
+
+    private static void addPairs(int relation, String[][] pairs) {
+        for (String[] pair : pairs) {
+            put(relation, index(pair[0]), index(pair[1]), pair[2]);
+        }
+    }
+
+    private static void put(int relation, int a, int b, String label) {
+        int slot = Integer.numberOfTrailingZeros(relation);
+        BRANCH[a * 12 + b] |= (byte) relation;
+        BRANCH[b * 12 + a] |= (byte) relation;
+        BRANCH_LABELS[slot][a * 12 + b] = label;
+        BRANCH_LABELS[slot][b * 12 + a] = label;
+    }
+
+    private static void setGroup(short[] groups, int a, int b, short mask) {
+        groups[a * 12 + b] = mask;
+        groups[b * 12 + a] = mask;
+    }
+
+    private static short mask(String[] group) {
+        return (short) ((1 << index(group[0])) | (1 << index(group[1])) | (1 << index(group[2])));
+    }
+
+    private static int index(String branch) {
+        return Ganji.branchIndexOf(branch);
+    }
+}
@@ -0,0 +1,141 @@
+package com.codism.service;
+
+import com.codism.model.dto.response.SajuDetailResponse.HapChungAnalysis;
+import com.codism.model.vo.FourPillars;
+import com.codism.model.vo.Ganji;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codism.service.GanjiRelationMatrix.BANHAP;
+import static com.codism.service.GanjiRelationMatrix.CHUNG;
+import static com.codism.service.GanjiRelationMatrix.HAE;
+import static com.codism.service.GanjiRelationMatrix.HYEONG;
+import static com.codism.service.GanjiRelationMatrix.PA;
+import static com.codism.service.GanjiRelationMatrix.STEM_HAP;
+import static com.codism.service.GanjiRelationMatrix.YUKHAP;
+
+/**
+ * 합충형파해 분석기
+ * 사주 내부 작용(원국)과 대운/세운/월운과의 작용을 나누어 계산합니다.
+ * 원국 분석 결과는 출생 정보만으로 정해지므로 NatalChart 에 담겨 캐시되고,
+ * 운과의 작용은 요청마다 원국 결과에 덧붙입니다.
+ *
+ * 관계 판단은 GanjiRelationMatrix 의 비트 플래그 조회로 하고, 성립한 관계만 마지막에 "위치-위치 이름" 으로 만듭니다.
+ */
+@Component
+public class HapChungAnalyzer {
+
+    private static final String[] STEM_POSITIONS = {"년간", "월간", "일간", "시간"};
+    private static final String[] BRANCH_POSITIONS = {"년지", "월지", "일지", "시지"};
+
+    // 기둥 쌍 (년-월, 년-일, 년-시, 월-일, 월-시, 일-시)
+    private static final int[][] PILLAR_PAIRS = {{0, 1}, {0, 2}, {0, 3}, {1, 2}, {1, 3}, {2, 3}};
+
+    /**
+     * 사주 내부 합충형파해 분석 (운과의 작용 목록은 비어 있음)
+     * 합: 천간합, 육합, 반합, 삼합/방합(세 지지가 모두 있을 때)
+     * 형: 삼형 중 두 지지, 자묘형, 자형, 삼형(세 지지가 모두 있으면 두 지지 형 대신 표시)
+     */
+    public HapChungAnalysis analyzeNatal(FourPillars pillars) {
+        Ganji hour = pillars.hour();
+        int[] stems = {pillars.year().stem(), pillars.month().stem(), pillars.day().stem(), hour != null ? hour.stem() : -1};
+        int[] branches = {pillars.year().branch(), pillars.month().branch(), pillars.day().branch(), hour != null ? hour.branch() : -1};
+
+        // 사주에 있는 지지 집합
+        int present = 0;
+        for (int branch : branches) {
+            if (branch >= 0) {
+                present |= 1 << branch;
+            }
+        }
+
+        List<String> hapList = new ArrayList<>();
+        List<String> chungList = new ArrayList<>();
+        List<String> hyeongList = new ArrayList<>();
+        List<String> paList = new ArrayList<>();
+        List<String> haeList = new ArrayList<>();
+
+        // 천간합
+        for (int[] pair : PILLAR_PAIRS) {
+            int a = stems[pair[0]];
+            int b = stems[pair[1]];
+            if ((GanjiRelationMatrix.stem(a, b) & STEM_HAP) != 0) {
+                hapList.add(label(STEM_POSITIONS, pair, GanjiRelationMatrix.stemLabel(a, b)));
+            }
+        }
+
+        // 지지 쌍 관계
+        for (int[] pair : PILLAR_PAIRS) {
+            int a = branches[pair[0]];
+            int b = branches[pair[1]];
+            int relations = GanjiRelationMatrix.branch(a, b);
+            if (relations == 0) {
+                continue;
+            }
+            addBranch(hapList, relations, YUKHAP, pair, a, b);
+            if (!GanjiRelationMatrix.coveredByGroup(BANHAP, a, b, present)) {
+                addBranch(hapList, relations, BANHAP, pair, a, b);
+            }
+            addBranch(chungList, relations, CHUNG, pair, a, b);
+            if (!GanjiRelationMatrix.coveredByGroup(HYEONG, a, b, present)) {
+                addBranch(hyeongList, relations, HYEONG, pair, a, b);
+            }
+            addBranch(paList, relations, PA, pair, a, b);
+            addBranch(haeList, relations, HAE, pair, a, b);
+        }
+
+        // 세 지지 관계
+        GanjiRelationMatrix.addGroupHaps(hapList, present);
+        GanjiRelationMatrix.addGroupHyeongs(hyeongList, present);
+
+        return new HapChungAnalysis(List.copyOf(hapList), List.copyOf(chungList), List.copyOf(hyeongList),
+                List.copyOf(paList), List.copyOf(haeList), List.of(), List.of(), List.of());
+    }
+
+    /**
+     * 원국 분석 결과에 대운/세운/월운과의 작용(일주 기준 합, 충)을 더한 분석 결과
+     *
+     * @param natal 사주 내부 분석 결과 (analyzeNatal)
+     * @param seun 세운, 없으면 null
+     * @param wolun 월운, 없으면 null
+     */
+    public HapChungAnalysis withTransits(HapChungAnalysis natal, Ganji day, Ganji daeun, Ganji seun, Ganji wolun) {
+        return new HapChungAnalysis(natal.getHapList(), natal.getChungList(), natal.getHyeongList(),
+                natal.getPaList(), natal.getHaeList(),
+                transit(day, daeun, "대운"), transit(day, seun, "세운"), transit(day, wolun, "월운"));
+    }
+
+    /**
+     * 일주와 운의 작용 (천간합, 지지 육합/반합, 육충)
+     */
+    private List<String> transit(Ganji day, Ganji luck, String name) {
+        List<String> result = new ArrayList<>();
+        if (luck == null) {
+            return result;
+        }
+
+        if ((GanjiRelationMatrix.stem(day.stem(), luck.stem()) & STEM_HAP) != 0) {
+            result.add("일간-" + name + "천간 " + GanjiRelationMatrix.stemLabel(day.stem(), luck.stem()));
+        }
+
+        int relations = GanjiRelationMatrix.branch(day.branch(), luck.branch());
+        for (int relation : new int[]{YUKHAP, BANHAP, CHUNG}) {
+            if ((relations & relation) != 0) {
+                result.add("일지-" + name + "지지 " + GanjiRelationMatrix.branchLabel(relation, day.branch(), luck.branch()));
+            }
+        }
+        return result;
+    }
+
+    private void addBranch(List<String> list, int relations, int relation, int[] pair, int a, int b) {
+        if ((relations & relation) != 0) {
+            list.add(label(BRANCH_POSITIONS, pair, GanjiRelationMatrix.branchLabel(relation, a, b)));
+        }
+    }
+
+    private String label(String[] positions, int[] pair, String name) {
+        return positions[pair[0]] + "-" + positions[pair[1]] + " " + name;
+    }
+}
@@ -1,6 +1,8 @@
 package com.codism.service;
 
+import com.codism.util.CalendarUtils;
 import com.github.usingsky.calendar.KoreanLunarCalendar;
+import java.time.LocalDate;
 import java.util.Calendar;
 
 /**
@@ -49,8 +51,17 @@ public class LunarCalendarService {
             0x14b63
     };
 
-    // 음력의 1~12월의 날짜 수 (평달)
-    private static final int[] LUNAR_MONTH_DAYS = {29, 30, 29, 30, 29, 30, 29, 30, 29, 30, 29, 30};
+    // 음력 1900년 1월 1일 = 양력 1900년 1월 31일
+    private static final long LUNAR_EPOCH_DAY = CalendarUtils.toEpochDay(1900, 1, 31);
+
+    // 연도별 월 슬롯 수 (윤달 포함 최대 13개 + 연말 경계 1개)
+    private static final int MONTH_SLOTS = 14;
+
+    // 연도별 설날의 epoch day (1900년 ~ 2051년 설날)
+    private static final long[] LUNAR_YEAR_START = buildLunarYearStart();
+
+    // 연도별 각 월 슬롯의 설날 기준 누적 일수
+    private static final int[] LUNAR_MONTH_OFFSET = buildLunarMonthOffset();
 
     // 천간(天干)
     private static final String[] CELESTIAL_STEMS = {
@@ -68,7 +79,9 @@ public class LunarCalendarService {
     };
 
     /**
-     * 양력 날짜를 음력으로 변환 (KoreanLunarCalendar 라이브러리 사용)
+     * 양력 날짜를 음력으로 변환
+     * 지원 범위(1900-01-31 ~ 2050-12-31)는 미리 계산된 LunarDateTable 에서 조회하고,
+     * 범위 밖의 날짜만 KoreanLunarCalendar 라이브러리로 계산합니다.
      *
      * @param year  양력 연도
      * @param month 양력 월 (1-12)
@@ -76,22 +89,36 @@ public class LunarCalendarService {
      * @return 음력 날짜를 나타내는 LunarDate 객체
      */
     public static LunarDate solarToLunar(int year, int month, int day) {
-        try {
-            KoreanLunarCalendar calendar = KoreanLunarCalendar.getInstance();
-            calendar.setSolarDate(year, month, day);
-
-            // 음력 정보 추출 - getLunarIsoFormat()은 "YYYY-MM-DD" 형식 반환
-            String lunarIso = calendar.getLunarIsoFormat();
-            String[] parts = lunarIso.split("-");
+        int packed = solarToLunarPacked(year, month, day);
+        return new LunarDate(LunarDateTable.year(packed), LunarDateTable.month(packed),
+                LunarDateTable.day(packed), LunarDateTable.isLeapMonth(packed));
+    }
 
-            int lunarYear = Integer.parseInt(parts[0]);
-            int lunarMonth = Integer.parseInt(parts[1]);
-            int lunarDay = Integer.parseInt(parts[2]);
+    /**
+     * 양력 날짜를 음력으로 변환 (packed int 반환, 지원 범위에서는 객체 생성 없음)
+     * 결과는 LunarDateTable.year/month/day/isLeapMonth 로 분해합니다.
+     *
+     * @param year  양력 연도
+     * @param month 양력 월 (1-12)
+     * @param day   양력 일
+     * @return packed 음력 날짜
+     */
+    public static int solarToLunarPacked(int year, int month, int day) {
+        if (!CalendarUtils.isValidDate(year, month, day)) {
+            throw new IllegalArgumentException("음력 변환 실패: " + year + "/" + month + "/" + day);
+        }
 
-            // 윤달 여부는 ISO 형식에서 확인 (intercalation 필드)
-            boolean isLeapMonth = calendar.isIntercalation();
+        int packed = LunarDateTable.lookup(year, month, day);
+        if (packed != LunarDateTable.NOT_FOUND) {
+            return packed;
+        }
 
-            return new LunarDate(lunarYear, lunarMonth, lunarDay, isLeapMonth);
+        try {
+            KoreanLunarCalendar calendar = KoreanLunarCalendar.getInstance();
+            if (!calendar.setSolarDate(year, month, day)) {
+                throw new IllegalArgumentException("지원하지 않는 날짜입니다");
+            }
+            return LunarDateTable.packCurrentLunar(calendar);
         } catch (Exception e) {
             throw new IllegalArgumentException("음력 변환 실패: " + year + "/" + month + "/" + day, e);
         }
@@ -104,48 +131,113 @@ public class LunarCalendarService {
      * @param lunarMonth  음력 월 (1-12)
      * @param lunarDay    음력 일
      * @param isLeapMonth 윤달 여부
-     * @return 양력 날짜를 나타내는 Calendar 객체
+     * @return 양력 날짜를 나타내는 Calendar 객체 (기본 시간대의 자정)
      */
     public static Calendar lunarToSolar(int lunarYear, int lunarMonth, int lunarDay, boolean isLeapMonth) {
+        LocalDate solarDate = lunarToSolarDate(lunarYear, lunarMonth, lunarDay, isLeapMonth);
+
+        Calendar result = Calendar.getInstance();
+        result.clear();
+        result.set(solarDate.getYear(), solarDate.getMonthValue() - 1, solarDate.getDayOfMonth());
+        return result;
+    }
+
+    /**
+     * 음력 날짜를 양력 LocalDate 로 변환
+     *
+     * @param lunarYear   음력 연도
+     * @param lunarMonth  음력 월 (1-12)
+     * @param lunarDay    음력 일
+     * @param isLeapMonth 윤달 여부
+     * @return 양력 날짜
+     */
+    public static LocalDate lunarToSolarDate(int lunarYear, int lunarMonth, int lunarDay, boolean isLeapMonth) {
+        return LocalDate.ofEpochDay(lunarToEpochDay(lunarYear, lunarMonth, lunarDay, isLeapMonth));
+    }
+
+    /**
+     * 음력 날짜를 양력 epoch day 로 변환
+     * 연도별/월별 누적 일수 테이블(LUNAR_YEAR_START, LUNAR_MONTH_OFFSET)을 사용하는 O(1) 계산
+     *
+     * @param lunarYear   음력 연도
+     * @param lunarMonth  음력 월 (1-12)
+     * @param lunarDay    음력 일
+     * @param isLeapMonth 윤달 여부 (해당 연도의 윤달이 아니면 평달로 처리)
+     * @return 1970-01-01 기준 일수
+     */
+    public static long lunarToEpochDay(int lunarYear, int lunarMonth, int lunarDay, boolean isLeapMonth) {
         // 지원 가능한 연도 범위 확인
         if (lunarYear < 1900 || lunarYear > 2050) {
             throw new IllegalArgumentException("지원하는 연도 범위는 1900년에서 2050년까지입니다: " + lunarYear);
         }
+        if (lunarMonth < 1 || lunarMonth > 12) {
+            throw new IllegalArgumentException("음력 월은 1~12 범위여야 합니다: " + lunarMonth);
+        }
 
-        // 기준일자 (1900년 1월 31일은 음력 1900년 1월 1일)
-        Calendar baseDate = Calendar.getInstance();
-        baseDate.set(1900, 0, 31);
-
-        // 1900년 1월 1일부터 입력된 음력 날짜까지의 총 일수 계산
-        long days = 0;
+        int offset = lunarYear - 1900;
+        int slot = getMonthSlot(lunarYear, lunarMonth, isLeapMonth);
+        int monthStart = LUNAR_MONTH_OFFSET[offset * MONTH_SLOTS + slot];
+        int monthLength = LUNAR_MONTH_OFFSET[offset * MONTH_SLOTS + slot + 1] - monthStart;
 
-        // 연도별 일수 더하기
-        for (int year = 1900; year < lunarYear; year++) {
-            days += getLunarYearDays(year);
+        if (lunarDay < 1 || lunarDay > monthLength) {
+            throw new IllegalArgumentException("음력 " + lunarYear + "년 " + (isLeapMonth ? "윤" : "") + lunarMonth
+                    + "월은 " + monthLength + "일까지입니다: " + lunarDay);
         }
 
-        // 해당 연도의 월별 일수
-        int[] monthDays = getLunarMonthDays(lunarYear);
-        int leapMonth = getLeapMonth(lunarYear);
+        return LUNAR_YEAR_START[offset] + monthStart + lunarDay - 1;
+    }
 
-        // 월별 일수 더하기
-        for (int month = 0; month < lunarMonth - 1; month++) {
-            days += monthDays[month];
+    /**
+     * 음력 월의 슬롯 번호 (윤달이 있는 해는 윤달이 해당 월 바로 다음 슬롯을 차지)
+     */
+    private static int getMonthSlot(int year, int month, boolean isLeapMonth) {
+        int leapMonth = getLeapMonth(year);
+        if (leapMonth == 0) {
+            return month - 1;
         }
-
-        // 윤달인 경우 추가 계산
-        if (isLeapMonth && leapMonth == lunarMonth) {
-            days += monthDays[lunarMonth - 1];
+        if (month > leapMonth || (month == leapMonth && isLeapMonth)) {
+            return month;
         }
+        return month - 1;
+    }
 
-        // 일자 더하기
-        days += lunarDay - 1;
-
-        // 기준 날짜에 일수를 더해 양력 날짜 계산
-        Calendar result = Calendar.getInstance();
-        result.setTimeInMillis(baseDate.getTimeInMillis() + days * 24 * 60 * 60 * 1000);
+    /**
+     * 연도별 설날의 epoch day 테이블 생성
+     */
+    private static long[] buildLunarYearStart() {
+        long[] yearStart = new long[LUNAR_INFO.length + 1];
+        yearStart[0] = LUNAR_EPOCH_DAY;
+        for (int i = 0; i < LUNAR_INFO.length; i++) {
+            yearStart[i + 1] = yearStart[i] + getLunarYearDays(1900 + i);
+        }
+        return yearStart;
+    }
 
-        return result;
+    /**
+     * 연도별 월 슬롯(윤달 포함 최대 13개)의 누적 일수 테이블 생성
+     * 윤달이 없는 해의 마지막 슬롯은 연간 일수로 채움
+     */
+    private static int[] buildLunarMonthOffset() {
+        int[] monthOffset = new int[LUNAR_INFO.length * MONTH_SLOTS];
+        for (int i = 0; i < LUNAR_INFO.length; i++) {
+            int year = 1900 + i;
+            int leapMonth = getLeapMonth(year);
+            int base = i * MONTH_SLOTS;
+            int days = 0;
+            int slot = 0;
+            for (int month = 1; month <= 12; month++) {
+                monthOffset[base + slot++] = days;
+                days += getLunarMonthDays(year, month);
+                if (month == leapMonth) {
+                    monthOffset[base + slot++] = days;
+                    days += getLeapMonthDays(year);
+                }
+            }
+            while (slot < MONTH_SLOTS) {
+                monthOffset[base + slot++] = days;
+            }
+        }
+        return monthOffset;
     }
 
     /**
@@ -155,26 +247,11 @@ public class LunarCalendarService {
      * @return 해당 연도의 총 일수
      */
     private static int getLunarYearDays(int year) {
-        int offset = year - 1900;
-        if (offset < 0 || offset >= LUNAR_INFO.length) {
-            throw new IllegalArgumentException("지원되지 않는 연도입니다: " + year);
-        }
-
         int days = 0;
-        int leapMonth = getLeapMonth(year);
-
-        // 1~12월의 일수 합산
-        for (int i = 0; i < 12; i++) {
-            int daysInMonth = (LUNAR_INFO[offset] & (0x10000 >> i)) == 0 ? 29 : 30;
-            days += daysInMonth;
-        }
-
-        // 윤달이 있는 경우 윤달의 일수 추가
-        if (leapMonth > 0) {
-            days += (LUNAR_INFO[offset] & (0x10000 >> (leapMonth - 1))) == 0 ? 29 : 30;
+        for (int month = 1; month <= 12; month++) {
+            days += getLunarMonthDays(year, month);
         }
-
-        return days;
+        return days + getLeapMonthDays(year);
     }
 
     /**
@@ -192,36 +269,27 @@ public class LunarCalendarService {
     }
 
     /**
-     * 음력 연도의 각 월별 일수 계산
+     * 음력 평달의 일수 (LUNAR_INFO 의 0x8000 비트가 1월, 0x10 비트가 12월)
      *
-     * @param year 음력 연도
-     * @return 각 월의 일수 배열 (윤달 포함)
+     * @param year  음력 연도
+     * @param month 음력 월 (1-12)
+     * @return 29 또는 30
      */
-    private static int[] getLunarMonthDays(int year) {
-        int offset = year - 1900;
-        if (offset < 0 || offset >= LUNAR_INFO.length) {
-            throw new IllegalArgumentException("지원되지 않는 연도입니다: " + year);
-        }
-
-        int leapMonth = getLeapMonth(year);
-        int monthCount = leapMonth > 0 ? 13 : 12;
-        int[] monthDays = new int[monthCount];
-
-        for (int i = 0; i < 12; i++) {
-            monthDays[i] = (LUNAR_INFO[offset] & (0x10000 >> i)) == 0 ? 29 : 30;
-        }
-
-        if (leapMonth > 0) {
-            // 윤달의 일수 계산
-            monthDays[12] = (LUNAR_INFO[offset] & (0x10000 >> (leapMonth - 1))) == 0 ? 29 : 30;
+    private static int getLunarMonthDays(int year, int month) {
+        return (LUNAR_INFO[year - 1900] & (0x10000 >> month)) == 0 ? 29 : 30;
+    }
 
-            // 윤달 위치에 삽입
-            for (int i = 12; i > leapMonth; i--) {
-                monthDays[i] = monthDays[i - 1];
-            }
+    /**
+     * 음력 윤달의 일수 (0x10000 비트), 윤달이 없으면 0
+     *
+     * @param year 음력 연도
+     * @return 0, 29 또는 30
+     */
+    private static int getLeapMonthDays(int year) {
+        if (getLeapMonth(year) == 0) {
+            return 0;
         }
-
-        return monthDays;
+        return (LUNAR_INFO[year - 1900] & 0x10000) == 0 ? 29 : 30;
     }
 
     /**
@@ -261,30 +329,7 @@ public class LunarCalendarService {
      * @return 절기 이름, 해당 날짜가 절기가 아니면 null
      */
     public static String getSolarTerm(int year, int month, int day) {
-        // 절기 계산은 복잡한 천문학적 계산이 필요하므로
-        // 이 예제에서는 간단한 구현만 제공합니다.
-        // 실제 구현에서는 절기 테이블을 사용하거나 천문학적 계산이 필요합니다.
-
-        // 24절기 이름
-        final String[] SOLAR_TERMS = {
-                "소한", "대한", "입춘", "우수", "경칩", "춘분",
-                "청명", "곡우", "입하", "소만", "망종", "하지",
-                "소서", "대서", "입추", "처서", "백로", "추분",
-                "한로", "상강", "입동", "소설", "대설", "동지"
-        };
-
-        // 단순화된 구현 - 실제로는 더 정확한 계산이 필요합니다
-        int termIndex = -1;
-
-        // 각 월의 특정 날짜에 해당하는 절기 (매우 간략화된 예시)
-        if (day == 6 || day == 21) {
-            termIndex = (month - 1) * 2;
-            if (day == 21) {
-                termIndex += 1;
-            }
-        }
-
-        return (termIndex >= 0 && termIndex < SOLAR_TERMS.length) ? SOLAR_TERMS[termIndex] : null;
+        return SolarTermCalculator.getTermNameOn(year, month, day);
     }
 
     /**
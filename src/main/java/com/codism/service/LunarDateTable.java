@@ -0,0 +1,136 @@
+package com.codism.service;
+
+import com.codism.util.CalendarUtils;
+import com.github.usingsky.calendar.KoreanLunarCalendar;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+
+/**
+ * 양력 → 음력 변환 테이블
+ * 지원 범위의 모든 날짜를 epoch day 인덱스의 int 배열로 미리 계산해 두고,
+ * 변환 시에는 배열 한 번 조회로 결과를 반환합니다 (객체 생성 없음).
+ *
+ * 한 칸의 비트 구성: [년 12bit][윤달 1bit][월 4bit][일 5bit]
+ */
+@Slf4j
+public final class LunarDateTable {
+
+    /** 테이블 범위 밖일 때 반환값 */
+    public static final int NOT_FOUND = -1;
+
+    // 음력 1900년 1월 1일 = 양력 1900년 1월 31일
+    public static final long MIN_EPOCH_DAY = CalendarUtils.toEpochDay(1900, 1, 31);
+    public static final long MAX_EPOCH_DAY = CalendarUtils.toEpochDay(2050, 12, 31);
+
+    private static final int DAY_BITS = 5;
+    private static final int MONTH_BITS = 4;
+    private static final int MONTH_SHIFT = DAY_BITS;
+    private static final int LEAP_SHIFT = MONTH_SHIFT + MONTH_BITS;
+    private static final int YEAR_SHIFT = LEAP_SHIFT + 1;
+
+    private LunarDateTable() {
+    }
+
+    /**
+     * 최초 사용 시점에 한 번만 테이블 생성
+     */
+    private static final class Holder {
+        static final int[] TABLE = build();
+    }
+
+    /**
+     * 양력 날짜의 음력 값(packed) 조회
+     *
+     * @return packed 음력 날짜, 범위 밖이면 NOT_FOUND
+     */
+    public static int lookup(int solarYear, int solarMonth, int solarDay) {
+        return lookupEpochDay(CalendarUtils.toEpochDay(solarYear, solarMonth, solarDay));
+    }
+
+    /**
+     * epoch day 의 음력 값(packed) 조회
+     *
+     * @return packed 음력 날짜, 범위 밖이면 NOT_FOUND
+     */
+    public static int lookupEpochDay(long epochDay) {
+        int[] table = Holder.TABLE;
+        long index = epochDay - MIN_EPOCH_DAY;
+        if (index < 0 || index >= table.length) {
+            return NOT_FOUND;
+        }
+        return table[(int) index];
+    }
+
+    public static int year(int packed) {
+        return packed >>> YEAR_SHIFT;
+    }
+
+    public static int month(int packed) {
+        return (packed >>> MONTH_SHIFT) & ((1 << MONTH_BITS) - 1);
+    }
+
+    public static int day(int packed) {
+        return packed & ((1 << DAY_BITS) - 1);
+    }
+
+    public static boolean isLeapMonth(int packed) {
+        return ((packed >>> LEAP_SHIFT) & 1) != 0;
+    }
+
+    static int pack(int year, int month, int day, boolean isLeapMonth) {
+        return (year << YEAR_SHIFT) | ((isLeapMonth ? 1 : 0) << LEAP_SHIFT) | (month << MONTH_SHIFT) | day;
+    }
+
+    /**
+     * KoreanLunarCalendar 의 현재 음력 값을 packed 형태로 변환
+     * getLunarIsoFormat() 은 "YYYY-MM-DD" (윤달이면 뒤에 " Intercalation") 형식을 반환
+     */
+    static int packCurrentLunar(KoreanLunarCalendar calendar) {
+        String[] parts = calendar.getLunarIsoFormat().split("[- ]");
+        return pack(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                calendar.isIntercalation());
+    }
+
+    /**
+     * 테이블 생성
+     * 음력 일은 하루씩 증가시키고, 월말(29일 이상)에서만 라이브러리로 다음 날을 다시 확인합니다.
+     * 따라서 라이브러리 호출은 음력 월 수(약 1,900회) 정도로 끝납니다.
+     */
+    private static int[] build() {
+        long startedAt = System.nanoTime();
+        int size = (int) (MAX_EPOCH_DAY - MIN_EPOCH_DAY + 1);
+        int[] table = new int[size];
+
+        KoreanLunarCalendar calendar = KoreanLunarCalendar.getInstance();
+        int packed = query(calendar, MIN_EPOCH_DAY);
+        int filled = 0;
+        for (int i = 0; i < size && packed != NOT_FOUND; i++) {
+            table[i] = packed;
+            filled = i + 1;
+            if (day(packed) >= 29) {
+                packed = i + 1 < size ? query(calendar, MIN_EPOCH_DAY + i + 1) : NOT_FOUND;
+            } else {
+                packed++;
+            }
+        }
+
+        if (filled < size) {
+            log.warn("음력 변환 테이블이 일부만 생성되었습니다 - {}/{}일", filled, size);
+            int[] truncated = new int[filled];
+            System.arraycopy(table, 0, truncated, 0, filled);
+            table = truncated;
+        }
+
+        log.info("음력 변환 테이블 생성 완료 - {}일, {}ms", table.length, (System.nanoTime() - startedAt) / 1_000_000);
+        return table;
+    }
+
+    private static int query(KoreanLunarCalendar calendar, long epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (!calendar.setSolarDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth())) {
+            return NOT_FOUND;
+        }
+        return packCurrentLunar(calendar);
+    }
+}
@@ -0,0 +1,171 @@
+package com.codism.service;
+
+import com.codism.model.entity.CheonganMaster;
+import com.codism.model.entity.JijiMaster;
+import com.codism.model.entity.SinsalMaster;
+import com.codism.model.entity.SipsungMaster;
+import com.codism.model.entity.YukshipGanjiMaster;
+import com.codism.model.enums.SinsalType;
+import com.codism.model.vo.Ganji;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기준 정보 스냅샷 (불변)
+ * 천간/지지/육십갑자 마스터는 인덱스 배열로, 십성/신살 마스터는 이름으로 조회합니다.
+ * 한자, 색상, 동물, 해석 같은 표시용 정보를 요청마다 DB 에서 읽지 않도록 규칙 스냅샷과 함께 만들어 둡니다.
+ * 십성/신살 기준 정보 API 도 이 스냅샷을 응답하므로, 응답 본문과 ETag(스냅샷 내용 지문)가 항상 같은 데이터를 가리킵니다.
+ *
+ * 담긴 엔티티는 조회 전용이며 수정하지 않습니다.
+ */
+public final class MasterDataSnapshot {
+
+    private final CheonganMaster[] cheongans = new CheonganMaster[10];
+    private final JijiMaster[] jijis = new JijiMaster[12];
+    private final YukshipGanjiMaster[] ganjis = new YukshipGanjiMaster[60];
+    private final Map<String, SipsungMaster> sipsungByName = new HashMap<>();
+    private final List<SipsungMaster> sipsungs;
+    private final Map<String, SinsalMaster> sinsalByName = new HashMap<>();
+    private final List<SinsalMaster> sinsals;
+    private final List<SinsalMaster> activeSinsals;
+    private final int rowCount;
+
+    /**
+     * 마스터 목록으로 스냅샷 생성 (같은 글자/이름이 여러 행이면 처음 것 사용)
+     */
+    public MasterDataSnapshot(List<CheonganMaster> cheongans, List<JijiMaster> jijis,
+                              List<YukshipGanjiMaster> ganjis, List<SipsungMaster> sipsungs,
+                              List<SinsalMaster> sinsals) {
+        for (CheonganMaster cheongan : cheongans) {
+            int stem = Ganji.stemIndexOf(cheongan.getCheonganKorean());
+            if (stem >= 0 && this.cheongans[stem] == null) {
+                this.cheongans[stem] = cheongan;
+            }
+        }
+        for (JijiMaster jiji : jijis) {
+            int branch = Ganji.branchIndexOf(jiji.getJijiKorean());
+            if (branch >= 0 && this.jijis[branch] == null) {
+                this.jijis[branch] = jiji;
+            }
+        }
+        for (YukshipGanjiMaster ganji : ganjis) {
+            int stem = Ganji.stemIndexOf(ganji.getCheongan());
+            int branch = Ganji.branchIndexOf(ganji.getJiji());
+            if (stem >= 0 && branch >= 0 && (stem & 1) == (branch & 1)) {
+                int index = Ganji.of(stem, branch).index();
+                if (this.ganjis[index] == null) {
+                    this.ganjis[index] = ganji;
+                }
+            }
+        }
+        for (SipsungMaster sipsung : sipsungs) {
+            sipsungByName.putIfAbsent(sipsung.getSipsungName(), sipsung);
+        }
+        for (SinsalMaster sinsal : sinsals) {
+            sinsalByName.putIfAbsent(sinsal.getSinsalName(), sinsal);
+        }
+        this.sipsungs = List.copyOf(sipsungs);
+        this.sinsals = List.copyOf(sinsals);
+        // findByIsActiveTrueOrderByPriorityDesc 와 같은 순서 (우선순위 없는 행은 마지막)
+        this.activeSinsals = sinsals.stream()
+                .filter(sinsal -> Boolean.TRUE.equals(sinsal.getIsActive()))
+                .sorted(Comparator.comparing(SinsalMaster::getPriority,
+                        Comparator.nullsFirst(Comparator.<Integer>naturalOrder())).reversed())
+                .toList();
+        this.rowCount = cheongans.size() + jijis.size() + ganjis.size() + sipsungs.size() + sinsals.size();
+    }
+
+    /**
+     * 천간 마스터 (천간 인덱스 0-9), 없으면 null
+     */
+    public CheonganMaster cheongan(int stem) {
+        return stem >= 0 && stem < 10 ? cheongans[stem] : null;
+    }
+
+    /**
+     * 천간 마스터 (한글 천간), 없으면 null
+     */
+    public CheonganMaster cheongan(String cheongan) {
+        return cheongan(Ganji.stemIndexOf(cheongan));
+    }
+
+    /**
+     * 지지 마스터 (지지 인덱스 0-11), 없으면 null
+     */
+    public JijiMaster jiji(int branch) {
+        return branch >= 0 && branch < 12 ? jijis[branch] : null;
+    }
+
+    /**
+     * 지지 마스터 (한글 지지), 없으면 null
+     */
+    public JijiMaster jiji(String jiji) {
+        return jiji(Ganji.branchIndexOf(jiji));
+    }
+
+    /**
+     * 육십갑자 마스터, 없으면 null
+     */
+    public YukshipGanjiMaster ganji(Ganji ganji) {
+        return ganjis[ganji.index()];
+    }
+
+    /**
+     * 육십갑자 마스터 (한글 천간 + 지지), 없거나 간지 조합이 아니면 null
+     */
+    public YukshipGanjiMaster ganji(String cheongan, String jiji) {
+        int stem = Ganji.stemIndexOf(cheongan);
+        int branch = Ganji.branchIndexOf(jiji);
+        if (stem < 0 || branch < 0 || (stem & 1) != (branch & 1)) {
+            return null;
+        }
+        return ganjis[Ganji.of(stem, branch).index()];
+    }
+
+    /**
+     * 십성 마스터 (십성명), 없으면 null
+     */
+    public SipsungMaster sipsung(String sipsungName) {
+        return sipsungName != null ? sipsungByName.get(sipsungName) : null;
+    }
+
+    /**
+     * 전체 십성 마스터 (조회 순서 그대로)
+     */
+    public List<SipsungMaster> sipsungs() {
+        return sipsungs;
+    }
+
+    /**
+     * 신살 마스터 (신살명, 비활성 포함), 없으면 null
+     */
+    public SinsalMaster sinsal(String sinsalName) {
+        return sinsalName != null ? sinsalByName.get(sinsalName) : null;
+    }
+
+    /**
+     * 활성 신살 마스터 (우선순위 순)
+     */
+    public List<SinsalMaster> activeSinsals() {
+        return activeSinsals;
+    }
+
+    /**
+     * 유형별 신살 마스터 (비활성 포함, 조회 순서 그대로)
+     */
+    public List<SinsalMaster> sinsals(SinsalType sinsalType) {
+        return sinsals.stream()
+                .filter(sinsal -> sinsal.getSinsalType() == sinsalType)
+                .toList();
+    }
+
+    /**
+     * 스냅샷에 담긴 전체 행 수
+     */
+    public int rowCount() {
+        return rowCount;
+    }
+}
@@ -0,0 +1,237 @@
+package com.codism.service;
+
+import com.codism.model.dto.response.SajuDetailResponse.DaeunInfo;
+import com.codism.model.dto.response.SajuDetailResponse.HapChungAnalysis;
+import com.codism.model.dto.response.SajuDetailResponse.SajuPillar;
+import com.codism.model.entity.CheonganMaster;
+import com.codism.model.entity.JijiMaster;
+import com.codism.model.entity.SipsungMaster;
+import com.codism.model.vo.DaeunStartAge;
+import com.codism.model.vo.FourPillars;
+import com.codism.model.vo.Ganji;
+import com.codism.model.vo.NatalChart;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사주 원국 계산 서비스
+ * 네 기둥, 십성, 신살, 사주 내부 합충형파해, 전체 대운표처럼 출생 정보만으로 정해지는 값을 계산합니다.
+ * 결과(NatalChart)는 출생 정보와 규칙 버전을 키로 캐시하며, 기준일에 따른 값은 SajuDetailService 가 요청마다 덧붙입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NatalChartService {
+
+    private final SipSungCalculatorDB sipSungCalculatorDB;
+    private final SinsalCalculatorDB sinsalCalculatorDB;
+    private final DaeunCalculator daeunCalculator;
+    private final HapChungAnalyzer hapChungAnalyzer;
+    private final RuleSetService ruleSetService;
+
+    /**
+     * 사주 원국 조회
+     *
+     * @param birthDate 생년월일
+     * @param hour 출생 시 (0-23), 모르면 null
+     * @param gender 성별 (대운 순행/역행 판단, "M" 이 아니면 여성)
+     * @param isSolarCalendar 양력 여부
+     * @param explain true 면 신살마다 매칭된 규칙을 함께 담음
+     * @return 사주 원국
+     * @see com.codism.config.NatalChartKeyGenerator
+     */
+    @Cacheable(value = "natalChart", keyGenerator = "natalChartKeyGenerator")
+    public NatalChart getNatalChart(LocalDate birthDate, Integer hour, String gender, boolean isSolarCalendar,
+                                    boolean explain) {
+        log.debug("사주 원국 계산 - birthDate: {}, hour: {}, gender: {}, isSolar: {}",
+                birthDate, hour, gender, isSolarCalendar);
+
+        // 1. 천간지지 계산 (음력 변환이 포함된 메서드 사용)
+        FourPillars pillars = StemBranchCalculator.getFourPillars(
+                birthDate.getYear(), birthDate.getMonthValue(), birthDate.getDayOfMonth(), hour, isSolarCalendar);
+        Ganji yearPillar = pillars.year();
+        Ganji monthPillar = pillars.month();
+        Ganji dayPillar = pillars.day();
+        Ganji hourPillar = pillars.hour();
+
+        // 천간/지지 이름 (DB 기반 계산기 입력용)
+        String yearCheongan = yearPillar.stemName();
+        String yearJiji = yearPillar.branchName();
+        String monthCheongan = monthPillar.stemName();
+        String monthJiji = monthPillar.branchName();
+        String dayCheongan = dayPillar.stemName();
+        String dayJiji = dayPillar.branchName();
+        // 출생 시간을 모르면 시주 없음 (시간/시지는 null 로 넘겨 십성, 신살 계산에서 제외)
+        String hourCheongan = pillars.hasHour() ? hourPillar.stemName() : null;
+        String hourJiji = pillars.hasHour() ? hourPillar.branchName() : null;
+
+        // 일간
+        String ilgan = dayCheongan;
+
+        // 2. 천간십성 계산 (DB 기반)
+        var cheonganSipsungMap = sipSungCalculatorDB.calculateAllSipSung(
+                ilgan, yearCheongan, monthCheongan, hourCheongan
+        );
+
+        // 3. 지지십성 계산 (DB 기반)
+        String yearJijiSipsung = sipSungCalculatorDB.calculateJijiSipsung(ilgan, yearJiji);
+        String monthJijiSipsung = sipSungCalculatorDB.calculateJijiSipsung(ilgan, monthJiji);
+        String dayJijiSipsung = sipSungCalculatorDB.calculateJijiSipsung(ilgan, dayJiji);
+        String hourJijiSipsung = pillars.hasHour() ? sipSungCalculatorDB.calculateJijiSipsung(ilgan, hourJiji) : null;
+
+        // 4. 신살 계산 (DB 기반)
+        var sinsalList = sinsalCalculatorDB.calculateAllSinsal(
+                ilgan,
+                yearJiji, monthJiji, dayJiji, hourJiji,
+                yearCheongan, monthCheongan, hourCheongan,
+                explain
+        );
+
+        // 5. 사주 내부 합충형파해
+        HapChungAnalysis hapChung = hapChungAnalyzer.analyzeNatal(pillars);
+
+        // 6. 대운 시작 나이 (출생 시각 ~ 절입 시각, 월주와 같은 기준 시각 사용)
+        long birthMinute = hour != null
+                ? SolarTermCalculator.toKstMinute(birthDate.getYear(), birthDate.getMonthValue(), birthDate.getDayOfMonth(), hour, 0)
+                : SolarTermCalculator.endOfDayMinute(birthDate.getYear(), birthDate.getMonthValue(), birthDate.getDayOfMonth());
+        DaeunStartAge daeunStart = daeunCalculator.calculateDaeunStartAge(
+                birthDate.getYear(), birthMinute, daeunCalculator.isForwardDaeun(gender, yearPillar));
+
+        // 7. 대운 타임라인 (전체 생애 대운표)
+        List<DaeunInfo> daeunTimeline = calculateDaeunTimeline(daeunStart.years(), gender, yearPillar, monthPillar, ilgan);
+
+        return new NatalChart(
+                pillars,
+                "M".equalsIgnoreCase(gender) ? "M" : "F",
+                createPillar(yearPillar, cheonganSipsungMap.get("year"), yearJijiSipsung, null),
+                createPillar(monthPillar, cheonganSipsungMap.get("month"), monthJijiSipsung, null),
+                createPillar(dayPillar, cheonganSipsungMap.get("day"), dayJijiSipsung, null),
+                pillars.hasHour() ? createPillar(hourPillar, cheonganSipsungMap.get("hour"), hourJijiSipsung, null) : null,
+                sinsalList,
+                hapChung,
+                daeunStart,
+                daeunTimeline
+        );
+    }
+
+    /**
+     * 사주 기둥 생성 (기준 정보 스냅샷에서 한자, 색상 조회)
+     *
+     * @param year 년도 (세운용), 없으면 null
+     */
+    public SajuPillar createPillar(Ganji ganji, String cheonganSipsung, String jijiSipsung, Integer year) {
+        String cheongan = ganji.stemName();
+        String jiji = ganji.branchName();
+
+        // 천간/지지 정보 조회 (한자, 색상)
+        MasterDataSnapshot masterData = ruleSetService.current().masterData();
+        CheonganMaster cheonganMaster = masterData.cheongan(ganji.stem());
+        JijiMaster jijiMaster = masterData.jiji(ganji.branch());
+
+        return new SajuPillar(
+                cheongan,
+                cheonganMaster != null ? cheonganMaster.getCheonganHanja() : cheongan,
+                cheonganMaster != null ? cheonganMaster.getColor() : null,
+                cheonganMaster != null ? cheonganMaster.getColorHex() : null,
+                jiji,
+                jijiMaster != null ? jijiMaster.getJijiHanja() : jiji,
+                jijiMaster != null ? jijiMaster.getColor() : null,
+                jijiMaster != null ? jijiMaster.getColorHex() : null,
+                cheonganSipsung,
+                jijiSipsung,
+                year
+        );
+    }
+
+    /**
+     * 대운 타임라인 계산 (전체 생애 대운표)
+     * 현재 대운 여부와 남은 년수는 기준일에 따라 달라지므로 비워 둠
+     *
+     * @param daeunStartAge 대운 시작 나이 (대운수)
+     * @param gender 성별
+     * @param yearPillar 년주
+     * @param monthPillar 월주
+     * @param ilgan 일간
+     * @return 대운 타임라인 리스트
+     */
+    private List<DaeunInfo> calculateDaeunTimeline(int daeunStartAge, String gender,
+                                                   Ganji yearPillar, Ganji monthPillar, String ilgan) {
+        List<DaeunInfo> daeunList = new ArrayList<>();
+        MasterDataSnapshot masterData = ruleSetService.current().masterData();
+
+        int daeunCycle = daeunCalculator.getDaeunCycle();  // 10년
+        int maxAge = 100;  // 100세까지 계산
+
+        for (int age = daeunStartAge; age < maxAge; age += daeunCycle) {
+            int startAge = age;
+            int endAge = age + daeunCycle - 1;
+
+            // 대운 계산
+            Ganji daeun = daeunCalculator.calculateDaeunForAge(
+                    startAge, daeunStartAge, gender, yearPillar, monthPillar
+            );
+
+            String cheongan = daeun.stemName();
+            String jiji = daeun.branchName();
+
+            // 십성 계산
+            String cheonganSipsung = sipSungCalculatorDB.calculateSipSung(ilgan, cheongan);
+            String jijiSipsung = sipSungCalculatorDB.calculateJijiSipsung(ilgan, jiji);
+
+            // 기간 정보 생성
+            String periodInfo = "전반 5년은 천간(" + cheongan + ") 영향, 후반 5년은 지지(" + jiji + ") 영향";
+
+            // 간단 해석 생성
+            String interpretation = generateDaeunInterpretation(masterData, cheonganSipsung, jijiSipsung);
+
+            // 천간, 지지 한자 조회
+            CheonganMaster cheonganMaster = masterData.cheongan(daeun.stem());
+            JijiMaster jijiMaster = masterData.jiji(daeun.branch());
+
+            daeunList.add(new DaeunInfo(
+                    startAge,
+                    endAge,
+                    cheongan,
+                    cheonganMaster != null ? cheonganMaster.getCheonganHanja() : cheongan,
+                    jiji,
+                    jijiMaster != null ? jijiMaster.getJijiHanja() : jiji,
+                    cheonganSipsung,
+                    jijiSipsung,
+                    false,
+                    interpretation,
+                    null,
+                    periodInfo
+            ));
+        }
+
+        return daeunList;
+    }
+
+    /**
+     * 대운 해석 생성 (십성 마스터에서 조회)
+     */
+    private String generateDaeunInterpretation(MasterDataSnapshot masterData, String cheonganSipsung, String jijiSipsung) {
+        // 천간십성을 우선으로 해석 생성
+        String mainSipsung = cheonganSipsung != null ? cheonganSipsung : jijiSipsung;
+
+        if (mainSipsung == null) {
+            return "안정적인 시기";
+        }
+
+        // 십성 정보 조회
+        SipsungMaster sipsungMaster = masterData.sipsung(mainSipsung);
+
+        if (sipsungMaster != null && sipsungMaster.getDaeunInterpretation() != null) {
+            return sipsungMaster.getDaeunInterpretation();
+        }
+
+        // DB에 없을 경우 기본 메시지
+        return mainSipsung + "운 - 안정적인 시기";
+    }
+}
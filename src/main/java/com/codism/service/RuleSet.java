@@ -0,0 +1,124 @@
+package com.codism.service;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 버전이 붙은 규칙 스냅샷 (불변)
+ * 다시 읽을 때마다 버전이 1씩 올라갑니다.
+ * 규칙에서 파생된 캐시는 버전 대신 내용 지문(cacheVersion)을 키에 포함하므로, 내용이 같으면 다시 읽어도 캐시를 그대로 쓰고
+ * 여러 노드가 Redis 캐시를 함께 써도 같은 데이터를 읽은 노드끼리만 결과를 공유합니다.
+ * 이전 내용의 캐시 항목은 더 이상 조회되지 않다가 캐시 정책에 따라 밀려납니다.
+ */
+public final class RuleSet {
+
+    private final long version;
+    private final String cacheVersion;
+    private final long cacheVersionBits;
+    private final SinsalCatalog sinsal;
+    private final SipsungMatrix sipsung;
+    private final MasterDataSnapshot masterData;
+    private final Watermark watermark;
+    private final LocalDateTime loadedAt;
+
+    /**
+     * @param version      스냅샷 버전 (1부터 시작)
+     * @param cacheVersion 규칙/기준 정보 내용 지문 (RuleSetFingerprint, 16자리 16진수)
+     * @param sinsal       신살 규칙 스냅샷
+     * @param sipsung      십성 조회 행렬
+     * @param masterData   천간/지지/육십갑자/십성 기준 정보
+     * @param watermark    스냅샷을 읽기 직전의 규칙/마스터 테이블 상태 (변경 감지용)
+     */
+    public RuleSet(long version, String cacheVersion, SinsalCatalog sinsal, SipsungMatrix sipsung, MasterDataSnapshot masterData,
+                   Watermark watermark) {
+        this.version = version;
+        this.cacheVersion = cacheVersion;
+        this.cacheVersionBits = Long.parseUnsignedLong(cacheVersion, 16);
+        this.sinsal = sinsal;
+        this.sipsung = sipsung;
+        this.masterData = masterData;
+        this.watermark = watermark;
+        this.loadedAt = LocalDateTime.now();
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 캐시 키용 내용 지문 (데이터가 같으면 노드/버전과 관계없이 같음)
+     */
+    public String cacheVersion() {
+        return cacheVersion;
+    }
+
+    /**
+     * 내용 지문의 64bit 값 (long 캐시 키 조립용)
+     */
+    public long cacheVersionBits() {
+        return cacheVersionBits;
+    }
+
+    public SinsalCatalog sinsal() {
+        return sinsal;
+    }
+
+    public SipsungMatrix sipsung() {
+        return sipsung;
+    }
+
+    public MasterDataSnapshot masterData() {
+        return masterData;
+    }
+
+    public Watermark watermark() {
+        return watermark;
+    }
+
+    public LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * 규칙 테이블 변경 감지 기준
+     * 수정 일시만으로는 행 삭제를 알 수 없으므로 전체 행 수도 함께 비교합니다.
+     */
+    public static final class Watermark {
+
+        private final LocalDateTime lastUpdatedAt;
+        private final long rowCount;
+
+        /**
+         * @param lastUpdatedAt 규칙/마스터 테이블의 가장 최근 수정 일시 (없으면 null)
+         * @param rowCount      규칙/마스터 테이블의 전체 행 수
+         */
+        public Watermark(LocalDateTime lastUpdatedAt, long rowCount) {
+            this.lastUpdatedAt = lastUpdatedAt;
+            this.rowCount = rowCount;
+        }
+
+        public LocalDateTime lastUpdatedAt() {
+            return lastUpdatedAt;
+        }
+
+        public long rowCount() {
+            return rowCount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof Watermark other
+                    && rowCount == other.rowCount && Objects.equals(lastUpdatedAt, other.lastUpdatedAt));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastUpdatedAt, rowCount);
+        }
+
+        @Override
+        public String toString() {
+            return lastUpdatedAt + " / " + rowCount + "행";
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.codism.service;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 규칙/기준 정보 내용 지문
+ * 행의 값(문자열, 숫자, 불리언, enum 필드)만으로 계산하므로 같은 데이터를 읽은 노드끼리는 기동 시각이나 스냅샷 버전과 관계없이 같은 값이 나옵니다.
+ * 여러 노드가 함께 쓰는 Redis 캐시의 키에 넣어, 데이터가 같을 때만 서로의 계산 결과를 재사용하도록 합니다.
+ *
+ * 생성/수정 일시와 연관 엔티티 필드는 제외하며, 행 순서는 결과에 영향을 주지 않습니다.
+ */
+public final class RuleSetFingerprint {
+
+    private static final int LENGTH = 16;
+
+    private RuleSetFingerprint() {
+    }
+
+    /**
+     * 테이블(엔티티 목록)들의 내용 지문 (16자리 16진수)
+     */
+    public static String of(List<?>... tables) {
+        MessageDigest digest = sha256();
+        for (List<?> rows : tables) {
+            List<String> encoded = new ArrayList<>(rows.size());
+            for (Object row : rows) {
+                encoded.add(encode(row));
+            }
+            Collections.sort(encoded);
+            digest.update((byte) 0x1e);
+            for (String row : encoded) {
+                digest.update(row.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0x1f);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest()).substring(0, LENGTH);
+    }
+
+    private static String encode(Object row) {
+        StringBuilder sb = new StringBuilder(row.getClass().getSimpleName());
+        for (Field field : row.getClass().getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || !isValueType(field.getType())) {
+                continue;
+            }
+            try {
+                field.setAccessible(true);
+                sb.append('|').append(field.getName()).append('=').append(field.get(row));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("지문 계산 실패: " + field, e);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isValueType(Class<?> type) {
+        return type.isPrimitive() || type == String.class || Number.class.isAssignableFrom(type)
+                || type == Boolean.class || type == Character.class || type.isEnum();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.codism.service;
+
+/**
+ * 규칙 스냅샷 교체 이벤트
+ * RuleSetService.reload() 가 새 스냅샷으로 바꾼 직후 발행합니다.
+ */
+public final class RuleSetReloadedEvent {
+
+    private final RuleSet previous;
+    private final RuleSet current;
+
+    /**
+     * @param previous 이전 스냅샷 (최초 생성이면 null)
+     * @param current  새 스냅샷
+     */
+    public RuleSetReloadedEvent(RuleSet previous, RuleSet current) {
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public RuleSet previous() {
+        return previous;
+    }
+
+    public RuleSet current() {
+        return current;
+    }
+
+    /**
+     * 데이터 내용이 바뀌었는지 여부 (내용 지문 비교)
+     */
+    public boolean contentChanged() {
+        return previous == null || !previous.cacheVersion().equals(current.cacheVersion());
+    }
+}
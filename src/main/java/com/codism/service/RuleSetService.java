@@ -0,0 +1,200 @@
+package com.codism.service;
+
+import com.codism.model.entity.CheonganMaster;
+import com.codism.model.entity.JijiMaster;
+import com.codism.model.entity.SinsalMaster;
+import com.codism.model.entity.SinsalRule;
+import com.codism.model.entity.SipsungMaster;
+import com.codism.model.entity.SipsungRule;
+import com.codism.model.entity.YukshipGanjiMaster;
+import com.codism.repository.CheonganMasterRepository;
+import com.codism.repository.JijiMasterRepository;
+import com.codism.repository.SinsalMasterRepository;
+import com.codism.repository.SinsalRuleRepository;
+import com.codism.repository.SipsungMasterRepository;
+import com.codism.repository.SipsungRuleRepository;
+import com.codism.repository.YukshipGanjiMasterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 규칙 스냅샷 관리 서비스
+ * 신살 규칙, 십성 행렬, 기준 정보(천간/지지/육십갑자/십성/신살 마스터)를 버전이 붙은 RuleSet 으로 읽어 두고 volatile 참조 하나로 교체합니다.
+ * 다시 읽는 동안에도 계산 요청은 잠금 없이 이전 스냅샷을 사용합니다.
+ *
+ * 다시 읽는 경우
+ * - 관리자 API (POST /api/v1/admin/rules/reload)
+ * - 주기적 변경 감지: 규칙/마스터 테이블의 updated_at 최댓값과 행 수가 바뀐 경우 (천간/지지/육십갑자 마스터 포함)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RuleSetService {
+
+    private final CheonganMasterRepository cheonganMasterRepository;
+    private final JijiMasterRepository jijiMasterRepository;
+    private final SinsalMasterRepository sinsalMasterRepository;
+    private final SinsalRuleRepository sinsalRuleRepository;
+    private final SipsungMasterRepository sipsungMasterRepository;
+    private final SipsungRuleRepository sipsungRuleRepository;
+    private final YukshipGanjiMasterRepository yukshipGanjiMasterRepository;
+    private final SinsalRuleMetrics sinsalRuleMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 전체 사주 조합 사전 계산 여부
+    @Value("${sinsal.precompute.enabled:true}")
+    private boolean precomputeEnabled;
+
+    // 주기적 변경 감지 여부
+    @Value("${rules.reload.poll-enabled:true}")
+    private boolean pollEnabled;
+
+    // 현재 스냅샷 (최초 사용 또는 애플리케이션 기동 완료 시 생성, 갱신 시 통째로 교체)
+    private volatile RuleSet current;
+
+    /**
+     * 기동 완료 후 규칙 스냅샷 생성 (DataInitializer 의 데이터 적재 이후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        current();
+    }
+
+    /**
+     * 현재 규칙 스냅샷 (없으면 DB 에서 읽어 생성)
+     */
+    public RuleSet current() {
+        RuleSet ruleSet = current;
+        if (ruleSet == null) {
+            synchronized (this) {
+                ruleSet = current;
+                if (ruleSet == null) {
+                    ruleSet = load(1);
+                    current = ruleSet;
+                }
+            }
+        }
+        return ruleSet;
+    }
+
+    /**
+     * 현재 규칙 버전
+     */
+    public long version() {
+        return current().version();
+    }
+
+    /**
+     * 현재 규칙/기준 정보 내용 지문 (규칙에서 파생된 캐시의 키에 사용)
+     */
+    public String cacheVersion() {
+        return current().cacheVersion();
+    }
+
+    /**
+     * DB 에서 규칙을 다시 읽어 스냅샷 교체
+     * 새 스냅샷이 완성된 뒤에 참조만 바꾸므로 계산 중인 요청은 이전 스냅샷을 그대로 사용합니다.
+     * 동시에 여러 번 호출되면 한 번에 하나씩 순서대로 처리합니다.
+     * 교체 후 RuleSetReloadedEvent 를 발행합니다 (다른 노드에 캐시 무효화 전파).
+     *
+     * @return 교체된 스냅샷
+     */
+    public synchronized RuleSet reload() {
+        RuleSet previous = current;
+        RuleSet loaded = load(previous != null ? previous.version() + 1 : 1);
+        current = loaded;
+        eventPublisher.publishEvent(new RuleSetReloadedEvent(previous, loaded));
+        return loaded;
+    }
+
+    /**
+     * 규칙 테이블 변경 감지 (rules.reload.poll-interval 간격)
+     */
+    @Scheduled(fixedDelayString = "${rules.reload.poll-interval:60000}",
+            initialDelayString = "${rules.reload.poll-interval:60000}")
+    public void checkForChanges() {
+        RuleSet ruleSet = current;
+        if (!pollEnabled || ruleSet == null) {
+            return;
+        }
+
+        try {
+            RuleSet.Watermark watermark = readWatermark();
+            if (!watermark.equals(ruleSet.watermark())) {
+                log.info("규칙 변경 감지 - {} → {}", ruleSet.watermark(), watermark);
+                reload();
+            }
+        } catch (Exception e) {
+            // 감지 실패 시 기존 스냅샷을 계속 사용
+            log.warn("규칙 변경 감지 실패: {}", e.getMessage());
+        }
+    }
+
+    private RuleSet load(long version) {
+        long startedAt = System.nanoTime();
+
+        // 스냅샷을 읽기 전에 기준을 잡아야 읽는 도중의 변경도 다음 감지에서 잡힘
+        RuleSet.Watermark watermark = readWatermark();
+
+        // 활성 신살과 규칙을 한 번의 JOIN FETCH 로 조회
+        // 카탈로그와 지문은 같은 목록으로 만들어야 지문(cacheVersion)이 카탈로그 내용을 정확히 나타냄
+        List<SinsalRule> sinsalRules = sinsalRuleRepository.findActiveRulesWithSinsal();
+        SinsalCatalog sinsal = SinsalCatalog.of(sinsalRules, precomputeEnabled,
+                sinsalRuleMetrics.isEnabled() ? sinsalRuleMetrics::record : null);
+
+        // 기준 정보와 천간/지지 x 십성 조회 행렬
+        List<CheonganMaster> cheongans = cheonganMasterRepository.findAll();
+        List<JijiMaster> jijis = jijiMasterRepository.findAll();
+        List<SipsungMaster> sipsungs = sipsungMasterRepository.findAll();
+        List<YukshipGanjiMaster> ganjis = yukshipGanjiMasterRepository.findAll();
+        List<SinsalMaster> sinsalMasters = sinsalMasterRepository.findAll();
+        List<SipsungRule> sipsungRules = sipsungRuleRepository.findAll();
+        MasterDataSnapshot masterData = new MasterDataSnapshot(cheongans, jijis, ganjis, sipsungs, sinsalMasters);
+        SipsungMatrix sipsung = SipsungMatrix.build(cheongans, jijis, sipsungRules, sipsungs);
+
+        // 내용 지문 (여러 노드가 함께 쓰는 캐시 키용)
+        String cacheVersion = RuleSetFingerprint.of(sinsalRules,
+                sinsalMasters, cheongans, jijis, ganjis, sipsungs, sipsungRules);
+        RuleSet loaded = new RuleSet(version, cacheVersion, sinsal, sipsung, masterData, watermark);
+
+        SinsalRuleProgram program = sinsal.program();
+        log.info("규칙 스냅샷 v{} ({}) 생성 완료 - 신살 {}개, 규칙 {}개 (일간/년지별 후보 평균 {}개), 사전 계산 {}KB, "
+                        + "십성 행렬 미정 {}칸, 기준 정보 {}행, {}ms",
+                version, cacheVersion, program.sinsalCount(), program.ruleCount(),
+                String.format("%.1f", program.averageCandidateCount()),
+                sinsal.table() != null ? sinsal.table().sizeInBytes() / 1024 : 0,
+                sipsung.unknownCount(), masterData.rowCount(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return loaded;
+    }
+
+    private RuleSet.Watermark readWatermark() {
+        LocalDateTime lastUpdatedAt = Stream.of(
+                        cheonganMasterRepository.findLastUpdatedAt(),
+                        jijiMasterRepository.findLastUpdatedAt(),
+                        yukshipGanjiMasterRepository.findLastUpdatedAt(),
+                        sinsalMasterRepository.findLastUpdatedAt(),
+                        sinsalRuleRepository.findLastUpdatedAt(),
+                        sipsungMasterRepository.findLastUpdatedAt(),
+                        sipsungRuleRepository.findLastUpdatedAt())
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        long rowCount = cheonganMasterRepository.count() + jijiMasterRepository.count()
+                + yukshipGanjiMasterRepository.count()
+                + sinsalMasterRepository.count() + sinsalRuleRepository.count()
+                + sipsungMasterRepository.count() + sipsungRuleRepository.count();
+        return new RuleSet.Watermark(lastUpdatedAt, rowCount);
+    }
+}
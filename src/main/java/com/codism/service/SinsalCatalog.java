@@ -0,0 +1,81 @@
+package com.codism.service;
+
+import com.codism.model.dto.response.SajuDetailResponse;
+import com.codism.model.entity.SinsalMaster;
+import com.codism.model.entity.SinsalRule;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 신살 규칙 스냅샷 (불변)
+ * 활성 신살과 규칙을 한 번에 읽어 컴파일한 결과를 묶어 둡니다.
+ * 갱신은 새 스냅샷을 만들어 참조를 통째로 바꾸는 방식이므로, 읽는 쪽은 잠금 없이 사용합니다.
+ */
+public final class SinsalCatalog {
+
+    private final List<SinsalMaster> sinsals;
+    private final SinsalRuleProgram program;
+    private final SinsalTable table;
+
+    private SinsalCatalog(List<SinsalMaster> sinsals, SinsalRuleProgram program, SinsalTable table) {
+        this.sinsals = sinsals;
+        this.program = program;
+        this.table = table;
+    }
+
+    /**
+     * 규칙 목록으로 스냅샷 생성
+     *
+     * @param rules      신살 마스터가 함께 조회된 활성 규칙 (신살 우선순위 순)
+     * @param precompute 전체 사주 조합 사전 계산 여부
+     * @param statsSink  사전 계산 중 규칙 평가 통계를 받을 곳, 필요 없으면 null
+     */
+    public static SinsalCatalog of(List<SinsalRule> rules, boolean precompute,
+                                   Consumer<SinsalRuleProgram.Stats> statsSink) {
+        Map<Long, SinsalMaster> sinsalById = new LinkedHashMap<>();
+        Map<Long, List<SinsalRule>> rulesBySinsal = new LinkedHashMap<>();
+        for (SinsalRule rule : rules) {
+            sinsalById.putIfAbsent(rule.getSinsalId(), rule.getSinsalMaster());
+            rulesBySinsal.computeIfAbsent(rule.getSinsalId(), id -> new ArrayList<>()).add(rule);
+        }
+
+        List<SinsalMaster> sinsals = List.copyOf(sinsalById.values());
+        SinsalRuleProgram program = SinsalRuleProgram.compile(sinsals, rulesBySinsal);
+        return new SinsalCatalog(sinsals, program, precompute ? SinsalTable.build(program, statsSink) : null);
+    }
+
+    /**
+     * 규칙이 있는 활성 신살 (우선순위 순)
+     */
+    public List<SinsalMaster> sinsals() {
+        return sinsals;
+    }
+
+    public SinsalRuleProgram program() {
+        return program;
+    }
+
+    /**
+     * 사전 계산 테이블, 사용하지 않으면 null
+     */
+    public SinsalTable table() {
+        return table;
+    }
+
+    /**
+     * 사전 계산 테이블에서 사주의 신살 목록 조회 (우선순위 순)
+     * 인덱스는 천간 0-9, 지지 0-11 이며 모르는 값(시주 없음 등)은 -1
+     *
+     * @return 테이블을 쓰지 않거나 테이블에 없는 조합(실제 사주에서 나올 수 없는 입력)이면 null
+     */
+    public List<SajuDetailResponse.SinsalInfo> lookup(int ilgan, int yearStem, int monthStem, int hourStem,
+                                                      int yearBranch, int monthBranch, int dayBranch, int hourBranch) {
+        return table != null
+                ? table.find(ilgan, yearStem, monthStem, hourStem, yearBranch, monthBranch, dayBranch, hourBranch)
+                : null;
+    }
+}
@@ -0,0 +1,184 @@
+package com.codism.service;
+
+import com.codism.model.entity.SinsalRule;
+import com.codism.model.enums.SinsalRuleType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 신살 규칙 평가 통계
+ * 규칙 ID 별, 규칙 타입별로 평가 횟수/매칭 횟수/소요 시간을 LongAdder 로 합산합니다.
+ * 평가 중에는 스레드별 SinsalRuleProgram.Stats 에 기록하고, 끝난 뒤 한 번에 더하므로 경합이 거의 없습니다.
+ * 요청 처리 중 직접 평가할 때는 스레드마다 하나씩 둔 Stats 를 비워 가며 재사용하므로 요청마다 할당하지 않습니다.
+ * 소요 시간은 표본으로 측정한 평가들의 평균입니다.
+ *
+ * 사전 계산 테이블을 쓰면 요청 시에는 규칙을 평가하지 않으므로,
+ * 규칙별 수치는 테이블 생성(전체 사주 조합 평가)과 직접 평가(explain, 테이블 밖 조합)의 합계입니다.
+ */
+@Component
+public class SinsalRuleMetrics {
+
+    @Value("${sinsal.metrics.enabled:true}")
+    private boolean enabled;
+
+    private final Map<Long, Counter> byRule = new ConcurrentHashMap<>();
+    private final Map<SinsalRuleType, Counter> byType;
+
+    // 사전 계산 테이블 조회 횟수
+    private final LongAdder tableLookups = new LongAdder();
+
+    // 규칙을 직접 평가한 요청 수
+    private final LongAdder directEvaluations = new LongAdder();
+
+    // 직접 평가용 스레드별 통계 (요청마다 규칙 수 크기의 배열을 할당하지 않도록 재사용)
+    private final ThreadLocal<SinsalRuleProgram.Stats> threadStats = new ThreadLocal<>();
+
+    public SinsalRuleMetrics() {
+        Map<SinsalRuleType, Counter> counters = new EnumMap<>(SinsalRuleType.class);
+        for (SinsalRuleType type : SinsalRuleType.values()) {
+            counters.put(type, new Counter(type, null));
+        }
+        this.byType = Collections.unmodifiableMap(counters);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 스레드에서 재사용하는 빈 통계 객체, 비활성화 상태면 null
+     * record 로 합산하면 다시 비워지므로 같은 스레드에서 record 전에 두 번 가져오면 안 됩니다.
+     * 규칙이 다시 적재되어 프로그램이 바뀐 경우에만 새로 만듭니다.
+     */
+    public SinsalRuleProgram.Stats threadStats(SinsalRuleProgram program) {
+        if (!enabled) {
+            return null;
+        }
+        SinsalRuleProgram.Stats stats = threadStats.get();
+        if (stats == null || stats.program() != program) {
+            stats = program.newStats();
+            threadStats.set(stats);
+        }
+        return stats;
+    }
+
+    /**
+     * 스레드별 평가 통계 합산 (합산한 규칙의 값은 0 으로 비움)
+     */
+    public void record(SinsalRuleProgram.Stats stats) {
+        if (stats == null) {
+            return;
+        }
+        SinsalRuleProgram program = stats.program();
+        for (int r = 0, count = program.ruleCount(); r < count; r++) {
+            long evaluations = stats.evaluations(r);
+            if (evaluations == 0) {
+                continue;
+            }
+            SinsalRule rule = program.rule(r);
+            Counter ruleCounter = byRule.computeIfAbsent(rule.getRuleId(), id -> new Counter(rule.getRuleType(),
+                    rule.getSinsalMaster() != null ? rule.getSinsalMaster().getSinsalName() : null));
+            ruleCounter.add(evaluations, stats.matches(r), stats.timedEvaluations(r), stats.nanos(r));
+            if (rule.getRuleType() != null) {
+                byType.get(rule.getRuleType()).add(evaluations, stats.matches(r), stats.timedEvaluations(r), stats.nanos(r));
+            }
+            stats.clear(r);
+        }
+    }
+
+    public void recordTableLookup() {
+        if (enabled) {
+            tableLookups.increment();
+        }
+    }
+
+    public void recordDirectEvaluation() {
+        if (enabled) {
+            directEvaluations.increment();
+        }
+    }
+
+    public long tableLookups() {
+        return tableLookups.sum();
+    }
+
+    public long directEvaluations() {
+        return directEvaluations.sum();
+    }
+
+    /**
+     * 규칙 ID 별 통계 (읽는 동안에도 계속 누적되므로 근사값)
+     */
+    public Map<Long, Counter> byRule() {
+        return Collections.unmodifiableMap(byRule);
+    }
+
+    /**
+     * 규칙 타입별 통계
+     */
+    public Map<SinsalRuleType, Counter> byType() {
+        return byType;
+    }
+
+    /**
+     * 누적 카운터
+     */
+    public static final class Counter {
+
+        private final SinsalRuleType ruleType;
+        private final String sinsalName;
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder matches = new LongAdder();
+        private final LongAdder timedEvaluations = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private Counter(SinsalRuleType ruleType, String sinsalName) {
+            this.ruleType = ruleType;
+            this.sinsalName = sinsalName;
+        }
+
+        private void add(long evaluations, long matches, long timedEvaluations, long nanos) {
+            this.evaluations.add(evaluations);
+            this.matches.add(matches);
+            this.timedEvaluations.add(timedEvaluations);
+            this.nanos.add(nanos);
+        }
+
+        public SinsalRuleType ruleType() {
+            return ruleType;
+        }
+
+        public String sinsalName() {
+            return sinsalName;
+        }
+
+        public long evaluations() {
+            return evaluations.sum();
+        }
+
+        public long matches() {
+            return matches.sum();
+        }
+
+        /**
+         * 평가 1회 평균 소요 시간 (ns, 표본 기준)
+         */
+        public double averageNanos() {
+            long timed = timedEvaluations.sum();
+            return timed > 0 ? (double) nanos.sum() / timed : 0;
+        }
+
+        /**
+         * 누적 소요 시간 추정값 (ns, 평균 x 평가 횟수)
+         */
+        public long estimatedNanos() {
+            return Math.round(averageNanos() * evaluations.sum());
+        }
+    }
+}
@@ -0,0 +1,582 @@
+package com.codism.service;
+
+import com.codism.model.dto.response.SajuDetailResponse;
+import com.codism.model.entity.SinsalMaster;
+import com.codism.model.entity.SinsalRule;
+import com.codism.model.enums.SinsalRuleType;
+import com.codism.model.vo.Ganji;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일된 신살 규칙 프로그램 (불변)
+ * sinsal_rule 의 JSON 조건을 한 번만 파싱하여 천간 10bit / 지지 12bit 마스크로 바꿔 두고,
+ * 사주 하나를 평가할 때는 규칙마다 AND/비교 몇 번으로 끝납니다.
+ *
+ * 신살 순번(ordinal)은 우선순위 순서이며, 평가 결과는 순번별 비트가 켜진 long 배열(word)로 반환합니다.
+ * 필요하면 규칙별 평가 통계(Stats)와 신살별로 매칭된 규칙 순번도 함께 기록합니다.
+ *
+ * 일간/년지 조건이 걸린 규칙이 대부분이므로 (일간, 년지) 조합별로 성립할 수 있는 규칙만 추린 후보 목록을 만들어 두고,
+ * 평가할 때는 후보 규칙만 확인합니다. 신살이 늘어나도 사주 하나의 평가 비용은 거의 늘지 않습니다.
+ */
+@Slf4j
+public final class SinsalRuleProgram {
+
+    // 매칭 위치 (null 이나 알 수 없는 값은 DEFAULT: 규칙 타입별 기본 위치, "any" 와 다를 수 있음)
+    private static final byte POSITION_ANY = 0;
+    private static final byte POSITION_YEAR = 1;
+    private static final byte POSITION_MONTH = 2;
+    private static final byte POSITION_DAY = 3;
+    private static final byte POSITION_HOUR = 4;
+    private static final byte POSITION_DEFAULT = 5;
+
+    // 규칙 플래그
+    private static final int FLAG_REQUIRE_ALL = 1;
+    private static final int FLAG_TARGET_IN_YENJI = 1 << 1;
+    private static final int FLAG_NEVER = 1 << 2;
+
+    private static final SinsalRuleType[] TYPES = SinsalRuleType.values();
+
+    // 후보 목록 구간: 일간 (-1 ~ 9) x 년지 (-1 ~ 11), -1 은 값 없음
+    private static final int BRANCH_BUCKETS = 13;
+    private static final int BUCKETS = 11 * BRANCH_BUCKETS;
+
+    // 소요 시간은 규칙별 평가 64번 중 1번만 측정 (System.nanoTime 비용이 규칙 평가보다 큼)
+    private static final long TIMING_SAMPLE_MASK = 63;
+
+    private final SinsalMaster[] sinsals;
+    private final SajuDetailResponse.SinsalInfo[] infos;
+
+    // 규칙별 원본 정보 (통계, explain 용)
+    private final SinsalRule[] rules;
+    private final SajuDetailResponse.MatchedRule[] matchedRules;
+
+    // 규칙별 컴파일 결과
+    private final byte[] type;
+    private final byte[] position;
+    private final byte[] flags;
+    private final short[] stemMask;
+    private final short[] yenjiMask;
+    private final short[] targetMask;
+
+    // 규칙별 신살 순번
+    private final int[] ruleSinsal;
+
+    // (일간, 년지) 별 후보 규칙 [candidateStart[b], candidateStart[b + 1]), 신살 순번 -> 규칙 순번 순서
+    private final int[] candidateStart;
+    private final int[] candidates;
+
+    private SinsalRuleProgram(SinsalMaster[] sinsals, SinsalRule[] rules, int[] ruleStart, byte[] type, byte[] position,
+                              byte[] flags, short[] stemMask, short[] yenjiMask, short[] targetMask) {
+        this.sinsals = sinsals;
+        this.infos = new SajuDetailResponse.SinsalInfo[sinsals.length];
+        for (int i = 0; i < sinsals.length; i++) {
+            infos[i] = new SajuDetailResponse.SinsalInfo(sinsals[i]);
+        }
+        this.rules = rules;
+        this.matchedRules = new SajuDetailResponse.MatchedRule[rules.length];
+        for (int r = 0; r < rules.length; r++) {
+            matchedRules[r] = new SajuDetailResponse.MatchedRule(rules[r]);
+        }
+        this.type = type;
+        this.position = position;
+        this.flags = flags;
+        this.stemMask = stemMask;
+        this.yenjiMask = yenjiMask;
+        this.targetMask = targetMask;
+
+        // 신살별 규칙 구간 [ruleStart[i], ruleStart[i + 1])
+        this.ruleSinsal = new int[rules.length];
+        for (int i = 0; i < sinsals.length; i++) {
+            for (int r = ruleStart[i]; r < ruleStart[i + 1]; r++) {
+                ruleSinsal[r] = i;
+            }
+        }
+
+        // 후보 목록 생성 (규칙 순번이 신살 순번 순이므로 그대로 순회하면 정렬됨)
+        this.candidateStart = new int[BUCKETS + 1];
+        int[] buffer = new int[BUCKETS * rules.length];
+        int count = 0;
+        for (int ilgan = -1; ilgan < 10; ilgan++) {
+            for (int yearBranch = -1; yearBranch < 12; yearBranch++) {
+                candidateStart[bucket(ilgan, yearBranch)] = count;
+                for (int r = 0; r < rules.length; r++) {
+                    if (canMatch(r, ilgan, yearBranch)) {
+                        buffer[count++] = r;
+                    }
+                }
+            }
+        }
+        candidateStart[BUCKETS] = count;
+        this.candidates = Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * 규칙 컴파일
+     *
+     * @param activeSinsals 활성 신살 (우선순위 순)
+     * @param rulesBySinsal 신살 ID 별 규칙
+     */
+    public static SinsalRuleProgram compile(List<SinsalMaster> activeSinsals, Map<Long, List<SinsalRule>> rulesBySinsal) {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        int ruleCount = 0;
+        for (SinsalMaster sinsal : activeSinsals) {
+            ruleCount += rulesBySinsal.getOrDefault(sinsal.getSinsalId(), Collections.emptyList()).size();
+        }
+
+        SinsalMaster[] sinsals = activeSinsals.toArray(new SinsalMaster[0]);
+        SinsalRule[] rules = new SinsalRule[ruleCount];
+        int[] ruleStart = new int[sinsals.length + 1];
+        byte[] type = new byte[ruleCount];
+        byte[] position = new byte[ruleCount];
+        byte[] flags = new byte[ruleCount];
+        short[] stemMask = new short[ruleCount];
+        short[] yenjiMask = new short[ruleCount];
+        short[] targetMask = new short[ruleCount];
+
+        int r = 0;
+        for (int i = 0; i < sinsals.length; i++) {
+            ruleStart[i] = r;
+            for (SinsalRule rule : rulesBySinsal.getOrDefault(sinsals[i].getSinsalId(), Collections.emptyList())) {
+                rules[r] = rule;
+                SinsalRuleType ruleType = rule.getRuleType();
+                if (ruleType == null) {
+                    log.warn("규칙 타입이 null입니다 - rule: {}", rule.getRuleId());
+                    ruleType = TYPES[0];
+                    flags[r] |= FLAG_NEVER;
+                }
+
+                List<String> ilganList = parseJsonArray(objectMapper, rule.getConditionIlgan());
+                List<String> yenjiList = parseJsonArray(objectMapper, rule.getConditionYenji());
+                List<String> targetList = parseJsonArray(objectMapper, rule.getConditionTarget());
+
+                type[r] = (byte) ruleType.ordinal();
+                position[r] = toPosition(rule.getMatchPosition());
+                stemMask[r] = stemMask(ilganList);
+                yenjiMask[r] = branchMask(yenjiList);
+                // 지지-천간 규칙만 대상이 천간
+                targetMask[r] = ruleType == SinsalRuleType.JIJI_TO_CHEONGAN ? stemMask(targetList) : branchMask(targetList);
+
+                if (Boolean.TRUE.equals(rule.getRequireAll())) {
+                    flags[r] |= FLAG_REQUIRE_ALL;
+                }
+                if (ruleType == SinsalRuleType.JIJI_PATTERN) {
+                    // 대상이 2개 미만이거나, 전부 필요한데 지지가 아닌 값이 섞여 있으면 만족할 수 없음
+                    boolean hasInvalid = Integer.bitCount(targetMask[r]) != distinctCount(targetList);
+                    if (targetList.size() < 2 || (Boolean.TRUE.equals(rule.getRequireAll()) && hasInvalid)) {
+                        flags[r] |= FLAG_NEVER;
+                    }
+                }
+                if (ruleType == SinsalRuleType.YENJI_TO_ANY && containsAny(yenjiList, targetList)) {
+                    flags[r] |= FLAG_TARGET_IN_YENJI;
+                }
+                r++;
+            }
+        }
+        ruleStart[sinsals.length] = r;
+
+        return new SinsalRuleProgram(sinsals, rules, ruleStart, type, position, flags, stemMask, yenjiMask, targetMask);
+    }
+
+    /**
+     * 신살 수
+     */
+    public int sinsalCount() {
+        return sinsals.length;
+    }
+
+    /**
+     * 규칙 수
+     */
+    public int ruleCount() {
+        return type.length;
+    }
+
+    /**
+     * (일간, 년지) 조합별 평균 후보 규칙 수 (값이 있는 조합 120개 기준)
+     */
+    public double averageCandidateCount() {
+        long total = 0;
+        for (int ilgan = 0; ilgan < 10; ilgan++) {
+            for (int yearBranch = 0; yearBranch < 12; yearBranch++) {
+                int b = bucket(ilgan, yearBranch);
+                total += candidateStart[b + 1] - candidateStart[b];
+            }
+        }
+        return total / 120.0;
+    }
+
+    /**
+     * 결과 비트셋의 long 개수
+     */
+    public int wordCount() {
+        return (sinsals.length + 63) >>> 6;
+    }
+
+    public SinsalMaster sinsal(int ordinal) {
+        return sinsals[ordinal];
+    }
+
+    /**
+     * 신살 순번의 응답 DTO (불변이므로 공유)
+     */
+    public SajuDetailResponse.SinsalInfo info(int ordinal) {
+        return infos[ordinal];
+    }
+
+    /**
+     * 규칙 순번의 원본 규칙
+     */
+    public SinsalRule rule(int rule) {
+        return rules[rule];
+    }
+
+    /**
+     * 규칙별 평가 통계를 담을 빈 객체 (스레드마다 따로 사용)
+     */
+    public Stats newStats() {
+        return new Stats(this);
+    }
+
+    /**
+     * 사주 평가
+     * 인덱스는 천간 0-9, 지지 0-11 이며 모르는 값(시주 없음 등)은 -1
+     *
+     * @return 해당하는 신살 순번의 비트셋
+     */
+    public long[] evaluate(int ilgan, int yearStem, int monthStem, int hourStem,
+                           int yearBranch, int monthBranch, int dayBranch, int hourBranch) {
+        long[] words = new long[wordCount()];
+        evaluate(ilgan, yearStem, monthStem, hourStem, yearBranch, monthBranch, dayBranch, hourBranch, words, 0);
+        return words;
+    }
+
+    /**
+     * 사주 평가 (결과를 out[offset ...] 에 OR)
+     */
+    public void evaluate(int ilgan, int yearStem, int monthStem, int hourStem,
+                         int yearBranch, int monthBranch, int dayBranch, int hourBranch,
+                         long[] out, int offset) {
+        evaluate(ilgan, yearStem, monthStem, hourStem, yearBranch, monthBranch, dayBranch, hourBranch,
+                out, offset, null, null);
+    }
+
+    /**
+     * 사주 평가 (결과를 out[offset ...] 에 OR)
+     *
+     * @param stats       규칙별 평가 횟수/매칭 횟수/소요 시간(표본)을 누적할 통계, 필요 없으면 null
+     * @param matchedRule 신살 순번별로 매칭된 규칙 순번을 기록할 배열 (매칭되지 않은 신살은 그대로), 필요 없으면 null
+     */
+    public void evaluate(int ilgan, int yearStem, int monthStem, int hourStem,
+                         int yearBranch, int monthBranch, int dayBranch, int hourBranch,
+                         long[] out, int offset, Stats stats, int[] matchedRule) {
+        int ilganBit = bit(ilgan);
+        int yearStemBit = bit(yearStem);
+        int monthStemBit = bit(monthStem);
+        int hourStemBit = bit(hourStem);
+        int yearBit = bit(yearBranch);
+        int monthBit = bit(monthBranch);
+        int dayBit = bit(dayBranch);
+        int hourBit = bit(hourBranch);
+
+        // (일간, 년지) 로 성립할 수 없는 규칙은 후보에서 이미 빠져 있음
+        int b = bucket(ilgan, yearBranch);
+        int matchedSinsal = -1;
+        for (int i = candidateStart[b], end = candidateStart[b + 1]; i < end; i++) {
+            int r = candidates[i];
+            int s = ruleSinsal[r];
+            if (s == matchedSinsal) {
+                // 같은 신살의 나머지 규칙은 볼 필요 없음
+                continue;
+            }
+
+            boolean matched;
+            if (stats == null) {
+                matched = matches(r, ilganBit, yearStemBit, monthStemBit, hourStemBit,
+                        yearBit, monthBit, dayBit, hourBit);
+            } else {
+                stats.evaluations[r]++;
+                if ((stats.sequence[r]++ & TIMING_SAMPLE_MASK) == 0) {
+                    long startedAt = System.nanoTime();
+                    matched = matches(r, ilganBit, yearStemBit, monthStemBit, hourStemBit,
+                            yearBit, monthBit, dayBit, hourBit);
+                    stats.nanos[r] += System.nanoTime() - startedAt;
+                    stats.timedEvaluations[r]++;
+                } else {
+                    matched = matches(r, ilganBit, yearStemBit, monthStemBit, hourStemBit,
+                            yearBit, monthBit, dayBit, hourBit);
+                }
+                if (matched) {
+                    stats.matches[r]++;
+                }
+            }
+
+            if (matched) {
+                out[offset + (s >>> 6)] |= 1L << s;
+                if (matchedRule != null) {
+                    matchedRule[s] = r;
+                }
+                matchedSinsal = s;
+            }
+        }
+    }
+
+    /**
+     * 사주 평가 후 신살마다 매칭된 규칙을 붙여서 반환 (explain 모드)
+     *
+     * @param stats 규칙별 통계, 필요 없으면 null
+     */
+    public List<SajuDetailResponse.SinsalInfo> explain(int ilgan, int yearStem, int monthStem, int hourStem,
+                                                       int yearBranch, int monthBranch, int dayBranch, int hourBranch,
+                                                       Stats stats) {
+        long[] words = new long[wordCount()];
+        int[] matchedRule = new int[sinsals.length];
+        evaluate(ilgan, yearStem, monthStem, hourStem, yearBranch, monthBranch, dayBranch, hourBranch,
+                words, 0, stats, matchedRule);
+
+        List<SajuDetailResponse.SinsalInfo> result = new ArrayList<>();
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                int s = (w << 6) + Long.numberOfTrailingZeros(word);
+                result.add(infos[s].withMatchedRule(matchedRules[matchedRule[s]]));
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 일간과 년지만 보고 규칙이 성립할 가능성이 있는지 판단 (후보 목록 생성용)
+     * 여기서 false 면 나머지 기둥이 무엇이든 matches 도 false 입니다.
+     */
+    private boolean canMatch(int r, int ilgan, int yearBranch) {
+        if ((flags[r] & FLAG_NEVER) != 0) {
+            return false;
+        }
+        int ilganBit = bit(ilgan);
+        int yearBit = bit(yearBranch);
+        int stems = stemMask[r];
+        int yenji = yenjiMask[r];
+        boolean any = position[r] == POSITION_ANY;
+
+        return switch (TYPES[type[r]]) {
+            case ILGAN_JIJI -> (stems & ilganBit) != 0;
+            case ILGAN_YENJI -> (stems & ilganBit) != 0 && (yenji & yearBit) != 0;
+            case YENJI_COMBINATION -> any || (yenji & yearBit) != 0;
+            case YENJI_TO_ANY -> yenji == 0 || (flags[r] & FLAG_TARGET_IN_YENJI) == 0 || (yenji & yearBit) != 0;
+            case ILJU_COMBINATION -> any || (stems & ilganBit) != 0;
+            default -> true;
+        };
+    }
+
+    private static int bucket(int ilgan, int yearBranch) {
+        return (ilgan + 1) * BRANCH_BUCKETS + (yearBranch + 1);
+    }
+
+    private boolean matches(int r, int ilganBit, int yearStemBit, int monthStemBit, int hourStemBit,
+                            int yearBit, int monthBit, int dayBit, int hourBit) {
+        int allBranches = yearBit | monthBit | dayBit | hourBit;
+        int ymhBranches = yearBit | monthBit | hourBit;
+        int ymhStems = yearStemBit | monthStemBit | hourStemBit;
+        int allStems = ilganBit | ymhStems;
+
+        int stems = stemMask[r];
+        int yenji = yenjiMask[r];
+        int target = targetMask[r];
+        boolean any = position[r] == POSITION_ANY;
+
+        return switch (TYPES[type[r]]) {
+            case ILGAN_JIJI -> (stems & ilganBit) != 0 && (target & switch (position[r]) {
+                case POSITION_YEAR -> yearBit;
+                case POSITION_MONTH -> monthBit;
+                case POSITION_DAY -> dayBit;
+                case POSITION_HOUR -> hourBit;
+                default -> allBranches;
+            }) != 0;
+            case YENJI_COMBINATION -> (yenji & (any ? allBranches : yearBit)) != 0;
+            case JIJI_PATTERN -> (flags[r] & FLAG_REQUIRE_ALL) != 0
+                    ? (target & allBranches) == target
+                    : (target & allBranches) != 0;
+            case ILGAN_YENJI -> (stems & ilganBit) != 0 && (yenji & yearBit) != 0;
+            case CHEONGAN_JIJI -> (stems & ymhStems) != 0 && (target & ymhBranches) != 0;
+            case YENJI_TO_ANY -> yenjiToAny(r, yenji, target, yearBit, allBranches);
+            case ILJU_COMBINATION -> any
+                    ? ((stems & yearStemBit) != 0 && (target & yearBit) != 0)
+                    || ((stems & monthStemBit) != 0 && (target & monthBit) != 0)
+                    || ((stems & ilganBit) != 0 && (target & dayBit) != 0)
+                    || ((stems & hourStemBit) != 0 && (target & hourBit) != 0)
+                    : (stems & ilganBit) != 0 && (target & dayBit) != 0;
+            case JIJI_PAIR -> (yenji & allBranches) != 0 && (target & allBranches) != 0;
+            case JIJI_TO_CHEONGAN -> (yenji & allBranches) != 0 && (target & allStems) != 0;
+        };
+    }
+
+    /**
+     * 비트셋을 응답 DTO 목록으로 변환 (우선순위 순)
+     */
+    public List<SajuDetailResponse.SinsalInfo> toInfoList(long[] words, int offset) {
+        List<SajuDetailResponse.SinsalInfo> result = new ArrayList<>();
+        for (int w = 0, count = wordCount(); w < count; w++) {
+            long word = words[offset + w];
+            while (word != 0) {
+                int s = (w << 6) + Long.numberOfTrailingZeros(word);
+                result.add(infos[s]);
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    private boolean yenjiToAny(int r, int yenji, int target, int yearBit, int allBranches) {
+        if (yenji != 0) {
+            if ((flags[r] & FLAG_TARGET_IN_YENJI) != 0) {
+                // 대상이 연지 조건에 포함되면 년지만 확인 (화개살, 조객살 등)
+                if ((yenji & yearBit) == 0) {
+                    return false;
+                }
+            } else if (Integer.bitCount(yenji & allBranches) < 2) {
+                // 그 외에는 연지 조건 중 서로 다른 지지 2개 이상 (삼합 조건)
+                return false;
+            }
+        }
+        return (target & allBranches) != 0;
+    }
+
+    private static int bit(int index) {
+        return index < 0 ? 0 : 1 << index;
+    }
+
+    /**
+     * match_position 변환
+     * "any" 만 전체 기둥이고, null 이나 알 수 없는 값은 규칙 타입별 기본 위치를 씁니다.
+     * (일간-지지는 전체 지지, 년지조합은 년지, 일주조합은 일주)
+     */
+    private static byte toPosition(String matchPosition) {
+        if (matchPosition == null) {
+            return POSITION_DEFAULT;
+        }
+        return switch (matchPosition) {
+            case "any" -> POSITION_ANY;
+            case "year" -> POSITION_YEAR;
+            case "month" -> POSITION_MONTH;
+            case "day" -> POSITION_DAY;
+            case "hour" -> POSITION_HOUR;
+            default -> POSITION_DEFAULT;
+        };
+    }
+
+    private static short stemMask(List<String> values) {
+        int mask = 0;
+        for (String value : values) {
+            mask |= bit(Ganji.stemIndexOf(value));
+        }
+        return (short) mask;
+    }
+
+    private static short branchMask(List<String> values) {
+        int mask = 0;
+        for (String value : values) {
+            mask |= bit(Ganji.branchIndexOf(value));
+        }
+        return (short) mask;
+    }
+
+    private static int distinctCount(List<String> values) {
+        return (int) values.stream().distinct().count();
+    }
+
+    private static boolean containsAny(List<String> source, List<String> values) {
+        for (String value : values) {
+            if (source.contains(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * JSON 배열 파싱 헬퍼 (컴파일 시에만 사용)
+     */
+    private static List<String> parseJsonArray(ObjectMapper objectMapper, String json) {
+        if (json == null || json.trim().isEmpty() || json.equals("any") || json.equals("[]")) {
+            return Collections.emptyList();
+        }
+
+        try {
+            List<String> values = objectMapper.readValue(json, new TypeReference<List<String>>() {});
+            return values != null ? values : Collections.emptyList();
+        } catch (Exception e) {
+            log.error("JSON 파싱 실패: {}", json, e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 규칙 순번별 평가 통계 (스레드 하나에서만 누적, 합산은 SinsalRuleMetrics 가 담당)
+     */
+    public static final class Stats {
+
+        private final SinsalRuleProgram program;
+        private final long[] evaluations;
+        private final long[] matches;
+        private final long[] timedEvaluations;
+        private final long[] nanos;
+
+        // 표본 추출용 평가 순번 (clear 해도 유지, 재사용할 때 매번 첫 평가만 측정되지 않도록)
+        private final long[] sequence;
+
+        private Stats(SinsalRuleProgram program) {
+            this.program = program;
+            this.evaluations = new long[program.ruleCount()];
+            this.matches = new long[program.ruleCount()];
+            this.timedEvaluations = new long[program.ruleCount()];
+            this.nanos = new long[program.ruleCount()];
+            this.sequence = new long[program.ruleCount()];
+        }
+
+        public SinsalRuleProgram program() {
+            return program;
+        }
+
+        public long evaluations(int rule) {
+            return evaluations[rule];
+        }
+
+        public long matches(int rule) {
+            return matches[rule];
+        }
+
+        /**
+         * 소요 시간을 측정한 평가 횟수
+         */
+        public long timedEvaluations(int rule) {
+            return timedEvaluations[rule];
+        }
+
+        /**
+         * 측정한 평가들의 누적 소요 시간 (ns)
+         */
+        public long nanos(int rule) {
+            return nanos[rule];
+        }
+
+        /**
+         * 규칙 하나의 통계를 0 으로 (합산 후 재사용할 때)
+         */
+        void clear(int rule) {
+            evaluations[rule] = 0;
+            matches[rule] = 0;
+            timedEvaluations[rule] = 0;
+            nanos[rule] = 0;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.codism.service;
+
+import com.codism.model.dto.response.SajuDetailResponse;
+import com.codism.model.vo.Ganji;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * 신살 결과 사전 계산 테이블 (불변)
+ * 월간은 년간과 월지로, 시간은 일간과 시지로 정해지므로 실제로 나올 수 있는 사주는
+ * 년주 60 x 월지 12 x 일주 60 x 시지 13(12 + 시주 없음) = 561,600 가지뿐입니다.
+ * 이 전부를 SinsalRuleProgram 으로 미리 평가해 long 배열에 담아 두고, 조회는 배열 인덱스 한 번으로 끝냅니다.
+ *
+ * 항목 하나는 program.wordCount() 개의 long (신살 64개 이하면 1개, 약 4.5MB) 입니다.
+ */
+public final class SinsalTable {
+
+    private static final int HOUR_SLOTS = 13;
+    private static final int NO_HOUR = 12;
+    private static final int ENTRY_COUNT = 60 * 12 * 60 * HOUR_SLOTS;
+
+    private final SinsalRuleProgram program;
+    private final int words;
+    private final long[] table;
+
+    private SinsalTable(SinsalRuleProgram program, long[] table) {
+        this.program = program;
+        this.words = program.wordCount();
+        this.table = table;
+    }
+
+    /**
+     * 모든 사주 조합을 병렬로 평가하여 테이블 생성
+     *
+     * @param statsSink 작업 단위(년주 x 월지)별 규칙 평가 통계를 받을 곳, 필요 없으면 null
+     */
+    public static SinsalTable build(SinsalRuleProgram program, Consumer<SinsalRuleProgram.Stats> statsSink) {
+        int words = program.wordCount();
+        long[] table = new long[ENTRY_COUNT * words];
+
+        // 년주 x 월지 단위로 나누어 병렬 평가 (구간이 겹치지 않으므로 동기화 불필요)
+        IntStream.range(0, 60 * 12).parallel().forEach(yearMonth -> {
+            int year = yearMonth / 12;
+            int monthBranch = yearMonth % 12;
+            int yearStem = year % 10;
+            int yearBranch = year % 12;
+            int monthStem = monthStem(yearStem, monthBranch);
+            SinsalRuleProgram.Stats stats = statsSink != null ? program.newStats() : null;
+
+            for (int day = 0; day < 60; day++) {
+                int dayStem = day % 10;
+                int dayBranch = day % 12;
+                for (int hour = 0; hour < HOUR_SLOTS; hour++) {
+                    int hourBranch = hour == NO_HOUR ? -1 : hour;
+                    int hourStem = hour == NO_HOUR ? -1 : StemBranchCalculator.getTimeStemIndex(dayStem, hourBranch);
+                    int offset = (((yearMonth * 60) + day) * HOUR_SLOTS + hour) * words;
+                    program.evaluate(dayStem, yearStem, monthStem, hourStem,
+                            yearBranch, monthBranch, dayBranch, hourBranch, table, offset, stats, null);
+                }
+            }
+
+            if (stats != null) {
+                statsSink.accept(stats);
+            }
+        });
+
+        return new SinsalTable(program, table);
+    }
+
+    /**
+     * 테이블 크기 (byte)
+     */
+    public long sizeInBytes() {
+        return (long) table.length * Long.BYTES;
+    }
+
+    /**
+     * 사주 조회
+     * 인덱스는 천간 0-9, 지지 0-11 이며 시주가 없으면 시간/시지 -1
+     *
+     * @return 신살 목록 (우선순위 순), 실제로 나올 수 없는 조합(월간/시간 불일치 등)이면 null
+     */
+    public List<SajuDetailResponse.SinsalInfo> find(int ilgan, int yearStem, int monthStem, int hourStem,
+                                                    int yearBranch, int monthBranch, int dayBranch, int hourBranch) {
+        int offset = offsetOf(ilgan, yearStem, monthStem, hourStem, yearBranch, monthBranch, dayBranch, hourBranch);
+        return offset < 0 ? null : program.toInfoList(table, offset);
+    }
+
+    private int offsetOf(int ilgan, int yearStem, int monthStem, int hourStem,
+                         int yearBranch, int monthBranch, int dayBranch, int hourBranch) {
+        if (ilgan < 0 || yearStem < 0 || yearBranch < 0 || monthBranch < 0 || dayBranch < 0
+                || (ilgan & 1) != (dayBranch & 1) || (yearStem & 1) != (yearBranch & 1)
+                || monthStem != monthStem(yearStem, monthBranch)) {
+            return -1;
+        }
+
+        int hour;
+        if (hourBranch < 0 && hourStem < 0) {
+            hour = NO_HOUR;
+        } else if (hourBranch >= 0 && hourStem == StemBranchCalculator.getTimeStemIndex(ilgan, hourBranch)) {
+            hour = hourBranch;
+        } else {
+            return -1;
+        }
+
+        int year = Ganji.of(yearStem, yearBranch).index();
+        int day = Ganji.of(ilgan, dayBranch).index();
+        return (((year * 12 + monthBranch) * 60 + day) * HOUR_SLOTS + hour) * words;
+    }
+
+    /**
+     * 년간과 월지로 월간 계산 (오호둔: 인월 천간 = 년간 * 2 + 2)
+     */
+    private static int monthStem(int yearStem, int monthBranch) {
+        return (yearStem * 2 + 2 + Math.floorMod(monthBranch - 2, 12)) % 10;
+    }
+}
@@ -1,13 +1,8 @@
 package com.codism.service;
 
-import com.codism.model.entity.CheonganMaster;
-import com.codism.model.entity.JijiMaster;
 import com.codism.model.entity.SipsungMaster;
-import com.codism.model.entity.SipsungRule;
-import com.codism.repository.CheonganMasterRepository;
-import com.codism.repository.JijiMasterRepository;
+import com.codism.model.vo.Ganji;
 import com.codism.repository.SipsungMasterRepository;
-import com.codism.repository.SipsungRuleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -19,17 +14,17 @@ import java.util.Optional;
 
 /**
  * DB 기반 십성 계산 서비스
- * 하드코딩 대신 DB에서 규칙을 조회하여 십성 계산
+ * 하드코딩 대신 DB 규칙으로 만든 십성 행렬(SipsungMatrix)에서 조회
+ * 행렬은 규칙 스냅샷(RuleSetService)에 포함되므로 규칙을 다시 읽으면 새 행렬을 사용
+ * 십성 상세 캐시는 키에 규칙 버전을 포함
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SipSungCalculatorDB {
 
-    private final CheonganMasterRepository cheonganMasterRepository;
-    private final JijiMasterRepository jijiMasterRepository;
     private final SipsungMasterRepository sipsungMasterRepository;
-    private final SipsungRuleRepository sipsungRuleRepository;
+    private final RuleSetService ruleSetService;
 
     /**
      * 모든 십성 계산 (년주, 월주, 시주)
@@ -68,80 +63,36 @@ public class SipSungCalculatorDB {
      *
      * @param ilgan 일간
      * @param targetCheongan 대상 천간
-     * @return 십성명
+     * @return 십성명, 천간이 아니거나 규칙이 없으면 "알 수 없음"
      */
-    @Cacheable(value = "sipsung", key = "#ilgan + '_' + #targetCheongan")
     public String calculateSipSung(String ilgan, String targetCheongan) {
-        try {
-            // 일간과 대상이 같으면 비견
-            if (ilgan.equals(targetCheongan)) {
-                return "비견";
-            }
-
-            // 1. 일간의 오행과 음양 조회
-            CheonganMaster ilganMaster = cheonganMasterRepository.findByCheonganKorean(ilgan)
-                    .orElseThrow(() -> new IllegalArgumentException("일간 데이터 없음: " + ilgan));
-
-            // 2. 대상 천간의 오행과 음양 조회
-            CheonganMaster targetMaster = cheonganMasterRepository.findByCheonganKorean(targetCheongan)
-                    .orElseThrow(() -> new IllegalArgumentException("대상 천간 데이터 없음: " + targetCheongan));
-
-            // 3. 십성 규칙 조회
-            Optional<SipsungRule> ruleOpt = sipsungRuleRepository.findByOhangAndEumyang(
-                    ilganMaster.getOhang(),
-                    targetMaster.getOhang(),
-                    ilganMaster.getEumyang(),
-                    targetMaster.getEumyang()
-            );
-
-            if (ruleOpt.isEmpty()) {
-                log.warn("십성 규칙 없음 - 일간: {} ({}{}), 대상: {} ({}{})",
-                        ilgan, ilganMaster.getOhang(), ilganMaster.getEumyang(),
-                        targetCheongan, targetMaster.getOhang(), targetMaster.getEumyang());
-                return "알 수 없음";
-            }
-
-            // 4. 십성 마스터에서 십성명 조회
-            SipsungRule rule = ruleOpt.get();
-            SipsungMaster sipsung = sipsungMasterRepository.findById(rule.getSipsungId())
-                    .orElseThrow(() -> new IllegalArgumentException("십성 마스터 데이터 없음: " + rule.getSipsungId()));
-
-            return sipsung.getSipsungName();
+        return calculateSipSung(Ganji.stemIndexOf(ilgan), Ganji.stemIndexOf(targetCheongan));
+    }
 
-        } catch (Exception e) {
-            log.error("십성 계산 실패 - ilgan: {}, target: {}", ilgan, targetCheongan, e);
-            return "알 수 없음";
-        }
+    /**
+     * 십성 계산 (천간 인덱스 0-9)
+     */
+    public String calculateSipSung(int ilgan, int targetCheongan) {
+        return ruleSetService.current().sipsung().stem(ilgan, targetCheongan);
     }
 
     /**
      * 지지십성 계산 (일간 vs 대상 지지)
-     * 지지의 지장간을 통해 십성 계산
+     * 지지의 지장간(본기)을 통해 십성 계산
      *
      * @param ilgan 일간
      * @param targetJiji 대상 지지
-     * @return 지지십성명
+     * @return 지지십성명, 지지가 아니거나 지장간/규칙이 없으면 "알 수 없음"
      */
-    @Cacheable(value = "jijiSipsung", key = "#ilgan + '_' + #targetJiji")
     public String calculateJijiSipsung(String ilgan, String targetJiji) {
-        try {
-            // 1. 대상 지지의 지장간(본기) 조회
-            JijiMaster jijiMaster = jijiMasterRepository.findByJijiKorean(targetJiji)
-                    .orElseThrow(() -> new IllegalArgumentException("지지 데이터 없음: " + targetJiji));
-
-            String jijanggan = jijiMaster.getJijanggan();
-            if (jijanggan == null || jijanggan.isEmpty()) {
-                log.warn("지장간 데이터 없음 - 지지: {}", targetJiji);
-                return "알 수 없음";
-            }
-
-            // 2. 지장간으로 십성 계산 (천간십성 계산 메서드 재사용)
-            return calculateSipSung(ilgan, jijanggan);
+        return calculateJijiSipsung(Ganji.stemIndexOf(ilgan), Ganji.branchIndexOf(targetJiji));
+    }
 
-        } catch (Exception e) {
-            log.error("지지십성 계산 실패 - ilgan: {}, targetJiji: {}", ilgan, targetJiji, e);
-            return "알 수 없음";
-        }
+    /**
+     * 지지십성 계산 (천간 인덱스 0-9, 지지 인덱스 0-11)
+     */
+    public String calculateJijiSipsung(int ilgan, int targetJiji) {
+        return ruleSetService.current().sipsung().branch(ilgan, targetJiji);
     }
 
     /**
@@ -150,7 +101,7 @@ public class SipSungCalculatorDB {
      * @param sipsungName 십성명
      * @return 십성 상세 정보
      */
-    @Cacheable(value = "sipsungDetail", key = "#sipsungName")
+    @Cacheable(value = "sipsungDetail", key = "@ruleSetService.cacheVersion() + '_' + #sipsungName")
     public Optional<SipsungMaster> getSipsungDetail(String sipsungName) {
         return sipsungMasterRepository.findBySipsungName(sipsungName);
     }
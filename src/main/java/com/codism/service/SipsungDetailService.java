@@ -2,32 +2,33 @@ package com.codism.service;
 
 import com.codism.model.dto.response.SipsungDetailResponse;
 import com.codism.model.entity.SipsungMaster;
-import com.codism.repository.SipsungMasterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 /**
  * 십성 상세 정보 조회 서비스
+ * 십성 마스터는 규칙 스냅샷의 기준 정보(MasterDataSnapshot)에서 읽습니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SipsungDetailService {
 
-    private final SipsungMasterRepository sipsungMasterRepository;
-
     /**
      * 십성 이름으로 상세 정보 조회
      *
+     * @param masterData  기준 정보 스냅샷
      * @param sipsungName 십성 이름 (예: "비견", "식신", "편재" 등)
      * @return 십성 상세 정보
      */
-    public SipsungDetailResponse getSipsungDetail(String sipsungName) {
+    public SipsungDetailResponse getSipsungDetail(MasterDataSnapshot masterData, String sipsungName) {
         log.info("십성 상세 조회 - sipsungName: {}", sipsungName);
 
-        SipsungMaster sipsung = sipsungMasterRepository.findBySipsungName(sipsungName)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 십성입니다: " + sipsungName));
+        SipsungMaster sipsung = masterData.sipsung(sipsungName);
+        if (sipsung == null) {
+            throw new IllegalArgumentException("존재하지 않는 십성입니다: " + sipsungName);
+        }
 
         return new SipsungDetailResponse(sipsung);
     }
@@ -35,12 +36,13 @@ public class SipsungDetailService {
     /**
      * 모든 십성 목록 조회
      *
+     * @param masterData 기준 정보 스냅샷
      * @return 십성 목록
      */
-    public java.util.List<SipsungDetailResponse> getAllSipsung() {
+    public java.util.List<SipsungDetailResponse> getAllSipsung(MasterDataSnapshot masterData) {
         log.info("전체 십성 목록 조회");
 
-        return sipsungMasterRepository.findAll().stream()
+        return masterData.sipsungs().stream()
                 .map(SipsungDetailResponse::new)
                 .toList();
     }
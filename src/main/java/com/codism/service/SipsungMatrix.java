@@ -0,0 +1,167 @@
+package com.codism.service;
+
+import com.codism.model.entity.CheonganMaster;
+import com.codism.model.entity.JijiMaster;
+import com.codism.model.entity.SipsungMaster;
+import com.codism.model.entity.SipsungRule;
+import com.codism.model.vo.Ganji;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 십성 조회 행렬 (불변)
+ * 천간은 10개뿐이므로 일간 x 대상 천간(10 x 10)과 일간 x 대상 지지(10 x 12)의 십성을
+ * 규칙/마스터 테이블에서 한 번에 계산해 byte 배열에 담아 둡니다. 조회는 배열 인덱스 한 번입니다.
+ *
+ * 값은 십성명 배열의 인덱스이며, 규칙이나 마스터 데이터가 없어 정할 수 없는 칸은 -1 (알 수 없음) 입니다.
+ */
+@Slf4j
+public final class SipsungMatrix {
+
+    public static final String UNKNOWN = "알 수 없음";
+
+    private static final byte NONE = -1;
+
+    private final String[] names;
+    private final byte[] stemMatrix;
+    private final byte[] branchMatrix;
+
+    private SipsungMatrix(String[] names, byte[] stemMatrix, byte[] branchMatrix) {
+        this.names = names;
+        this.stemMatrix = stemMatrix;
+        this.branchMatrix = branchMatrix;
+    }
+
+    /**
+     * 마스터/규칙 목록으로 행렬 생성
+     * 일간과 대상이 같은 칸은 규칙과 상관없이 비견입니다.
+     * 지지는 지장간(본기) 천간의 십성을 그대로 사용합니다.
+     */
+    public static SipsungMatrix build(List<CheonganMaster> cheongans, List<JijiMaster> jijis,
+                                      List<SipsungRule> rules, List<SipsungMaster> sipsungs) {
+        List<String> names = new ArrayList<>();
+        Map<Long, Integer> nameIndexById = new HashMap<>();
+        for (SipsungMaster sipsung : sipsungs) {
+            nameIndexById.put(sipsung.getSipsungId(), indexOf(names, sipsung.getSipsungName()));
+        }
+        int bigyeon = indexOf(names, "비견");
+
+        // 오행/음양 조합 -> 십성명 인덱스 (같은 조합이 여러 개면 처음 것 사용)
+        Map<String, Integer> ruleIndex = new HashMap<>();
+        for (SipsungRule rule : rules) {
+            Integer nameIndex = nameIndexById.get(rule.getSipsungId());
+            if (nameIndex != null) {
+                ruleIndex.putIfAbsent(ruleKey(rule.getIlganOhang(), rule.getTargetOhang(),
+                        rule.getIlganEumyang(), rule.getTargetEumyang()), nameIndex);
+            }
+        }
+
+        CheonganMaster[] stems = new CheonganMaster[10];
+        for (CheonganMaster cheongan : cheongans) {
+            int stem = Ganji.stemIndexOf(cheongan.getCheonganKorean());
+            if (stem >= 0 && stems[stem] == null) {
+                stems[stem] = cheongan;
+            }
+        }
+
+        byte[] stemMatrix = new byte[10 * 10];
+        for (int ilgan = 0; ilgan < 10; ilgan++) {
+            for (int target = 0; target < 10; target++) {
+                int value = NONE;
+                if (ilgan == target) {
+                    value = bigyeon;
+                } else if (stems[ilgan] != null && stems[target] != null) {
+                    Integer nameIndex = ruleIndex.get(ruleKey(stems[ilgan].getOhang(), stems[target].getOhang(),
+                            stems[ilgan].getEumyang(), stems[target].getEumyang()));
+                    if (nameIndex == null) {
+                        log.warn("십성 규칙 없음 - 일간: {}, 대상: {}", Ganji.stemName(ilgan), Ganji.stemName(target));
+                    } else {
+                        value = nameIndex;
+                    }
+                }
+                stemMatrix[ilgan * 10 + target] = (byte) value;
+            }
+        }
+
+        int[] jijanggan = new int[12];
+        Arrays.fill(jijanggan, NONE);
+        for (JijiMaster jiji : jijis) {
+            int branch = Ganji.branchIndexOf(jiji.getJijiKorean());
+            if (branch >= 0 && jijanggan[branch] == NONE) {
+                jijanggan[branch] = Ganji.stemIndexOf(jiji.getJijanggan());
+                if (jijanggan[branch] < 0) {
+                    log.warn("지장간 데이터 없음 - 지지: {}", jiji.getJijiKorean());
+                }
+            }
+        }
+
+        byte[] branchMatrix = new byte[10 * 12];
+        for (int ilgan = 0; ilgan < 10; ilgan++) {
+            for (int branch = 0; branch < 12; branch++) {
+                branchMatrix[ilgan * 12 + branch] = jijanggan[branch] >= 0
+                        ? stemMatrix[ilgan * 10 + jijanggan[branch]]
+                        : NONE;
+            }
+        }
+
+        return new SipsungMatrix(names.toArray(new String[0]), stemMatrix, branchMatrix);
+    }
+
+    /**
+     * 천간십성 (일간 vs 대상 천간)
+     * 인덱스는 천간 0-9 이며, 범위 밖 값(시주 없음 등)이면 알 수 없음
+     */
+    public String stem(int ilgan, int target) {
+        if (ilgan < 0 || ilgan > 9 || target < 0 || target > 9) {
+            return UNKNOWN;
+        }
+        return nameOf(stemMatrix[ilgan * 10 + target]);
+    }
+
+    /**
+     * 지지십성 (일간 vs 대상 지지의 지장간 본기)
+     * 인덱스는 천간 0-9, 지지 0-11 이며, 범위 밖 값이면 알 수 없음
+     */
+    public String branch(int ilgan, int branch) {
+        if (ilgan < 0 || ilgan > 9 || branch < 0 || branch > 11) {
+            return UNKNOWN;
+        }
+        return nameOf(branchMatrix[ilgan * 12 + branch]);
+    }
+
+    /**
+     * 정할 수 없는 칸 수 (규칙/마스터 데이터 누락 확인용)
+     */
+    public int unknownCount() {
+        int count = 0;
+        for (byte value : stemMatrix) {
+            count += value == NONE ? 1 : 0;
+        }
+        for (byte value : branchMatrix) {
+            count += value == NONE ? 1 : 0;
+        }
+        return count;
+    }
+
+    private String nameOf(byte value) {
+        return value == NONE ? UNKNOWN : names[value];
+    }
+
+    private static int indexOf(List<String> names, String name) {
+        int index = names.indexOf(name);
+        if (index < 0) {
+            names.add(name);
+            index = names.size() - 1;
+        }
+        return index;
+    }
+
+    private static String ruleKey(String ilganOhang, String targetOhang, String ilganEumyang, String targetEumyang) {
+        return ilganOhang + '|' + targetOhang + '|' + ilganEumyang + '|' + targetEumyang;
+    }
+}
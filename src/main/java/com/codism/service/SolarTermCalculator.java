@@ -0,0 +1,394 @@
+package com.codism.service;
+
+import com.codism.util.CalendarUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 24절기 절입 시각 계산기
+ * 태양의 시황경(apparent longitude)을 VSOP87 축약 급수(Meeus, Astronomical Algorithms 32장)로 계산하고,
+ * 황경이 (285 + 15 × i)도가 되는 순간을 반복법으로 구합니다.
+ *
+ * 결과는 한국 표준시(UTC+9) 기준 epoch minute(1970-01-01 00:00 부터의 분) 로 표현하며,
+ * 연도별 long[24] 배열로 한 번만 계산해 두고 이후에는 이진 탐색으로 조회합니다.
+ * 사주 월/연도 판정은 미리 생성된 EphemerisTable 을 먼저 조회하고, 범위 밖일 때만 직접 계산합니다.
+ * 절기 인덱스: 0=소한, 1=대한, 2=입춘, ..., 22=대설, 23=동지 (짝수가 절(節), 홀수가 중기(中氣))
+ */
+public final class SolarTermCalculator {
+
+    public static final int TERM_COUNT = 24;
+
+    // 메모이제이션 대상 연도 범위 (범위 밖은 매번 계산)
+    public static final int MIN_CACHED_YEAR = 1000;
+    public static final int MAX_CACHED_YEAR = 2200;
+
+    private static final String[] TERM_NAMES = {
+            "소한", "대한", "입춘", "우수", "경칩", "춘분",
+            "청명", "곡우", "입하", "소만", "망종", "하지",
+            "소서", "대서", "입추", "처서", "백로", "추분",
+            "한로", "상강", "입동", "소설", "대설", "동지"
+    };
+
+    private static final int MINUTES_PER_DAY = 1440;
+    private static final int KST_OFFSET_MINUTES = 9 * 60;
+
+    private static final double JD_UNIX_EPOCH = 2440587.5;
+    private static final double J2000 = 2451545.0;
+    private static final double TROPICAL_YEAR = 365.242189;
+
+    private static final AtomicReferenceArray<long[]> CACHE =
+            new AtomicReferenceArray<>(MAX_CACHED_YEAR - MIN_CACHED_YEAR + 1);
+
+    // VSOP87 지구 황경 급수 (A, B, C 순서의 3개씩 묶음, A 단위 1e-8 rad)
+    private static final double[] L0 = {
+            175347046, 0, 0, 3341656, 4.6692568, 6283.0758500, 34894, 4.62610, 12566.15170,
+            3497, 2.7441, 5753.3849, 3418, 2.8289, 3.5231, 3136, 3.6277, 77713.7715,
+            2676, 4.4181, 7860.4194, 2343, 6.1352, 3930.2097, 1324, 0.7425, 11506.7698,
+            1273, 2.0371, 529.6910, 1199, 1.1096, 1577.3435, 990, 5.233, 5884.927,
+            902, 2.045, 26.298, 857, 3.508, 398.149, 780, 1.179, 5223.694,
+            753, 2.533, 5507.553, 505, 4.583, 18849.228, 492, 4.205, 775.523,
+            357, 2.920, 0.067, 317, 5.849, 11790.629, 284, 1.899, 796.298,
+            271, 0.315, 10977.079, 243, 0.345, 5486.778, 206, 4.806, 2544.314,
+            205, 1.869, 5573.143, 202, 2.458, 6069.777, 156, 0.833, 213.299,
+            132, 3.411, 2942.463, 126, 1.083, 20.775, 115, 0.645, 0.980,
+            103, 0.636, 4694.003, 102, 0.976, 15720.839, 102, 4.267, 7.114,
+            99, 6.21, 2146.17, 98, 0.68, 155.42, 86, 5.98, 161000.69,
+            85, 1.30, 6275.96, 85, 3.67, 71430.70, 80, 1.81, 17260.15,
+            79, 3.04, 12036.46, 75, 1.76, 5088.63, 74, 3.50, 3154.69,
+            74, 4.68, 801.82, 70, 0.83, 9437.76, 62, 3.98, 8827.39,
+            61, 1.82, 7084.90, 57, 2.78, 6286.60, 56, 4.39, 14143.50,
+            56, 3.47, 6279.55, 52, 0.19, 12139.55, 52, 1.33, 1748.02,
+            51, 0.28, 5856.48, 49, 0.49, 1194.45, 41, 5.37, 8429.24,
+            41, 2.40, 19651.05, 39, 6.17, 10447.39, 37, 6.04, 10213.29,
+            37, 2.57, 1059.38, 36, 1.71, 2352.87, 36, 1.78, 6812.77,
+            33, 0.59, 17789.85, 30, 0.44, 83996.85, 30, 2.74, 1349.87,
+            25, 3.16, 4690.48
+    };
+
+    private static final double[] L1 = {
+            628331966747.0, 0, 0, 206059, 2.678235, 6283.075850, 4303, 2.6351, 12566.1517,
+            425, 1.590, 3.523, 119, 5.796, 26.298, 109, 2.966, 1577.344,
+            93, 2.59, 18849.23, 72, 1.14, 529.69, 68, 1.87, 398.15,
+            67, 4.41, 5507.55, 59, 2.89, 5223.69, 56, 2.17, 155.42,
+            45, 0.40, 796.30, 36, 0.47, 775.52, 29, 2.65, 7.11,
+            21, 5.34, 0.98, 19, 1.85, 5486.78, 19, 4.97, 213.30,
+            17, 2.99, 6275.96, 16, 0.03, 2544.31, 16, 1.43, 2146.17,
+            15, 1.21, 10977.08, 12, 2.83, 1748.02, 12, 3.26, 5088.63,
+            12, 5.27, 1194.45, 12, 2.08, 4694.00, 11, 0.77, 553.57,
+            10, 1.30, 6286.60, 10, 4.24, 1349.87, 9, 2.70, 242.73,
+            9, 5.64, 951.72, 8, 5.30, 2352.87, 6, 2.65, 9437.76,
+            6, 4.67, 4690.48
+    };
+
+    private static final double[] L2 = {
+            52919, 0, 0, 8720, 1.0721, 6283.0758, 309, 0.867, 12566.152,
+            27, 0.05, 3.52, 16, 5.19, 26.30, 16, 3.68, 155.42,
+            10, 0.76, 18849.23, 9, 2.06, 77713.77, 7, 0.83, 775.52,
+            5, 4.66, 1577.34, 4, 1.03, 7.11, 4, 3.44, 5573.14,
+            3, 5.14, 796.30, 3, 6.05, 5507.55, 3, 1.19, 242.73,
+            3, 6.12, 529.69, 3, 0.31, 398.15, 3, 2.28, 553.57,
+            2, 4.38, 5223.69, 2, 3.75, 0.98
+    };
+
+    private static final double[] L3 = {
+            289, 5.844, 6283.076, 35, 0, 0, 17, 5.49, 12566.15,
+            3, 5.20, 155.42, 1, 4.72, 3.52, 1, 5.30, 18849.23,
+            1, 5.97, 242.73
+    };
+
+    private static final double[] L4 = {
+            114, 3.142, 0, 8, 4.13, 6283.08, 1, 3.84, 12566.15
+    };
+
+    private static final double[] L5 = {
+            1, 3.14, 0
+    };
+
+    // 지구-태양 거리 급수 (광행차 보정용, 주요 항만 사용)
+    private static final double[] R0 = {
+            100013989, 0, 0, 1670700, 3.0984635, 6283.0758500, 13956, 3.05525, 12566.15170,
+            3084, 5.1985, 77713.7715, 1628, 1.1739, 5753.3849, 1576, 2.8469, 7860.4194
+    };
+
+    private static final double[] R1 = {
+            103019, 1.107490, 6283.075850, 1721, 1.0644, 12566.1517
+    };
+
+    private SolarTermCalculator() {
+    }
+
+    /**
+     * 절기 이름
+     *
+     * @param termIndex 절기 인덱스 (0=소한 ~ 23=동지)
+     */
+    public static String getTermName(int termIndex) {
+        return TERM_NAMES[termIndex];
+    }
+
+    /**
+     * 해당 연도의 절입 시각 (KST epoch minute)
+     *
+     * @param year      양력 연도
+     * @param termIndex 절기 인덱스 (0=소한 ~ 23=동지)
+     */
+    public static long getTermMinute(int year, int termIndex) {
+        return termsOf(year)[termIndex];
+    }
+
+    /**
+     * KST 날짜/시각을 epoch minute 로 변환
+     */
+    public static long toKstMinute(int year, int month, int day, int hour, int minute) {
+        return CalendarUtils.toEpochDay(year, month, day) * MINUTES_PER_DAY + hour * 60L + minute;
+    }
+
+    /**
+     * 해당 날짜의 마지막 분 (시간 정보가 없을 때 절입일 당일을 새 달로 보기 위해 사용)
+     */
+    public static long endOfDayMinute(int year, int month, int day) {
+        return CalendarUtils.toEpochDay(year, month, day) * MINUTES_PER_DAY + MINUTES_PER_DAY - 1;
+    }
+
+    /**
+     * 절입 시각 기준 사주 월
+     *
+     * @param year      양력 연도 (kstMinute 가 속한 연도)
+     * @param kstMinute KST epoch minute
+     * @return 사주 월 인덱스 (1=인월, 2=묘월, ..., 12=축월)
+     */
+    public static int getSajuMonthIndex(int year, long kstMinute) {
+        int termIndex;
+        int ordinal = EphemerisTable.findTermOrdinal(kstMinute);
+        if (ordinal != EphemerisTable.NOT_FOUND) {
+            termIndex = EphemerisTable.termIndex(ordinal);
+        } else {
+            termIndex = findTermIndex(termsOf(year), kstMinute);
+            if (termIndex < 0) {
+                // 소한 이전 = 전년도 대설 이후 = 자월
+                return 11;
+            }
+        }
+        int jeol = termIndex & ~1;
+        return jeol == 0 ? 12 : jeol / 2;
+    }
+
+    /**
+     * 입춘 기준 사주 연도
+     *
+     * @param year      양력 연도 (kstMinute 가 속한 연도)
+     * @param kstMinute KST epoch minute
+     * @return 입춘 이전이면 전년도, 이후면 해당 연도
+     */
+    public static int getSajuYear(int year, long kstMinute) {
+        int ordinal = EphemerisTable.findTermOrdinal(kstMinute);
+        if (ordinal != EphemerisTable.NOT_FOUND) {
+            // 소한/대한은 입춘 이전이므로 전년도
+            int termYear = EphemerisTable.termYear(ordinal);
+            return EphemerisTable.termIndex(ordinal) < 2 ? termYear - 1 : termYear;
+        }
+        return kstMinute >= termsOf(year)[2] ? year : year - 1;
+    }
+
+    /**
+     * kstMinute 이전(포함) 마지막 절(節) 입절 시각 (대운 역행 시작 나이 계산용)
+     *
+     * @param year      양력 연도 (kstMinute 가 속한 연도)
+     * @param kstMinute KST epoch minute
+     */
+    public static long getPreviousJeolMinute(int year, long kstMinute) {
+        long[] terms = termsOf(year);
+        int termIndex = findTermIndex(terms, kstMinute);
+        if (termIndex < 0) {
+            // 소한 이전 = 전년도 대설
+            return termsOf(year - 1)[22];
+        }
+        return terms[termIndex & ~1];
+    }
+
+    /**
+     * kstMinute 이후(미포함) 첫 절(節) 입절 시각 (대운 순행 시작 나이 계산용)
+     *
+     * @param year      양력 연도 (kstMinute 가 속한 연도)
+     * @param kstMinute KST epoch minute
+     */
+    public static long getNextJeolMinute(int year, long kstMinute) {
+        long[] terms = termsOf(year);
+        int termIndex = findTermIndex(terms, kstMinute);
+        int next = termIndex < 0 ? 0 : (termIndex & ~1) + 2;
+        if (next >= TERM_COUNT) {
+            // 대설 이후 = 다음 해 소한
+            return termsOf(year + 1)[0];
+        }
+        return terms[next];
+    }
+
+    /**
+     * 해당 날짜(KST)에 드는 절기 이름
+     *
+     * @return 절기 이름, 절입일이 아니면 null
+     */
+    public static String getTermNameOn(int year, int month, int day) {
+        long dayStart = CalendarUtils.toEpochDay(year, month, day) * MINUTES_PER_DAY;
+        long[] terms = termsOf(year);
+        int termIndex = findTermIndex(terms, dayStart + MINUTES_PER_DAY - 1);
+        if (termIndex < 0 || terms[termIndex] < dayStart) {
+            return null;
+        }
+        return TERM_NAMES[termIndex];
+    }
+
+    /**
+     * kstMinute 이전(포함) 마지막 절기 인덱스, 소한 이전이면 -1
+     */
+    private static int findTermIndex(long[] terms, long kstMinute) {
+        int pos = Arrays.binarySearch(terms, kstMinute);
+        return pos >= 0 ? pos : -pos - 2;
+    }
+
+    /**
+     * 연도별 절입 시각 배열 (최초 요청 시 계산 후 보관)
+     */
+    private static long[] termsOf(int year) {
+        if (year < MIN_CACHED_YEAR || year > MAX_CACHED_YEAR) {
+            return computeTerms(year);
+        }
+        int slot = year - MIN_CACHED_YEAR;
+        long[] terms = CACHE.get(slot);
+        if (terms == null) {
+            terms = computeTerms(year);
+            if (!CACHE.compareAndSet(slot, null, terms)) {
+                terms = CACHE.get(slot);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 연도의 24절기 절입 시각 계산 (메모이제이션 없음, EphemerisGenerator 에서도 사용)
+     */
+    static long[] computeTerms(int year) {
+        long[] terms = new long[TERM_COUNT];
+        double jdYearStart = CalendarUtils.toEpochDay(year, 1, 1) + JD_UNIX_EPOCH;
+        for (int i = 0; i < TERM_COUNT; i++) {
+            double targetLongitude = (285 + 15 * i) % 360;
+            // 소한(1월 5~6일)부터 약 15.2일 간격
+            double jde = solveLongitude(targetLongitude, jdYearStart + 5 + i * (TROPICAL_YEAR / TERM_COUNT));
+            terms[i] = toKstMinute(jde, year + (i + 0.5) / TERM_COUNT);
+        }
+        return terms;
+    }
+
+    /**
+     * 역학시(JDE)를 KST epoch minute 로 변환 (분 단위 반올림)
+     *
+     * @param jde         율리우스 역학일
+     * @param decimalYear ΔT 계산용 연도 (소수)
+     */
+    static long toKstMinute(double jde, double decimalYear) {
+        double jdUt = jde - deltaT(decimalYear) / 86400.0;
+        return Math.round((jdUt - JD_UNIX_EPOCH) * MINUTES_PER_DAY) + KST_OFFSET_MINUTES;
+    }
+
+    /**
+     * 태양 시황경이 targetLongitude 가 되는 역학시(JDE) 계산
+     */
+    private static double solveLongitude(double targetLongitude, double jde) {
+        for (int i = 0; i < 20; i++) {
+            double diff = targetLongitude - apparentSolarLongitude(jde);
+            diff -= 360 * Math.floor((diff + 180) / 360);
+            jde += diff * TROPICAL_YEAR / 360;
+            if (Math.abs(diff) < 1e-7) {
+                break;
+            }
+        }
+        return jde;
+    }
+
+    /**
+     * 태양의 시황경 (도)
+     * 지구 일심 황경 + 180도, FK5 보정, 장동, 광행차 포함
+     */
+    private static double apparentSolarLongitude(double jde) {
+        double tau = (jde - J2000) / 365250.0;
+        double l = (series(L0, tau) + tau * (series(L1, tau) + tau * (series(L2, tau)
+                + tau * (series(L3, tau) + tau * (series(L4, tau) + tau * series(L5, tau)))))) / 1e8;
+        double r = (series(R0, tau) + tau * series(R1, tau)) / 1e8;
+
+        double longitude = Math.toDegrees(l) + 180;
+
+        double t = tau * 10;
+        double omega = Math.toRadians(125.04452 - 1934.136261 * t);
+        double sunMean = Math.toRadians(280.4665 + 36000.7698 * t);
+        double moonMean = Math.toRadians(218.3165 + 481267.8813 * t);
+        double nutation = -17.20 * Math.sin(omega) - 1.32 * Math.sin(2 * sunMean)
+                - 0.23 * Math.sin(2 * moonMean) + 0.21 * Math.sin(2 * omega);
+
+        double fk5 = -0.09033;
+        double aberration = -20.4898 / r;
+
+        longitude += (fk5 + nutation + aberration) / 3600.0;
+        return longitude - 360 * Math.floor(longitude / 360);
+    }
+
+    private static double series(double[] terms, double tau) {
+        double sum = 0;
+        for (int i = 0; i < terms.length; i += 3) {
+            sum += terms[i] * Math.cos(terms[i + 1] + terms[i + 2] * tau);
+        }
+        return sum;
+    }
+
+    /**
+     * ΔT = TT - UT (초), Espenak & Meeus 다항식
+     */
+    static double deltaT(double year) {
+        double t;
+        if (year < 500) {
+            double u = (year - 1820) / 100;
+            return -20 + 32 * u * u;
+        } else if (year < 1600) {
+            double u = (year - 1000) / 100;
+            return 1574.2 + u * (-556.01 + u * (71.23472 + u * (0.319781
+                    + u * (-0.8503463 + u * (-0.005050998 + u * 0.0083572073)))));
+        } else if (year < 1700) {
+            t = year - 1600;
+            return 120 + t * (-0.9808 + t * (-0.01532 + t / 7129));
+        } else if (year < 1800) {
+            t = year - 1700;
+            return 8.83 + t * (0.1603 + t * (-0.0059285 + t * (0.00013336 - t / 1174000)));
+        } else if (year < 1860) {
+            t = year - 1800;
+            return 13.72 + t * (-0.332447 + t * (0.0068612 + t * (0.0041116 + t * (-0.00037436
+                    + t * (0.0000121272 + t * (-0.0000001699 + t * 0.000000000875))))));
+        } else if (year < 1900) {
+            t = year - 1860;
+            return 7.62 + t * (0.5737 + t * (-0.251754 + t * (0.01680668 + t * (-0.0004473624 + t / 233174))));
+        } else if (year < 1920) {
+            t = year - 1900;
+            return -2.79 + t * (1.494119 + t * (-0.0598939 + t * (0.0061966 - t * 0.000197)));
+        } else if (year < 1941) {
+            t = year - 1920;
+            return 21.20 + t * (0.84493 + t * (-0.076100 + t * 0.0020936));
+        } else if (year < 1961) {
+            t = year - 1950;
+            return 29.07 + t * (0.407 + t * (-1.0 / 233 + t / 2547));
+        } else if (year < 1986) {
+            t = year - 1975;
+            return 45.45 + t * (1.067 + t * (-1.0 / 260 - t / 718));
+        } else if (year < 2005) {
+            t = year - 2000;
+            return 63.86 + t * (0.3345 + t * (-0.060374 + t * (0.0017275 + t * (0.000651814 + t * 0.00002373599))));
+        } else if (year < 2050) {
+            t = year - 2000;
+            return 62.92 + t * (0.32217 + t * 0.005589);
+        } else if (year < 2150) {
+            double u = (year - 1820) / 100;
+            return -20 + 32 * u * u - 0.5628 * (2150 - year);
+        } else {
+            double u = (year - 1820) / 100;
+            return -20 + 32 * u * u;
+        }
+    }
+}
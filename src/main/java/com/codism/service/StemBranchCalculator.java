@@ -1,11 +1,12 @@
 package com.codism.service;
 
 import com.codism.model.dto.response.StemBranchInfo;
+import com.codism.model.vo.FourPillars;
+import com.codism.model.vo.Ganji;
+import com.codism.util.CalendarUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Calendar;
-
 /**
  * 천간지지(간지) 계산을 위한 유틸리티 클래스
  * 년, 월, 일, 시에 대한 간지 계산 기능 제공 (사주팔자)
@@ -14,20 +15,8 @@ import java.util.Calendar;
 @Service
 public class StemBranchCalculator {
 
-    // 천간(天干)
-    private static final String[] CELESTIAL_STEMS = {
-            "갑", "을", "병", "정", "무", "기", "경", "신", "임", "계"
-    };
-
-    // 지지(地支)
-    private static final String[] TERRESTRIAL_BRANCHES = {
-            "자", "축", "인", "묘", "진", "사", "오", "미", "신", "유", "술", "해"
-    };
-
-    // 시간별 지지 매핑 (자시: 23~01시, 축시: 01~03시, ...)
-    private static final String[] TIME_BRANCHES = {
-            "자", "축", "인", "묘", "진", "사", "오", "미", "신", "유", "술", "해"
-    };
+    // 1970-01-01(신사일)의 60갑자 인덱스
+    private static final int DAY_GANJI_OFFSET = 17;
 
     // 일간별 자시 천간 대응표 (갑일->갑자시, 을일->병자시, ...)
     private static final int[] DAY_TO_TIME_STEM_OFFSET = {
@@ -41,17 +30,22 @@ public class StemBranchCalculator {
      * @return 해당 연도의 간지 문자열 (예: "경자년")
      */
     public static String getYearStemBranch(int lunarYear) {
-        int celestialStem = (lunarYear - 4) % 10;
-        int terrestrialBranch = (lunarYear - 4) % 12;
-
-        if (celestialStem < 0) celestialStem += 10;
-        if (terrestrialBranch < 0) terrestrialBranch += 12;
+        return getYearGanji(lunarYear).toString();
+    }
 
-        return CELESTIAL_STEMS[celestialStem] + TERRESTRIAL_BRANCHES[terrestrialBranch];
+    /**
+     * 연도의 간지 (서기 4년 = 갑자년)
+     *
+     * @param year 사주 연도
+     * @return 해당 연도의 간지
+     */
+    public static Ganji getYearGanji(int year) {
+        return Ganji.of(year - 4);
     }
 
     /**
      * 절입일 기준 사주 월 계산 (양력 날짜 기준)
+     * 시간 정보가 없으므로 절입일 당일은 새 달로 봅니다.
      *
      * @param solarYear 양력 연도
      * @param solarMonth 양력 월
@@ -59,82 +53,23 @@ public class StemBranchCalculator {
      * @return 사주 월 인덱스 (1=인월, 2=묘월, ..., 12=축월)
      */
     public static int getSajuMonthIndex(int solarYear, int solarMonth, int solarDay) {
-        // 절입일 기준 (절기는 매년 조금씩 다르므로 대략적인 날짜 사용)
-        // 각 절기 이후에 해당 사주 월이 시작됨
-        // 입춘(2/4) 이후 = 1월(인월), 경칩(3/6) 이후 = 2월(묘월) 등
-
-        // 12월 (축월): 소한(1/6) ~ 입춘(2/4) 이전
-        if (solarMonth == 1 && solarDay >= 6) {
-            return 12;  // 소한 이후 = 12월(축월)
-        } else if (solarMonth == 2 && solarDay < 4) {
-            return 12;  // 입춘 이전 = 12월(축월)
-        }
-        // 1월 (인월): 입춘(2/4) ~ 경칩(3/6) 이전
-        else if (solarMonth == 2 && solarDay >= 4) {
-            return 1;   // 입춘 이후 = 1월(인월)
-        } else if (solarMonth == 3 && solarDay < 6) {
-            return 1;   // 경칩 이전 = 1월(인월)
-        }
-        // 2월 (묘월): 경칩(3/6) ~ 청명(4/5) 이전
-        else if (solarMonth == 3 && solarDay >= 6) {
-            return 2;   // 경칩 이후 = 2월(묘월)
-        } else if (solarMonth == 4 && solarDay < 5) {
-            return 2;   // 청명 이전 = 2월(묘월)
-        }
-        // 3월 (진월): 청명(4/5) ~ 입하(5/6) 이전
-        else if (solarMonth == 4 && solarDay >= 5) {
-            return 3;   // 청명 이후 = 3월(진월)
-        } else if (solarMonth == 5 && solarDay < 6) {
-            return 3;   // 입하 이전 = 3월(진월)
-        }
-        // 4월 (사월): 입하(5/6) ~ 망종(6/6) 이전
-        else if (solarMonth == 5 && solarDay >= 6) {
-            return 4;   // 입하 이후 = 4월(사월)
-        } else if (solarMonth == 6 && solarDay < 6) {
-            return 4;   // 망종 이전 = 4월(사월)
-        }
-        // 5월 (오월): 망종(6/6) ~ 소서(7/7) 이전
-        else if (solarMonth == 6 && solarDay >= 6) {
-            return 5;   // 망종 이후 = 5월(오월)
-        } else if (solarMonth == 7 && solarDay < 7) {
-            return 5;   // 소서 이전 = 5월(오월)
-        }
-        // 6월 (미월): 소서(7/7) ~ 입추(8/8) 이전
-        else if (solarMonth == 7 && solarDay >= 7) {
-            return 6;   // 소서 이후 = 6월(미월)
-        } else if (solarMonth == 8 && solarDay < 8) {
-            return 6;   // 입추 이전 = 6월(미월)
-        }
-        // 7월 (신월): 입추(8/8) ~ 백로(9/8) 이전
-        else if (solarMonth == 8 && solarDay >= 8) {
-            return 7;   // 입추 이후 = 7월(신월)
-        } else if (solarMonth == 9 && solarDay < 8) {
-            return 7;   // 백로 이전 = 7월(신월)
-        }
-        // 8월 (유월): 백로(9/8) ~ 한로(10/8) 이전
-        else if (solarMonth == 9 && solarDay >= 8) {
-            return 8;   // 백로 이후 = 8월(유월)
-        } else if (solarMonth == 10 && solarDay < 8) {
-            return 8;   // 한로 이전 = 8월(유월)
-        }
-        // 9월 (술월): 한로(10/8) ~ 입동(11/7) 이전
-        else if (solarMonth == 10 && solarDay >= 8) {
-            return 9;   // 한로 이후 = 9월(술월)
-        } else if (solarMonth == 11 && solarDay < 7) {
-            return 9;   // 입동 이전 = 9월(술월)
-        }
-        // 10월 (해월): 입동(11/7) ~ 대설(12/7) 이전
-        else if (solarMonth == 11 && solarDay >= 7) {
-            return 10;  // 입동 이후 = 10월(해월)
-        } else if (solarMonth == 12 && solarDay < 7) {
-            return 10;  // 대설 이전 = 10월(해월)
-        }
-        // 11월 (자월): 대설(12/7) ~ 소한(1/6) 이전
-        else if (solarMonth == 12 && solarDay >= 7) {
-            return 11;  // 대설 이후 = 11월(자월)
-        } else {
-            return 11;  // 1월 소한 이전 = 11월(자월)
-        }
+        return SolarTermCalculator.getSajuMonthIndex(solarYear,
+                SolarTermCalculator.endOfDayMinute(solarYear, solarMonth, solarDay));
+    }
+
+    /**
+     * 절입 시각 기준 사주 월 계산 (양력 날짜/시각 기준, KST)
+     *
+     * @param solarYear 양력 연도
+     * @param solarMonth 양력 월
+     * @param solarDay 양력 일
+     * @param hour 시간 (0-23)
+     * @param minute 분 (0-59)
+     * @return 사주 월 인덱스 (1=인월, 2=묘월, ..., 12=축월)
+     */
+    public static int getSajuMonthIndex(int solarYear, int solarMonth, int solarDay, int hour, int minute) {
+        return SolarTermCalculator.getSajuMonthIndex(solarYear,
+                SolarTermCalculator.toKstMinute(solarYear, solarMonth, solarDay, hour, minute));
     }
 
     /**
@@ -146,19 +81,39 @@ public class StemBranchCalculator {
      * @return 해당 월의 간지 문자열 (예: "기해월")
      */
     public static String getMonthStemBranchBySolarTerm(int solarYear, int solarMonth, int solarDay) {
-        // 절입일 기준 사주 월 계산
-        int sajuMonth = getSajuMonthIndex(solarYear, solarMonth, solarDay);
+        return getMonthGanji(solarYear, SolarTermCalculator.endOfDayMinute(solarYear, solarMonth, solarDay)).toString();
+    }
+
+    /**
+     * 절입 시각 기준 월간지(干支) 계산 (KST)
+     *
+     * @param solarYear  양력 연도
+     * @param solarMonth 양력 월
+     * @param solarDay   양력 일
+     * @param hour       시간 (0-23)
+     * @param minute     분 (0-59)
+     * @return 해당 월의 간지 문자열 (예: "기해월")
+     */
+    public static String getMonthStemBranchBySolarTerm(int solarYear, int solarMonth, int solarDay, int hour, int minute) {
+        return getMonthGanji(solarYear, SolarTermCalculator.toKstMinute(solarYear, solarMonth, solarDay, hour, minute)).toString();
+    }
+
+    /**
+     * 절입 시각 기준 월주
+     *
+     * @param solarYear 양력 연도 (kstMinute 가 속한 연도)
+     * @param kstMinute KST epoch minute
+     * @return 해당 월의 간지
+     */
+    public static Ganji getMonthGanji(int solarYear, long kstMinute) {
+        // 절입 시각 기준 사주 월
+        int sajuMonth = SolarTermCalculator.getSajuMonthIndex(solarYear, kstMinute);
 
         // 년도 결정: 입춘 이전이면 전년도
-        int sajuYear = solarYear;
-        if (sajuMonth == 12) {
-            // 12월(축월)이면 전년도 기준
-            sajuYear = solarYear - 1;
-        }
+        int sajuYear = SolarTermCalculator.getSajuYear(solarYear, kstMinute);
 
         // 년도의 천간(stem)에 따라 월의 천간 결정
-        int yearStem = (sajuYear - 4) % 10;
-        if (yearStem < 0) yearStem += 10;
+        int yearStem = getYearGanji(sajuYear).stem();
 
         // 월의 천간 계산 - 오주갑자표(五虎遁甲) 규칙 적용
         // 갑/기년: 정월(인월)은 병인(병=2), 을/경년: 무인(무=4), 병/신년: 경인(경=6)
@@ -170,7 +125,7 @@ public class StemBranchCalculator {
         // 월의 지지 계산 (사주 1월=인(2), 2월=묘(3), ..., 10월=해(11), 11월=자(0), 12월=축(1))
         int monthBranch = (sajuMonth + 1) % 12;
 
-        return CELESTIAL_STEMS[monthStem] + TERRESTRIAL_BRANCHES[monthBranch];
+        return Ganji.of(monthStem, monthBranch);
     }
 
     /**
@@ -195,11 +150,11 @@ public class StemBranchCalculator {
         // 월의 지지 계산 (음력 1월=인, 2월=묘, ..., 10월=해, 11월=자, 12월=축)
         int monthBranch = (lunarMonth + 1) % 12;
 
-        return CELESTIAL_STEMS[monthStem] + TERRESTRIAL_BRANCHES[monthBranch];
+        return Ganji.stemName(monthStem) + Ganji.branchName(monthBranch);
     }
 
     /**
-     * 음력 일의 간지(干支) 계산
+     * 일의 간지(干支) 계산
      *
      * @param solarYear  양력 연도
      * @param solarMonth 양력 월 (1-12)
@@ -207,29 +162,30 @@ public class StemBranchCalculator {
      * @return 해당 일의 간지 문자열 (예: "경자일")
      */
     public static String getDayStemBranch(int solarYear, int solarMonth, int solarDay) {
-        // 기준일자: 1900년 1월 1일은 "을해일" (乙亥)
-        Calendar baseDate = Calendar.getInstance();
-        baseDate.set(1900, 0, 1); // 1900년 1월 1일
-
-        // 기준일자의 간지 인덱스
-        int baseStem = 1; // "을"의 인덱스
-        int baseBranch = 11; // "해"의 인덱스
-
-        // 입력일자
-        Calendar targetDate = Calendar.getInstance();
-        targetDate.set(solarYear, solarMonth - 1, solarDay);
-
-        // 두 날짜 사이의 일수 계산
-        long diffDays = (targetDate.getTimeInMillis() - baseDate.getTimeInMillis()) / (24 * 60 * 60 * 1000);
-
-        // 간지 계산
-        int stemIndex = (int) ((baseStem + diffDays) % 10);
-        int branchIndex = (int) ((baseBranch + diffDays) % 12);
+        return Ganji.of(getDayGanjiIndex(solarYear, solarMonth, solarDay)).toString();
+    }
 
-        if (stemIndex < 0) stemIndex += 10;
-        if (branchIndex < 0) branchIndex += 12;
+    /**
+     * 일의 60갑자 인덱스 계산 (0=갑자 ~ 59=계해)
+     * epoch day 정수 연산만 사용하므로 객체 생성이 없고 시간대/서머타임의 영향을 받지 않습니다.
+     *
+     * @param solarYear  양력 연도
+     * @param solarMonth 양력 월 (1-12)
+     * @param solarDay   양력 일
+     * @return 60갑자 인덱스 (천간 = 인덱스 % 10, 지지 = 인덱스 % 12)
+     */
+    public static int getDayGanjiIndex(int solarYear, int solarMonth, int solarDay) {
+        return getDayGanjiIndex(CalendarUtils.toEpochDay(solarYear, solarMonth, solarDay));
+    }
 
-        return CELESTIAL_STEMS[stemIndex] + TERRESTRIAL_BRANCHES[branchIndex];
+    /**
+     * epoch day 의 60갑자 인덱스 계산 (1970-01-01 = 신사일, 인덱스 17)
+     *
+     * @param epochDay 1970-01-01 기준 일수
+     * @return 60갑자 인덱스 (0=갑자 ~ 59=계해)
+     */
+    public static int getDayGanjiIndex(long epochDay) {
+        return (int) Math.floorMod(epochDay + DAY_GANJI_OFFSET, 60L);
     }
 
     /**
@@ -253,27 +209,38 @@ public class StemBranchCalculator {
      */
     public static String getTimeStemBranch(int hour, int minute, String dayStemBranch) {
         // 일간(일의 천간) 추출
-        String dayStemStr = dayStemBranch.substring(0, 1);
-        int dayStemIndex = -1;
-        for (int i = 0; i < CELESTIAL_STEMS.length; i++) {
-            if (CELESTIAL_STEMS[i].equals(dayStemStr)) {
-                dayStemIndex = i;
-                break;
-            }
-        }
-
+        int dayStemIndex = Ganji.stemIndexOf(dayStemBranch.charAt(0));
         if (dayStemIndex == -1) {
-            throw new IllegalArgumentException("유효하지 않은 일간입니다: " + dayStemStr);
+            throw new IllegalArgumentException("유효하지 않은 일간입니다: " + dayStemBranch.charAt(0));
         }
+        return getTimeGanji(hour, minute, dayStemIndex).toString();
+    }
 
+    /**
+     * 시주 계산
+     *
+     * @param hour 시간 (0-23)
+     * @param minute 분 (0-59)
+     * @param dayStemIndex 일간 인덱스 (0-9)
+     * @return 해당 시간의 간지
+     */
+    public static Ganji getTimeGanji(int hour, int minute, int dayStemIndex) {
         // 시지(시간의 지지) 계산
         int timeBranchIndex = getTimeBranchIndex(hour, minute);
 
-        // 시간의 천간 계산 (일간에 따라 자시의 천간이 결정됨)
-        // 자시부터 시작해서 시간마다 천간이 1씩 증가
-        int timeStemIndex = (DAY_TO_TIME_STEM_OFFSET[dayStemIndex] + timeBranchIndex) % 10;
+        return Ganji.of(getTimeStemIndex(dayStemIndex, timeBranchIndex), timeBranchIndex);
+    }
 
-        return CELESTIAL_STEMS[timeStemIndex] + TIME_BRANCHES[timeBranchIndex];
+    /**
+     * 일간과 시지로 시간(時干) 계산
+     * 일간에 따라 자시의 천간이 결정되고, 자시부터 시지마다 천간이 1씩 증가
+     *
+     * @param dayStemIndex 일간 인덱스 (0-9)
+     * @param timeBranchIndex 시지 인덱스 (0-11)
+     * @return 시간 인덱스 (0-9)
+     */
+    public static int getTimeStemIndex(int dayStemIndex, int timeBranchIndex) {
+        return (DAY_TO_TIME_STEM_OFFSET[dayStemIndex] + timeBranchIndex) % 10;
     }
 
     /**
@@ -331,7 +298,7 @@ public class StemBranchCalculator {
      */
     public static String getTimeNameKorean(int hour, int minute) {
         int branchIndex = getTimeBranchIndex(hour, minute);
-        return TIME_BRANCHES[branchIndex] + "시";
+        return Ganji.branchName(branchIndex) + "시";
     }
 
     /**
@@ -410,40 +377,71 @@ public class StemBranchCalculator {
      * @return 년월일시 간지 정보가 담긴 StemBranchInfo 객체
      */
     public static StemBranchInfo getAllStemBranch(int solarYear, int solarMonth, int solarDay, Integer hour, Integer minute, boolean isSolarCalendar) {
-        // 양력 날짜를 음력으로 변환 (사주는 항상 음력 기준)
-        LunarCalendarService.LunarDate lunarDate = LunarCalendarService.solarToLunar(solarYear, solarMonth, solarDay);
+        return getFourPillars(solarYear, solarMonth, solarDay, hour, minute, isSolarCalendar).toStemBranchInfo();
+    }
 
-        int lunarYear = lunarDate.getYear();
-        int lunarMonth = lunarDate.getMonth();
+    /**
+     * 양력 날짜와 시간에 대한 사주 네 기둥 계산 (분은 0으로 처리)
+     */
+    public static FourPillars getFourPillars(int solarYear, int solarMonth, int solarDay, Integer hour, boolean isSolarCalendar) {
+        return getFourPillars(solarYear, solarMonth, solarDay, hour, 0, isSolarCalendar);
+    }
+
+    /**
+     * 양력 날짜와 시간에 대한 사주 네 기둥 계산
+     *
+     * @param solarYear 양력 연도
+     * @param solarMonth 양력 월 (1-12)
+     * @param solarDay 양력 일
+     * @param hour 시간 (0-23), null이면 시주는 계산하지 않음
+     * @param minute 분 (0-59), null이면 0으로 처리
+     * @param isSolarCalendar 양력 기준 여부 (true: 양력, false: 음력)
+     * @return 년월일시 기둥
+     */
+    public static FourPillars getFourPillars(int solarYear, int solarMonth, int solarDay, Integer hour, Integer minute, boolean isSolarCalendar) {
+        // 양력 날짜를 음력으로 변환 (사주는 항상 음력 기준)
+        int lunarDate = LunarCalendarService.solarToLunarPacked(solarYear, solarMonth, solarDay);
 
         // 음력 변환 결과 로깅
-        log.info("양력 {}/{}/{} → 음력 {}/{}/{}", solarYear, solarMonth, solarDay, lunarYear, lunarMonth, lunarDate.getDay());
+        if (log.isInfoEnabled()) {
+            log.info("양력 {}/{}/{} → 음력 {}/{}/{}", solarYear, solarMonth, solarDay,
+                    LunarDateTable.year(lunarDate), LunarDateTable.month(lunarDate), LunarDateTable.day(lunarDate));
+        }
 
+        FourPillars pillars = computeFourPillars(solarYear, solarMonth, solarDay, hour, minute);
+        log.info("절입일 기준 - 년주: {}, 월주: {}", pillars.year(), pillars.month());
+        return pillars;
+    }
+
+    /**
+     * 양력 날짜와 시간에 대한 사주 네 기둥 계산 (음력 변환과 로그 없음)
+     * 절기표와 정수 연산만 사용하므로 궁합 순위처럼 많은 사주를 한꺼번에 계산할 때 사용
+     *
+     * @param hour 시간 (0-23), null이면 시주는 계산하지 않음
+     * @param minute 분 (0-59), null이면 0으로 처리
+     * @return 년월일시 기둥
+     */
+    public static FourPillars computeFourPillars(int solarYear, int solarMonth, int solarDay, Integer hour, Integer minute) {
         // 년월일 간지 계산
         // 년: 입춘 기준 (입춘 이전은 전년도)
-        // 월: 절입일 기준 (24절기 중 입춘, 경칩 등 12개 절기 기준)
+        // 월: 절입 시각 기준 (24절기 중 입춘, 경칩 등 12개 절기 기준, 시간이 없으면 절입일 당일부터)
         // 일: 양력 기준
-        String monthStemBranch = getMonthStemBranchBySolarTerm(solarYear, solarMonth, solarDay);
-        int sajuMonth = getSajuMonthIndex(solarYear, solarMonth, solarDay);
-
-        // 사주 년도 결정: 입춘 이전(12월 축월)이면 양력 전년도
-        int sajuYear = solarYear;
-        if (sajuMonth == 12) {
-            sajuYear = solarYear - 1;
-        }
-
-        String yearStemBranch = getYearStemBranch(sajuYear);
-        String dayStemBranch = getDayStemBranch(solarYear, solarMonth, solarDay);
+        long kstMinute = hour != null
+                ? SolarTermCalculator.toKstMinute(solarYear, solarMonth, solarDay, hour, minute != null ? minute : 0)
+                : SolarTermCalculator.endOfDayMinute(solarYear, solarMonth, solarDay);
+        Ganji monthGanji = getMonthGanji(solarYear, kstMinute);
+        int sajuYear = SolarTermCalculator.getSajuYear(solarYear, kstMinute);
 
-        log.info("절입일 기준 - 사주년: {}, 사주월: {}월({})", sajuYear, sajuMonth, monthStemBranch);
+        Ganji yearGanji = getYearGanji(sajuYear);
+        Ganji dayGanji = Ganji.of(getDayGanjiIndex(solarYear, solarMonth, solarDay));
 
         // 시간 간지 계산 (시간이 제공된 경우)
-        String timeStemBranch = null;
+        Ganji timeGanji = null;
         if (hour != null) {
             int actualMinute = (minute != null) ? minute : 0;
-            timeStemBranch = getTimeStemBranch(hour, actualMinute, dayStemBranch);
+            timeGanji = getTimeGanji(hour, actualMinute, dayGanji.stem());
         }
 
-        return new StemBranchInfo(yearStemBranch, monthStemBranch, dayStemBranch, timeStemBranch);
+        return FourPillars.of(yearGanji, monthGanji, dayGanji, timeGanji);
     }
-}
\ No newline at end of file
+}
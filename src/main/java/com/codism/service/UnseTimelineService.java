@@ -0,0 +1,131 @@
+package com.codism.service;
+
+import com.codism.config.error.entity.ApiException;
+import com.codism.config.error.type.ErrorCode;
+import com.codism.model.dto.response.SajuDetailResponse.SajuPillar;
+import com.codism.model.dto.response.UnseTimelineItem;
+import com.codism.model.vo.Ganji;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 세운/월운 타임라인 서비스
+ * 여러 해의 세운, 한 해의 월운을 일간 기준 십성과 함께 계산합니다.
+ * 결과는 지연 Stream 으로 반환하므로 항목은 응답에 쓰는 시점에 하나씩 계산됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnseTimelineService {
+
+    // 한 번에 조회할 수 있는 세운 최대 년수
+    public static final int MAX_SEUN_YEARS = 120;
+
+    // 절기표 지원 범위 안에서만 조회 (다음 해 소한까지 사용)
+    private static final int MIN_YEAR = SolarTermCalculator.MIN_CACHED_YEAR;
+    private static final int MAX_YEAR = SolarTermCalculator.MAX_CACHED_YEAR - 1;
+
+    // 입춘 절기 인덱스 (0=소한)
+    private static final int IPCHUN_TERM_INDEX = 2;
+
+    private final SipSungCalculatorDB sipSungCalculatorDB;
+    private final NatalChartService natalChartService;
+
+    /**
+     * 세운 타임라인 (fromYear ~ toYear, 년도마다 한 항목)
+     *
+     * @param birthDate 생년월일 (일간 계산용)
+     * @param isSolarCalendar 생년월일이 양력인지 여부
+     * @param fromYear 시작 년도
+     * @param toYear 끝 년도 (포함)
+     * @return 세운 항목 Stream (지연 계산)
+     */
+    public Stream<UnseTimelineItem> streamSeun(LocalDate birthDate, boolean isSolarCalendar, int fromYear, int toYear) {
+        if (fromYear > toYear || toYear - fromYear + 1 > MAX_SEUN_YEARS) {
+            throw new ApiException(ErrorCode.BAD_REQUEST,
+                    "조회 기간은 1~" + MAX_SEUN_YEARS + "년이어야 합니다: " + fromYear + " ~ " + toYear);
+        }
+        validateYear(fromYear);
+        validateYear(toYear);
+
+        String ilgan = ilganOf(birthDate, isSolarCalendar);
+        log.debug("세운 타임라인 - ilgan: {}, {} ~ {}", ilgan, fromYear, toYear);
+
+        return IntStream.rangeClosed(fromYear, toYear).mapToObj(year -> {
+            long startMinute = SolarTermCalculator.getTermMinute(year, IPCHUN_TERM_INDEX);
+            return new UnseTimelineItem(
+                    year,
+                    null,
+                    SolarTermCalculator.getTermName(IPCHUN_TERM_INDEX),
+                    toDateTime(startMinute),
+                    createPillar(StemBranchCalculator.getYearGanji(year), ilgan, year)
+            );
+        });
+    }
+
+    /**
+     * 월운 타임라인 (해당 년도 입춘의 인월 ~ 다음 해 소한의 축월, 12 항목)
+     *
+     * @param birthDate 생년월일 (일간 계산용)
+     * @param isSolarCalendar 생년월일이 양력인지 여부
+     * @param year 사주 기준 년도
+     * @return 월운 항목 Stream (지연 계산)
+     */
+    public Stream<UnseTimelineItem> streamWolun(LocalDate birthDate, boolean isSolarCalendar, int year) {
+        validateYear(year);
+
+        String ilgan = ilganOf(birthDate, isSolarCalendar);
+        log.debug("월운 타임라인 - ilgan: {}, year: {}", ilgan, year);
+
+        return IntStream.rangeClosed(1, 12).mapToObj(sajuMonth -> {
+            // 인월(1) ~ 자월(11)은 해당 년도 입춘/경칩/.../대설, 축월(12)은 다음 해 소한
+            int termYear = sajuMonth == 12 ? year + 1 : year;
+            int termIndex = sajuMonth == 12 ? 0 : sajuMonth * 2;
+            long startMinute = SolarTermCalculator.getTermMinute(termYear, termIndex);
+            Ganji wolun = StemBranchCalculator.getMonthGanji(termYear, startMinute);
+            return new UnseTimelineItem(
+                    year,
+                    sajuMonth,
+                    SolarTermCalculator.getTermName(termIndex),
+                    toDateTime(startMinute),
+                    createPillar(wolun, ilgan, null)
+            );
+        });
+    }
+
+    private SajuPillar createPillar(Ganji ganji, String ilgan, Integer year) {
+        return natalChartService.createPillar(ganji,
+                sipSungCalculatorDB.calculateSipSung(ilgan, ganji.stemName()),
+                sipSungCalculatorDB.calculateJijiSipsung(ilgan, ganji.branchName()), year);
+    }
+
+    /**
+     * 일간 (일주 천간, 출생 시와 무관)
+     * 사주 상세 조회와 같은 방식(양력/음력 구분 포함)으로 일주를 구합니다.
+     */
+    private String ilganOf(LocalDate birthDate, boolean isSolarCalendar) {
+        return StemBranchCalculator.getFourPillars(birthDate.getYear(), birthDate.getMonthValue(),
+                birthDate.getDayOfMonth(), null, isSolarCalendar).day().stemName();
+    }
+
+    private void validateYear(int year) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new ApiException(ErrorCode.BAD_REQUEST,
+                    "년도는 " + MIN_YEAR + " ~ " + MAX_YEAR + " 범위여야 합니다: " + year);
+        }
+    }
+
+    /**
+     * KST epoch minute -> KST 날짜/시각
+     */
+    private LocalDateTime toDateTime(long kstMinute) {
+        return LocalDateTime.ofEpochSecond(kstMinute * 60, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,63 @@
+package com.codism.util;
+
+/**
+ * 날짜 계산 유틸리티 클래스
+ * 객체 생성 없이 년/월/일을 epoch day(1970-01-01 기준 일수)로 변환
+ */
+public class CalendarUtils {
+
+    // 0000-01-01 부터 1970-01-01 까지의 일수 (LocalDate 와 동일한 기준)
+    private static final long DAYS_0000_TO_1970 = 719528L;
+
+    // 평년 기준 월별 일수
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    /**
+     * 년/월/일을 epoch day 로 변환 (LocalDate.toEpochDay 와 동일한 결과)
+     *
+     * @param year  양력 연도
+     * @param month 양력 월 (1-12)
+     * @param day   양력 일
+     * @return 1970-01-01 기준 일수
+     */
+    public static long toEpochDay(int year, int month, int day) {
+        long y = year;
+        long m = month;
+        long total = 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += (367 * m - 362) / 12;
+        total += day - 1;
+        if (m > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * 윤년 여부
+     */
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * 해당 월의 일수
+     */
+    public static int lengthOfMonth(int year, int month) {
+        return month == 2 && isLeapYear(year) ? 29 : DAYS_IN_MONTH[month - 1];
+    }
+
+    /**
+     * 유효한 양력 날짜인지 확인
+     */
+    public static boolean isValidDate(int year, int month, int day) {
+        return month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month);
+    }
+}
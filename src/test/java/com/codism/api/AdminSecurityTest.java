@@ -0,0 +1,64 @@
+package com.codism.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리 API(/api/v1/admin/**) 인증
+ */
+@SpringBootTest(properties = {
+        "spring.security.user.name=admin",
+        "spring.security.user.password=secret"
+})
+@AutoConfigureMockMvc
+class AdminSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void adminEndpointsRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/caches")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/admin/caches/warmup")).andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/v1/admin/caches/natalChart")).andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/v1/admin/rules/reload")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/admin/rules/metrics")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void wrongPasswordIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/caches").header(HttpHeaders.AUTHORIZATION, basic("admin", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void adminCanAccessAdminEndpoints() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/caches").header(HttpHeaders.AUTHORIZATION, basic("admin", "secret")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/admin/caches/warmup").header(HttpHeaders.AUTHORIZATION, basic("admin", "secret")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void publicEndpointsStayOpen() throws Exception {
+        mockMvc.perform(get("/api/v1").param("birthDate", "1990-05-15").param("isSolarCalendar", "true"))
+                .andExpect(status().isOk());
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
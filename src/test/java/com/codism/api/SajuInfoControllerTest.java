@@ -0,0 +1,105 @@
+package com.codism.api;
+
+import com.codism.model.entity.SinsalMaster;
+import com.codism.repository.SinsalMasterRepository;
+import com.codism.service.RuleSetService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 기준 정보 API 의 응답 본문과 ETag 가 같은 규칙 스냅샷에서 나오는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.sql.init.mode=always",
+        "spring.sql.init.encoding=UTF-8",
+        "spring.jpa.defer-datasource-initialization=true",
+        "rules.reload.poll-enabled=false"
+})
+@AutoConfigureMockMvc
+class SajuInfoControllerTest {
+
+    private static final String SINSAL_NAME = "천을귀인";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SinsalMasterRepository sinsalMasterRepository;
+
+    @Autowired
+    private RuleSetService ruleSetService;
+
+    @Test
+    void bodyFollowsSnapshotNotDatabase() throws Exception {
+        ruleSetService.reload();
+        SinsalMaster sinsal = sinsalMasterRepository.findBySinsalName(SINSAL_NAME).orElseThrow();
+        String original = sinsal.getDescription();
+
+        MvcResult before = mockMvc.perform(get("/api/v1/saju-info/sinsal/" + SINSAL_NAME))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value(original))
+                .andReturn();
+        String etag = before.getResponse().getHeader(HttpHeaders.ETAG);
+
+        try {
+            sinsal.setDescription(original + " (수정)");
+            sinsalMasterRepository.save(sinsal);
+
+            // 다시 읽기 전에는 ETag 와 본문 모두 이전 스냅샷 그대로
+            mockMvc.perform(get("/api/v1/saju-info/sinsal/" + SINSAL_NAME))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(jsonPath("$.description").value(original));
+
+            ruleSetService.reload();
+            MvcResult after = mockMvc.perform(get("/api/v1/saju-info/sinsal/" + SINSAL_NAME))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.description").value(original + " (수정)"))
+                    .andReturn();
+            assertNotEquals(etag, after.getResponse().getHeader(HttpHeaders.ETAG));
+        } finally {
+            sinsal.setDescription(original);
+            sinsalMasterRepository.save(sinsal);
+            ruleSetService.reload();
+        }
+    }
+
+    @Test
+    void notModifiedWhenEtagMatches() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/saju-info/sinsal"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/saju-info/sinsal").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void sinsalListsComeFromSnapshot() throws Exception {
+        mockMvc.perform(get("/api/v1/saju-info/sinsal"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(sinsalMasterRepository.findByIsActiveTrueOrderByPriorityDesc().size()));
+        mockMvc.perform(get("/api/v1/saju-info/sinsal").param("type", "길신"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].sinsalType").value(everyItem(is("GILSIN"))));
+        mockMvc.perform(get("/api/v1/saju-info/sinsal").param("type", "없는유형"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/saju-info/sinsal/없는신살"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/sipsung/비견"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,122 @@
+package com.codism.config;
+
+import com.codism.service.RuleSet;
+import com.codism.service.RuleSetReloadedEvent;
+import com.codism.service.RuleSetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 노드 간 캐시 무효화 메시지 처리 (EVICT / CLEAR / RULES)
+ */
+class CacheInvalidationListenerTest {
+
+    private static final String OTHER_NODE = "other-node";
+
+    private InMemoryRemoteCacheStore remote;
+    private TwoLevelCacheManager cacheManager;
+    private TwoLevelCache cache;
+    private RuleSetService ruleSetService;
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        remote = new InMemoryRemoteCacheStore();
+        cacheManager = TwoLevelCacheTest.newManager(remote);
+        cache = TwoLevelCacheTest.cacheOf(cacheManager);
+        ruleSetService = mock(RuleSetService.class);
+        when(ruleSetService.cacheVersion()).thenReturn("v1");
+        listener = new CacheInvalidationListener(cacheManager, remote, ruleSetService);
+
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+    }
+
+    @Test
+    void evictRemovesOnlyThatKeyFromLocal() {
+        receive(new CacheInvalidation(OTHER_NODE, CacheInvalidation.Type.EVICT, "natalChart:1"));
+
+        assertNull(cache.getNativeCache().getIfPresent(1L));
+        assertEquals("b", cache.getNativeCache().getIfPresent(2L));
+        // L2 는 보낸 노드가 이미 지웠으므로 건드리지 않음
+        assertEquals(2, remote.values().size());
+    }
+
+    @Test
+    void clearEmptiesLocal() {
+        receive(new CacheInvalidation(OTHER_NODE, CacheInvalidation.Type.CLEAR, "natalChart"));
+
+        assertEquals(0, cache.getNativeCache().estimatedSize());
+        assertEquals(2, remote.values().size());
+    }
+
+    @Test
+    void ownMessagesAreIgnored() {
+        receive(new CacheInvalidation(cacheManager.nodeId(), CacheInvalidation.Type.CLEAR, "natalChart"));
+        receive(new CacheInvalidation(cacheManager.nodeId(), CacheInvalidation.Type.RULES, "v2"));
+
+        assertEquals(2, cache.getNativeCache().estimatedSize());
+        verify(ruleSetService, never()).reload();
+    }
+
+    @Test
+    void unknownCacheAndMalformedMessagesAreIgnored() {
+        receive(new CacheInvalidation(OTHER_NODE, CacheInvalidation.Type.CLEAR, "noSuchCache"));
+        receive(new CacheInvalidation(OTHER_NODE, CacheInvalidation.Type.EVICT, "natalChart"));
+        listener.onMessage(new DefaultMessage(new byte[0], "garbage".getBytes(StandardCharsets.UTF_8)), null);
+        listener.onMessage(new DefaultMessage(new byte[0], "a|NOPE|b".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertEquals(2, cache.getNativeCache().estimatedSize());
+    }
+
+    @Test
+    void rulesWithDifferentFingerprintReloads() {
+        receive(new CacheInvalidation(OTHER_NODE, CacheInvalidation.Type.RULES, "v2"));
+
+        verify(ruleSetService).reload();
+    }
+
+    @Test
+    void rulesWithSameFingerprintDoesNotReload() {
+        receive(new CacheInvalidation(OTHER_NODE, CacheInvalidation.Type.RULES, "v1"));
+
+        verify(ruleSetService, never()).reload();
+    }
+
+    @Test
+    void contentChangePublishesRules() {
+        RuleSet previous = ruleSet("v1");
+        RuleSet current = ruleSet("v2");
+
+        listener.onRuleSetReloaded(new RuleSetReloadedEvent(previous, previous));
+        assertTrue(remote.published().isEmpty());
+
+        listener.onRuleSetReloaded(new RuleSetReloadedEvent(previous, current));
+        CacheInvalidation message = remote.published().get(0);
+        assertEquals(CacheInvalidation.Type.RULES, message.type());
+        assertEquals("v2", message.argument());
+        assertEquals(cacheManager.nodeId(), message.nodeId());
+    }
+
+    private void receive(CacheInvalidation invalidation) {
+        listener.onMessage(new DefaultMessage("cache-invalidation".getBytes(StandardCharsets.UTF_8),
+                invalidation.encode().getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    private static RuleSet ruleSet(String cacheVersion) {
+        RuleSet ruleSet = mock(RuleSet.class);
+        when(ruleSet.cacheVersion()).thenReturn(cacheVersion);
+        return ruleSet;
+    }
+}
@@ -0,0 +1,73 @@
+package com.codism.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 메모리 원격 캐시 저장소 (Redis 대용)
+ * available=false 로 두면 Redis 장애처럼 조회는 미스, 저장/삭제/전파는 무시합니다.
+ */
+class InMemoryRemoteCacheStore implements RemoteCacheStore {
+
+    private final Map<String, byte[]> values = new ConcurrentHashMap<>();
+    private final List<String> published = new CopyOnWriteArrayList<>();
+    private volatile boolean available = true;
+
+    @Override
+    public byte[] get(String key) {
+        return available ? values.get(key) : null;
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        if (available) {
+            values.put(key, value);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        if (available) {
+            values.remove(key);
+        }
+    }
+
+    @Override
+    public void deleteByPrefix(String prefix) {
+        if (available) {
+            values.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    @Override
+    public void publish(String message) {
+        if (available) {
+            published.add(message);
+        }
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return available;
+    }
+
+    void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    Map<String, byte[]> values() {
+        return values;
+    }
+
+    List<CacheInvalidation> published() {
+        List<CacheInvalidation> messages = new ArrayList<>();
+        for (String message : published) {
+            messages.add(CacheInvalidation.parse(message));
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,60 @@
+package com.codism.config;
+
+import com.codism.model.vo.NatalChart;
+import com.codism.service.NatalChartService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 원격 캐시용 사주 원국 직렬화 (인코딩 -> 디코딩 -> 인코딩 결과가 같은지)
+ */
+@SpringBootTest(properties = {
+        "spring.sql.init.mode=always",
+        "spring.sql.init.encoding=UTF-8",
+        "spring.jpa.defer-datasource-initialization=true"
+})
+class NatalChartCodecTest {
+
+    @Autowired
+    private NatalChartService natalChartService;
+
+    private final NatalChartCodec codec = new NatalChartCodec();
+
+    @Test
+    void roundTrip() throws Exception {
+        List<NatalChart> charts = List.of(
+                natalChartService.getNatalChart(LocalDate.of(1990, 5, 15), 14, "M", true, false),
+                natalChartService.getNatalChart(LocalDate.of(1990, 5, 15), 14, "M", true, true),
+                natalChartService.getNatalChart(LocalDate.of(1985, 1, 2), null, "F", true, false),
+                natalChartService.getNatalChart(LocalDate.of(2001, 2, 4), 23, "F", false, false)
+        );
+
+        for (NatalChart natal : charts) {
+            byte[] bytes = codec.encode(natal);
+            NatalChart decoded = codec.decode(bytes);
+
+            assertArrayEquals(bytes, codec.encode(decoded));
+            assertEquals(natal.pillars(), decoded.pillars());
+            assertEquals(natal.gender(), decoded.gender());
+            assertEquals(natal.daeunStart(), decoded.daeunStart());
+            assertEquals(natal.sinsals().size(), decoded.sinsals().size());
+            assertEquals(natal.daeunTimeline().size(), decoded.daeunTimeline().size());
+        }
+    }
+
+    @Test
+    void otherFormatVersionIsMiss() throws Exception {
+        byte[] bytes = codec.encode(natalChartService.getNatalChart(LocalDate.of(1990, 5, 15), 14, "M", true, false));
+        bytes[0]++;
+
+        assertNull(codec.decode(bytes));
+    }
+}
@@ -0,0 +1,51 @@
+package com.codism.config;
+
+import com.codism.model.vo.NatalChart;
+import com.codism.service.NatalChartService;
+import com.codism.service.RuleSetService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Redis 2단계 캐시를 켰지만 Redis 에 연결할 수 없을 때 기동과 조회가 로컬 캐시만으로 동작하는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.sql.init.mode=always",
+        "spring.sql.init.encoding=UTF-8",
+        "spring.jpa.defer-datasource-initialization=true",
+        "cache.redis.enabled=true",
+        "spring.data.redis.port=1",
+        "spring.data.redis.timeout=300ms"
+})
+class RedisDownContextTest {
+
+    @Autowired
+    private NatalChartService natalChartService;
+
+    @Autowired
+    private TwoLevelCacheManager cacheManager;
+
+    @Autowired
+    private RuleSetService ruleSetService;
+
+    @Test
+    void fallsBackToLocalCache() {
+        NatalChart first = natalChartService.getNatalChart(LocalDate.of(1990, 5, 15), 14, "M", true, false);
+        NatalChart second = natalChartService.getNatalChart(LocalDate.of(1990, 5, 15), 14, "M", true, false);
+
+        assertSame(first, second);
+        TwoLevelCache cache = assertInstanceOf(TwoLevelCache.class, cacheManager.getCache("natalChart"));
+        assertFalse(cache.isRemoteAvailable());
+
+        // 규칙 변경 전파(publish)도 실패를 삼킴
+        assertDoesNotThrow(ruleSetService::reload);
+    }
+}
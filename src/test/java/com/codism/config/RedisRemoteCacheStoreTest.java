@@ -0,0 +1,59 @@
+package com.codism.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Redis 에 연결할 수 없을 때 예외 없이 미스/무시로 처리하는지 확인
+ */
+class RedisRemoteCacheStoreTest {
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisRemoteCacheStore store;
+
+    @BeforeEach
+    void setUp() {
+        // 아무것도 듣고 있지 않은 포트
+        connectionFactory = new LettuceConnectionFactory("localhost", 1);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+
+        store = new RedisRemoteCacheStore(redisTemplate, "cache-invalidation", Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void unreachableRedisIsMissAndBacksOff() {
+        assertTrue(store.isAvailable());
+
+        assertNull(store.get("key"));
+        assertFalse(store.isAvailable());
+
+        // 재시도 대기 중에는 연결을 시도하지 않고 바로 반환
+        store.put("key", new byte[]{1}, Duration.ofMinutes(1));
+        store.delete("key");
+        store.deleteByPrefix("prefix:");
+        store.publish("message");
+        assertNull(store.get("key"));
+    }
+}
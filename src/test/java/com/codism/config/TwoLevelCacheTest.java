@@ -0,0 +1,169 @@
+package com.codism.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 2단계 캐시 (L1 Caffeine + 메모리 원격 저장소)
+ */
+class TwoLevelCacheTest {
+
+    private static final String CACHE = "natalChart";
+    private static final String PREFIX = "test:";
+
+    private InMemoryRemoteCacheStore remote;
+    private TwoLevelCache node1;
+    private TwoLevelCache node2;
+
+    @BeforeEach
+    void setUp() {
+        remote = new InMemoryRemoteCacheStore();
+        node1 = cacheOf(newManager(remote));
+        node2 = cacheOf(newManager(remote));
+    }
+
+    @Test
+    void missComputesOnceAndWritesBothLevels() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", node1.get("k1", () -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", node1.get("k1", () -> "v" + loads.incrementAndGet()));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, node1.remoteMissCount());
+        assertEquals(0, node1.remoteHitCount());
+        assertEquals("v1", new String(remote.values().get(PREFIX + CACHE + "::k1"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void otherNodeHitsRemote() {
+        node1.get("k1", () -> "v1");
+
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals("v1", node2.get("k1", () -> "v" + loads.incrementAndGet()));
+
+        assertEquals(0, loads.get());
+        assertEquals(1, node2.remoteHitCount());
+        // L2 에서 찾은 값은 L1 에도 들어감
+        assertEquals("v1", node2.getNativeCache().getIfPresent("k1"));
+    }
+
+    @Test
+    void lookupFallsBackToRemote() {
+        node1.put("k1", "v1");
+
+        assertEquals("v1", node2.get("k1").get());
+        assertNull(node2.get("k2"));
+        assertEquals(1, node2.remoteHitCount());
+        assertEquals(1, node2.remoteMissCount());
+    }
+
+    @Test
+    void remoteDownServesFromLocalOnly() {
+        remote.setAvailable(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", node1.get("k1", () -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", node1.get("k1", () -> "v" + loads.incrementAndGet()));
+        node1.evict("k1");
+        node1.clear();
+
+        assertEquals(1, loads.get());
+        assertFalse(node1.isRemoteAvailable());
+        assertTrue(remote.values().isEmpty());
+        assertTrue(remote.published().isEmpty());
+
+        // 복구 후에는 다시 L2 사용
+        remote.setAvailable(true);
+        node1.get("k2", () -> "v2");
+        assertEquals("v2", node2.get("k2", () -> "other"));
+    }
+
+    @Test
+    void unreadableRemoteValueIsMiss() {
+        remote.values().put(PREFIX + CACHE + "::k1", new byte[]{0});
+
+        assertEquals("fresh", node1.get("k1", () -> "fresh"));
+        assertEquals(1, node1.remoteMissCount());
+        assertEquals("fresh", new String(remote.values().get(PREFIX + CACHE + "::k1"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void evictDeletesRemoteAndBroadcasts() {
+        node1.put("k1", "v1");
+        node1.evict("k1");
+
+        assertTrue(remote.values().isEmpty());
+        CacheInvalidation message = remote.published().get(0);
+        assertEquals(CacheInvalidation.Type.EVICT, message.type());
+        assertEquals(CACHE + ":k1", message.argument());
+    }
+
+    @Test
+    void clearDeletesRemotePrefixAndBroadcasts() {
+        node1.put("k1", "v1");
+        node1.put("k2", "v2");
+        remote.values().put(PREFIX + "other::k1", new byte[]{1});
+        node1.clear();
+
+        assertEquals(List.of(PREFIX + "other::k1"), List.copyOf(remote.values().keySet()));
+        CacheInvalidation message = remote.published().get(0);
+        assertEquals(CacheInvalidation.Type.CLEAR, message.type());
+        assertEquals(CACHE, message.argument());
+    }
+
+    @Test
+    void cachesWithoutRemoteSettingsStayLocal() {
+        TwoLevelCacheManager manager = newManager(remote);
+        assertInstanceOf(TwoLevelCache.class, manager.getCache(CACHE));
+        assertFalse(manager.getCache("sipsungDetail") instanceof TwoLevelCache);
+
+        TwoLevelCacheManager localOnly = newManager(null);
+        assertFalse(localOnly.getCache(CACHE) instanceof TwoLevelCache);
+    }
+
+    static TwoLevelCacheManager newManager(RemoteCacheStore remote) {
+        return new TwoLevelCacheManager(remote, Map.of(CACHE, Duration.ofDays(7)),
+                Map.of(CACHE, new StringCodec()), PREFIX);
+    }
+
+    static TwoLevelCache cacheOf(TwoLevelCacheManager manager) {
+        return (TwoLevelCache) manager.getCache(CACHE);
+    }
+
+    /**
+     * 문자열 값 코덱 (0 한 바이트는 읽을 수 없는 값으로 처리)
+     */
+    static final class StringCodec implements CacheValueCodec<String> {
+
+        @Override
+        public Class<String> type() {
+            return String.class;
+        }
+
+        @Override
+        public byte[] encode(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] bytes) {
+            if (bytes.length == 1 && bytes[0] == 0) {
+                throw new IllegalArgumentException("unreadable");
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.codism.service;
+
+import com.codism.config.WarmupProperties;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 캐시 예열 범위 추출
+ */
+class CacheWarmupServiceTest {
+
+    @Test
+    void sampleDaysSpreadsOverWholeRange() {
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = LocalDate.of(1960, 1, 1); day.getYear() <= 2010; day = day.plusDays(1)) {
+            days.add(day);
+        }
+
+        List<LocalDate> sampled = CacheWarmupService.sampleDays(days, 109);
+
+        assertEquals(109, sampled.size());
+        assertEquals(LocalDate.of(1960, 1, 1), sampled.get(0));
+        assertEquals(2010, sampled.get(108).getYear());
+        for (int i = 1; i < sampled.size(); i++) {
+            long gap = sampled.get(i).toEpochDay() - sampled.get(i - 1).toEpochDay();
+            assertTrue(gap == days.size() / 109 || gap == days.size() / 109 + 1, () -> "gap " + gap);
+        }
+    }
+
+    @Test
+    void sampleDaysKeepsAllWhenBudgetCoversRange() {
+        List<LocalDate> days = List.of(LocalDate.of(2000, 1, 1), LocalDate.of(2000, 1, 2));
+        assertSame(days, CacheWarmupService.sampleDays(days, 5));
+    }
+
+    @Test
+    void maxChartsSamplesEveryYearOfRange() throws InterruptedException {
+        WarmupProperties properties = new WarmupProperties();
+        properties.setEnabled(true);
+        WarmupProperties.YearRange range = new WarmupProperties.YearRange();
+        range.setFromYear(1960);
+        range.setToYear(2010);
+        properties.setRanges(List.of(range));
+        properties.setHours(List.of(7, 19));
+        properties.setGenders(List.of("M"));
+        properties.setMaxCharts(102L);
+
+        NatalChartService natalChartService = mock(NatalChartService.class);
+        CacheWarmupService service = new CacheWarmupService(natalChartService, properties, Clock.systemDefaultZone());
+        service.start();
+        for (int i = 0; i < 500 && !service.isFinished(); i++) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(service.isFinished());
+        assertEquals(102, service.status().getTotal());
+        assertEquals(102, service.status().getCompleted());
+
+        // 51일 (약 1년 간격) x 2시, 범위 앞쪽 102건이 아님
+        ArgumentCaptor<LocalDate> birthDates = ArgumentCaptor.forClass(LocalDate.class);
+        verify(natalChartService, times(102)).getNatalChart(birthDates.capture(), any(), anyString(), anyBoolean(),
+                anyBoolean());
+        List<LocalDate> dates = new ArrayList<>(new TreeSet<>(birthDates.getAllValues()));
+        assertEquals(51, dates.size());
+        assertEquals(LocalDate.of(1960, 1, 1), dates.get(0));
+        assertTrue(dates.get(50).isAfter(LocalDate.of(2009, 12, 1)));
+        for (int i = 1; i < dates.size(); i++) {
+            long gap = dates.get(i).toEpochDay() - dates.get(i - 1).toEpochDay();
+            assertTrue(gap == 365 || gap == 366, () -> "gap " + gap);
+        }
+    }
+}
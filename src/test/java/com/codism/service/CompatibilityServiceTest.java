@@ -0,0 +1,111 @@
+package com.codism.service;
+
+import com.codism.config.error.entity.ApiException;
+import com.codism.model.dto.request.CompatibilityRankRequest;
+import com.codism.model.dto.response.CompatibilityRankResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 궁합 순위 (rank) 가 후보를 하나씩 getCompatibility 로 채점한 결과와 같은지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.sql.init.mode=always",
+        "spring.sql.init.encoding=UTF-8",
+        "spring.jpa.defer-datasource-initialization=true"
+})
+class CompatibilityServiceTest {
+
+    private static final CompatibilityRankRequest.BirthInfo SUBJECT =
+            new CompatibilityRankRequest.BirthInfo(LocalDate.of(1990, 3, 4), "10:30");
+
+    @Autowired
+    private CompatibilityService compatibilityService;
+
+    @Test
+    void rankMatchesSequentialScoring() {
+        List<CompatibilityRankRequest.Candidate> candidates = randomCandidates(3000, new Random(20));
+        CompatibilityRankResponse response = compatibilityService.rank(
+                new CompatibilityRankRequest(SUBJECT, candidates, 50));
+
+        List<int[]> expected = sequentialScores(candidates);
+        assertEquals(candidates.size(), response.getCandidateCount());
+        assertEquals(1, response.getSkippedCount());
+        assertEquals(50, response.getRanking().size());
+        for (int k = 0; k < 50; k++) {
+            CompatibilityRankResponse.RankedCandidate ranked = response.getRanking().get(k);
+            assertEquals(k + 1, ranked.getRank());
+            assertEquals(candidates.get(expected.get(k)[1]).getId(), ranked.getId());
+            assertEquals(expected.get(k)[0], ranked.getTotalScore());
+        }
+    }
+
+    @Test
+    void topKLargerThanCandidatesReturnsAll() {
+        List<CompatibilityRankRequest.Candidate> candidates = randomCandidates(30, new Random(21));
+        CompatibilityRankResponse response = compatibilityService.rank(
+                new CompatibilityRankRequest(SUBJECT, candidates, CompatibilityService.MAX_TOP_K));
+
+        List<int[]> expected = sequentialScores(candidates);
+        assertEquals(expected.size(), response.getRanking().size());
+        for (int k = 0; k < expected.size(); k++) {
+            assertEquals(candidates.get(expected.get(k)[1]).getId(), response.getRanking().get(k).getId());
+        }
+    }
+
+    @Test
+    void rejectsInvalidRequest() {
+        List<CompatibilityRankRequest.Candidate> candidates = randomCandidates(5, new Random(22));
+        assertThrows(ApiException.class, () -> compatibilityService.rank(
+                new CompatibilityRankRequest(SUBJECT, List.of(), 10)));
+        assertThrows(ApiException.class, () -> compatibilityService.rank(
+                new CompatibilityRankRequest(SUBJECT, candidates, 0)));
+        assertThrows(ApiException.class, () -> compatibilityService.rank(
+                new CompatibilityRankRequest(new CompatibilityRankRequest.BirthInfo(null, null), candidates, 10)));
+    }
+
+    /**
+     * 후보 생성 (8번 후보는 생년월일이 없어 제외되어야 함)
+     */
+    private static List<CompatibilityRankRequest.Candidate> randomCandidates(int count, Random random) {
+        List<CompatibilityRankRequest.Candidate> candidates = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalDate birthDate = i == 7
+                    ? null
+                    : LocalDate.of(1950 + random.nextInt(100), 1 + random.nextInt(12), 1 + random.nextInt(28));
+            String birthTime = random.nextBoolean()
+                    ? String.format("%02d:%02d", random.nextInt(24), random.nextInt(60))
+                    : null;
+            candidates.add(new CompatibilityRankRequest.Candidate("c" + i, birthDate, birthTime));
+        }
+        return candidates;
+    }
+
+    /**
+     * 후보를 순서대로 getCompatibility 로 채점해 (점수 내림차순, 요청 순서) 로 정렬한 {점수, 후보 인덱스} 목록
+     */
+    private List<int[]> sequentialScores(List<CompatibilityRankRequest.Candidate> candidates) {
+        List<int[]> scores = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            CompatibilityRankRequest.Candidate candidate = candidates.get(i);
+            if (candidate.getBirthDate() == null) {
+                continue;
+            }
+            int score = compatibilityService.getCompatibility(SUBJECT.getBirthDate(), SUBJECT.getBirthTime(),
+                    candidate.getBirthDate(), candidate.getBirthTime()).getTotalScore();
+            scores.add(new int[]{score, i});
+        }
+        scores.sort(Comparator.<int[]>comparingInt(s -> -s[0]).thenComparingInt(s -> s[1]));
+        return scores;
+    }
+}
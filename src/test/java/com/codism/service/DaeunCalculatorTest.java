@@ -0,0 +1,118 @@
+package com.codism.service;
+
+import com.codism.model.vo.DaeunStartAge;
+import com.codism.model.vo.FourPillars;
+import com.codism.model.vo.Ganji;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 대운 시작 나이 (절입 시각 조회와 3일 = 1년 환산)
+ */
+class DaeunCalculatorTest {
+
+    private static final long DAY = 1440;
+    private static final long HOUR = 60;
+
+    private final DaeunCalculator daeunCalculator = new DaeunCalculator();
+
+    @Test
+    void ofMinutesConvertsUnits() {
+        assertEquals(DaeunStartAge.of(1, 0, 0, true), DaeunStartAge.ofMinutes(3 * DAY, true));
+        assertEquals(DaeunStartAge.of(0, 4, 0, true), DaeunStartAge.ofMinutes(DAY, true));
+        assertEquals(DaeunStartAge.of(0, 0, 10, false), DaeunStartAge.ofMinutes(2 * HOUR, false));
+        assertEquals(DaeunStartAge.of(0, 0, 0, true), DaeunStartAge.ofMinutes(0, true));
+        assertEquals(DaeunStartAge.of(0, 0, 0, true), DaeunStartAge.ofMinutes(-30, true));
+    }
+
+    @Test
+    void ofMinutesKeepsRemainders() {
+        // 3일 + 1일 + 2시간 + 11분 = 1년 4개월 10일 (12분 미만은 버림)
+        assertEquals(DaeunStartAge.of(1, 4, 10, true), DaeunStartAge.ofMinutes(3 * DAY + DAY + 2 * HOUR + 11, true));
+        // 2일 23시간 59분 = 11개월 + 359분 = 11개월 29일
+        assertEquals(DaeunStartAge.of(0, 11, 29, true), DaeunStartAge.ofMinutes(3 * DAY - 1, true));
+        // 31일 = 10년 4개월
+        assertEquals(DaeunStartAge.of(10, 4, 0, false), DaeunStartAge.ofMinutes(31 * DAY, false));
+        // 6시간 = 1개월, 12분 = 1일
+        assertEquals(DaeunStartAge.of(0, 1, 1, true), DaeunStartAge.ofMinutes(6 * HOUR + 12, true));
+    }
+
+    @Test
+    void jeolWithinYear() {
+        long birth = SolarTermCalculator.toKstMinute(2024, 2, 20, 10, 0);
+
+        // 2024 입춘 02-04 17:27, 경칩 03-05 11:23
+        assertEquals(SolarTermCalculator.toKstMinute(2024, 2, 4, 17, 27),
+                SolarTermCalculator.getPreviousJeolMinute(2024, birth));
+        assertEquals(SolarTermCalculator.toKstMinute(2024, 3, 5, 11, 23),
+                SolarTermCalculator.getNextJeolMinute(2024, birth));
+
+        // 절입 시각 자체는 이전 절에 포함, 다음 절에는 미포함
+        long ipchun = SolarTermCalculator.getTermMinute(2024, 2);
+        assertEquals(ipchun, SolarTermCalculator.getPreviousJeolMinute(2024, ipchun));
+        assertEquals(SolarTermCalculator.getTermMinute(2024, 4), SolarTermCalculator.getNextJeolMinute(2024, ipchun));
+    }
+
+    @Test
+    void birthBeforeSohanUsesPreviousYearDaeseol() {
+        long birth = SolarTermCalculator.toKstMinute(2024, 1, 3, 12, 0);
+
+        long previous = SolarTermCalculator.getPreviousJeolMinute(2024, birth);
+        assertEquals(SolarTermCalculator.getTermMinute(2023, 22), previous);
+        assertTrue(previous >= SolarTermCalculator.toKstMinute(2023, 12, 7, 0, 0)
+                && previous < SolarTermCalculator.toKstMinute(2023, 12, 8, 0, 0));
+
+        // 다음 절은 같은 해 소한 (01-06 05:49)
+        assertEquals(SolarTermCalculator.toKstMinute(2024, 1, 6, 5, 49),
+                SolarTermCalculator.getNextJeolMinute(2024, birth));
+    }
+
+    @Test
+    void birthAfterDaeseolUsesNextYearSohan() {
+        long birth = SolarTermCalculator.toKstMinute(2024, 12, 20, 12, 0);
+
+        // 2025 소한 01-05 11:33
+        assertEquals(SolarTermCalculator.toKstMinute(2025, 1, 5, 11, 33),
+                SolarTermCalculator.getNextJeolMinute(2024, birth));
+        assertEquals(SolarTermCalculator.getTermMinute(2025, 0), SolarTermCalculator.getNextJeolMinute(2024, birth));
+        assertEquals(SolarTermCalculator.getTermMinute(2024, 22), SolarTermCalculator.getPreviousJeolMinute(2024, birth));
+    }
+
+    @Test
+    void forwardAndBackwardOnKnownChart() {
+        // 2024-02-20 10:00, 갑진년 병인월: 양남 순행(경칩까지), 양녀 역행(입춘부터)
+        FourPillars pillars = StemBranchCalculator.getFourPillars(2024, 2, 20, 10, 0, true);
+        assertEquals(Ganji.parse("갑진"), pillars.year());
+        assertEquals(Ganji.parse("병인"), pillars.month());
+        long birth = SolarTermCalculator.toKstMinute(2024, 2, 20, 10, 0);
+
+        boolean male = daeunCalculator.isForwardDaeun("M", pillars.year());
+        assertTrue(male);
+        // 14일 1시간 23분 = 4년 8개월 6일
+        assertEquals(DaeunStartAge.of(4, 8, 6, true), daeunCalculator.calculateDaeunStartAge(2024, birth, male));
+        assertEquals(Ganji.parse("정묘"), daeunCalculator.calculateDaeunForAge(5, 4, "M", pillars.year(), pillars.month()));
+
+        boolean female = daeunCalculator.isForwardDaeun("F", pillars.year());
+        assertFalse(female);
+        // 15일 16시간 33분 = 5년 2개월 22일
+        assertEquals(DaeunStartAge.of(5, 2, 22, false), daeunCalculator.calculateDaeunStartAge(2024, birth, female));
+        assertEquals(Ganji.parse("을축"), daeunCalculator.calculateDaeunForAge(5, 5, "F", pillars.year(), pillars.month()));
+    }
+
+    @Test
+    void rolloverOnKnownChart() {
+        // 2024-01-03 12:00 은 입춘 전이라 계묘년: 음남 역행(2023 대설부터), 음녀 순행(2024 소한까지)
+        FourPillars pillars = StemBranchCalculator.getFourPillars(2024, 1, 3, 12, 0, true);
+        assertEquals(Ganji.parse("계묘"), pillars.year());
+        long birth = SolarTermCalculator.toKstMinute(2024, 1, 3, 12, 0);
+
+        assertEquals(DaeunStartAge.ofMinutes(birth - SolarTermCalculator.getTermMinute(2023, 22), false),
+                daeunCalculator.calculateDaeunStartAge(2024, birth, daeunCalculator.isForwardDaeun("M", pillars.year())));
+        // 2일 17시간 49분 = 10개월 29일
+        assertEquals(DaeunStartAge.of(0, 10, 29, true),
+                daeunCalculator.calculateDaeunStartAge(2024, birth, daeunCalculator.isForwardDaeun("F", pillars.year())));
+    }
+}
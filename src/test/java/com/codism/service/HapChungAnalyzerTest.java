@@ -0,0 +1,158 @@
+package com.codism.service;
+
+import com.codism.model.dto.response.SajuDetailResponse.HapChungAnalysis;
+import com.codism.model.vo.FourPillars;
+import com.codism.model.vo.Ganji;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.codism.service.GanjiRelationMatrix.CHUNG;
+import static com.codism.service.GanjiRelationMatrix.HAE;
+import static com.codism.service.GanjiRelationMatrix.PA;
+import static com.codism.service.GanjiRelationMatrix.STEM_HAP;
+import static com.codism.service.GanjiRelationMatrix.YUKHAP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 합충형파해 관계표와 분석 결과 확인
+ * 천간합/육합/충/파/해 이름은 관계표 도입 이전(문자열 비교) 분석기의 이름과 같아야 합니다.
+ */
+class HapChungAnalyzerTest {
+
+    // 이전 분석기의 이름 (두 글자 순서와 상관없이 같은 이름)
+    private static final String[] OLD_STEM_HAP = {"갑기합토", "을경합금", "병신합수", "정임합목", "무계합화"};
+    private static final String[] OLD_YUKHAP = {"자축합토", "인해합목", "묘술합화", "진유합금", "사신합수", "오미합화"};
+    private static final String[] OLD_CHUNG = {"자오충", "축미충", "인신충", "묘유충", "진술충", "사해충"};
+    private static final String[] OLD_PA = {"자유파", "오묘파", "진축파", "술미파", "해신파", "인사파"};
+    private static final String[] OLD_HAE = {"자미해", "축오해", "인사해", "묘진해", "신해해", "유술해"};
+
+    private final HapChungAnalyzer analyzer = new HapChungAnalyzer();
+
+    @Test
+    void stemHapLabelsMatchOldAnalyzer() {
+        Map<String, String> expected = pairLabels(OLD_STEM_HAP);
+        for (int a = 0; a < 10; a++) {
+            for (int b = 0; b < 10; b++) {
+                String old = expected.get(Ganji.stemName(a) + Ganji.stemName(b));
+                boolean hap = (GanjiRelationMatrix.stem(a, b) & STEM_HAP) != 0;
+                assertEquals(old != null, hap, Ganji.stemName(a) + Ganji.stemName(b));
+                if (hap) {
+                    assertEquals(old, GanjiRelationMatrix.stemLabel(a, b));
+                }
+            }
+        }
+    }
+
+    @Test
+    void branchPairLabelsMatchOldAnalyzer() {
+        assertBranchLabels(YUKHAP, OLD_YUKHAP);
+        assertBranchLabels(CHUNG, OLD_CHUNG);
+        assertBranchLabels(PA, OLD_PA);
+        assertBranchLabels(HAE, OLD_HAE);
+    }
+
+    @Test
+    void natalLabelsKeepOldPositionFormat() {
+        // 갑자 병오 기유 신미: 갑기합, 병신합, 자오충, 자유파, 자미해, 오미합
+        HapChungAnalysis analysis = analyze("갑자", "병오", "기유", "신미");
+
+        assertEquals(List.of("년간-일간 갑기합토", "월간-시간 병신합수", "월지-시지 오미합화"), analysis.getHapList());
+        assertEquals(List.of("년지-월지 자오충"), analysis.getChungList());
+        assertEquals(List.of("년지-일지 자유파"), analysis.getPaList());
+        assertEquals(List.of("년지-시지 자미해"), analysis.getHaeList());
+        assertTrue(analysis.getHyeongList().isEmpty());
+    }
+
+    @Test
+    void banhapSuppressedByFullSamhap() {
+        HapChungAnalysis partial = analyze("갑신", "병자", "갑오", null);
+        assertEquals(List.of("년지-월지 신자반합수"), partial.getHapList());
+
+        HapChungAnalysis full = analyze("갑신", "병자", "무진", null);
+        assertEquals(List.of("신자진 삼합수국"), full.getHapList());
+    }
+
+    @Test
+    void pairHyeongSuppressedByFullSamhyeong() {
+        HapChungAnalysis partial = analyze("갑인", "기사", "갑자", null);
+        assertEquals(List.of("년지-월지 인사형"), partial.getHyeongList());
+
+        // 인사신: 두 지지 형 대신 삼형만, 파/해/합은 그대로
+        HapChungAnalysis full = analyze("갑인", "기사", "무신", null);
+        assertEquals(List.of("인사신 삼형(무은지형)"), full.getHyeongList());
+        assertEquals(List.of("년지-월지 인사파"), full.getPaList());
+        assertEquals(List.of("년지-월지 인사해"), full.getHaeList());
+        assertEquals(List.of("년간-월간 갑기합토", "월지-일지 사신합수"), full.getHapList());
+        assertEquals(List.of("년지-일지 인신충"), full.getChungList());
+
+        HapChungAnalysis chuksulmi = analyze("을축", "갑술", "정미", null);
+        assertEquals(List.of("축술미 삼형(지세지형)"), chuksulmi.getHyeongList());
+    }
+
+    @Test
+    void banghapAndJamyoHyeong() {
+        HapChungAnalysis banghap = analyze("갑인", "정묘", "무진", null);
+        assertTrue(banghap.getHapList().contains("인묘진 방합목국"));
+
+        HapChungAnalysis jamyo = analyze("갑자", "정묘", "갑오", null);
+        assertEquals(List.of("년지-월지 자묘형"), jamyo.getHyeongList());
+    }
+
+    @Test
+    void selfHyeong() {
+        assertEquals(List.of("년지-일지 진진자형"), analyze("갑진", "을축", "병진", null).getHyeongList());
+        assertEquals(List.of("년지-일지 오오자형"), analyze("갑오", "을축", "병오", null).getHyeongList());
+        assertEquals(List.of("년지-일지 유유자형"), analyze("을유", "갑자", "정유", null).getHyeongList());
+        assertEquals(List.of("년지-일지 해해자형"), analyze("을해", "갑자", "정해", null).getHyeongList());
+
+        // 자형이 아닌 같은 지지는 형 없음
+        assertTrue(analyze("갑자", "을축", "병자", null).getHyeongList().isEmpty());
+    }
+
+    @Test
+    void transitsIncludeBanhap() {
+        HapChungAnalysis natal = analyze("갑인", "병인", "경신", null);
+        HapChungAnalysis result = analyzer.withTransits(natal, Ganji.parse("경신"),
+                Ganji.parse("병자"), Ganji.parse("을축"), null);
+
+        assertEquals(List.of("일지-대운지지 신자반합수"), result.getSajuToDaeun());
+        assertEquals(List.of("일간-세운천간 을경합금"), result.getSajuToSeun());
+        assertTrue(result.getSajuToWolun().isEmpty());
+    }
+
+    private HapChungAnalysis analyze(String year, String month, String day, String hour) {
+        return analyzer.analyzeNatal(FourPillars.of(Ganji.parse(year), Ganji.parse(month), Ganji.parse(day),
+                hour != null ? Ganji.parse(hour) : null));
+    }
+
+    private static void assertBranchLabels(int relation, String[] oldLabels) {
+        Map<String, String> expected = pairLabels(oldLabels);
+        for (int a = 0; a < 12; a++) {
+            for (int b = 0; b < 12; b++) {
+                String pair = Ganji.branchName(a) + Ganji.branchName(b);
+                String old = expected.get(pair);
+                boolean related = (GanjiRelationMatrix.branch(a, b) & relation) != 0;
+                assertEquals(old != null, related, pair);
+                if (related) {
+                    assertEquals(old, GanjiRelationMatrix.branchLabel(relation, a, b));
+                }
+            }
+        }
+    }
+
+    /**
+     * "갑기합토" 같은 이름을 "갑기", "기갑" 두 순서의 쌍으로 풀어 둠
+     */
+    private static Map<String, String> pairLabels(String[] labels) {
+        Map<String, String> pairs = new HashMap<>();
+        for (String label : labels) {
+            pairs.put(label.substring(0, 2), label);
+            pairs.put("" + label.charAt(1) + label.charAt(0), label);
+        }
+        return pairs;
+    }
+}
@@ -0,0 +1,75 @@
+package com.codism.service;
+
+import com.codism.model.dto.response.SajuDetailResponse;
+import com.codism.model.dto.response.SimpleSajuResponse;
+import com.codism.model.vo.NatalChart;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 사주 원국 계산 (출생 시간을 모르는 경우)
+ */
+@SpringBootTest(properties = {
+        "spring.sql.init.mode=always",
+        "spring.sql.init.encoding=UTF-8",
+        "spring.jpa.defer-datasource-initialization=true"
+})
+class NatalChartServiceTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1996, 12, 1);
+
+    @Autowired
+    private NatalChartService natalChartService;
+
+    @Autowired
+    private SajuDetailService sajuDetailService;
+
+    @Test
+    void unknownHourHasNoHourPillar() {
+        NatalChart natal = natalChartService.getNatalChart(BIRTH_DATE, null, "M", true, false);
+
+        assertFalse(natal.pillars().hasHour());
+        assertNull(natal.hour());
+        assertNotNull(natal.day());
+        assertNotNull(natal.sinsals());
+        assertNotNull(natal.daeunStart());
+    }
+
+    @Test
+    void unknownHourKeepsOtherPillars() {
+        NatalChart withoutHour = natalChartService.getNatalChart(BIRTH_DATE, null, "M", true, false);
+        NatalChart withHour = natalChartService.getNatalChart(BIRTH_DATE, 7, "M", true, false);
+
+        assertEquals(withHour.pillars().year(), withoutHour.pillars().year());
+        assertEquals(withHour.pillars().month(), withoutHour.pillars().month());
+        assertEquals(withHour.pillars().day(), withoutHour.pillars().day());
+        assertEquals(withHour.day().getJijiSipsung(), withoutHour.day().getJijiSipsung());
+    }
+
+    @Test
+    void detailWithoutBirthTime() {
+        // 컨트롤러 기본값 00:00 은 시간 미상으로 처리
+        SajuDetailResponse response = sajuDetailService.getSajuDetail(
+                BIRTH_DATE, "00:00", "M", true, false, LocalDate.of(2025, 1, 1));
+
+        assertNull(response.getHour());
+        assertNotNull(response.getDay());
+    }
+
+    @Test
+    void simpleInfoWithoutBirthTime() {
+        SimpleSajuResponse response = sajuDetailService.getSimpleSaju(BIRTH_DATE, "00:00", "M");
+
+        assertNull(response.getHour());
+        assertNotNull(response.getDay());
+        assertNotNull(response.getSinsalList());
+    }
+}
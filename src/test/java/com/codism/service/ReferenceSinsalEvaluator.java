@@ -0,0 +1,164 @@
+package com.codism.service;
+
+import com.codism.model.entity.SinsalMaster;
+import com.codism.model.entity.SinsalRule;
+import com.codism.repository.SinsalMasterRepository;
+import com.codism.repository.SinsalRuleRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 기준 신살 계산기 (테스트 전용)
+ * 규칙 컴파일 이전의 SinsalCalculatorDB 판정 로직을 그대로 옮긴 것으로,
+ * 매 사주마다 모든 신살·규칙을 순회하며 조건 JSON 을 다시 파싱합니다.
+ * 컴파일된 규칙 프로그램/사전 계산 테이블/후보 인덱스 결과가 이것과 같아야 합니다.
+ */
+class ReferenceSinsalEvaluator {
+
+    private final Supplier<List<SinsalMaster>> activeSinsals;
+    private final Function<Long, List<SinsalRule>> rulesBySinsal;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * DB 의 신살/규칙으로 계산 (기존 코드와 같은 조회)
+     */
+    ReferenceSinsalEvaluator(SinsalMasterRepository sinsalMasterRepository,
+                             SinsalRuleRepository sinsalRuleRepository) {
+        this(sinsalMasterRepository::findByIsActiveTrueOrderByPriorityDesc, sinsalRuleRepository::findBySinsalId);
+    }
+
+    /**
+     * 주어진 신살(우선순위 순)과 신살 ID 별 규칙으로 계산
+     */
+    ReferenceSinsalEvaluator(Supplier<List<SinsalMaster>> activeSinsals,
+                             Function<Long, List<SinsalRule>> rulesBySinsal) {
+        this.activeSinsals = activeSinsals;
+        this.rulesBySinsal = rulesBySinsal;
+    }
+
+    /**
+     * 사주의 신살 이름 목록 (우선순위 순)
+     */
+    List<String> calculateAllSinsal(String ilgan,
+                                    String yearJiji, String monthJiji, String dayJiji, String hourJiji,
+                                    String yearCheongan, String monthCheongan, String hourCheongan) {
+        List<String> sinsalList = new ArrayList<>();
+        for (SinsalMaster sinsal : activeSinsals.get()) {
+            for (SinsalRule rule : rulesBySinsal.apply(sinsal.getSinsalId())) {
+                if (checkSinsalRule(rule, ilgan, yearJiji, monthJiji, dayJiji, hourJiji,
+                        yearCheongan, monthCheongan, hourCheongan)) {
+                    sinsalList.add(sinsal.getSinsalName());
+                    break;
+                }
+            }
+        }
+        return sinsalList;
+    }
+
+    private boolean checkSinsalRule(SinsalRule rule, String ilgan,
+                                    String yearJiji, String monthJiji, String dayJiji, String hourJiji,
+                                    String yearCheongan, String monthCheongan, String hourCheongan) {
+        if (rule.getRuleType() == null) {
+            return false;
+        }
+
+        List<String> ilganList = parseJsonArray(rule.getConditionIlgan());
+        List<String> yenjiList = parseJsonArray(rule.getConditionYenji());
+        List<String> targetList = parseJsonArray(rule.getConditionTarget());
+        String matchPosition = rule.getMatchPosition();
+        List<String> allJiji = Arrays.asList(yearJiji, monthJiji, dayJiji, hourJiji);
+
+        return switch (rule.getRuleType()) {
+            case ILGAN_JIJI -> {
+                if (!ilganList.contains(ilgan)) {
+                    yield false;
+                }
+                List<String> jijiToCheck;
+                if ("year".equals(matchPosition)) {
+                    jijiToCheck = Arrays.asList(yearJiji);
+                } else if ("month".equals(matchPosition)) {
+                    jijiToCheck = Arrays.asList(monthJiji);
+                } else if ("day".equals(matchPosition)) {
+                    jijiToCheck = Arrays.asList(dayJiji);
+                } else if ("hour".equals(matchPosition)) {
+                    jijiToCheck = Arrays.asList(hourJiji);
+                } else {
+                    jijiToCheck = allJiji;
+                }
+                yield containsAny(jijiToCheck, targetList);
+            }
+            case YENJI_COMBINATION -> "any".equals(matchPosition)
+                    ? containsAny(allJiji, yenjiList)
+                    : yenjiList.contains(yearJiji);
+            case JIJI_PATTERN -> {
+                if (targetList.size() < 2) {
+                    yield false;
+                }
+                yield Boolean.TRUE.equals(rule.getRequireAll())
+                        ? allJiji.containsAll(targetList)
+                        : containsAny(allJiji, targetList);
+            }
+            case ILGAN_YENJI -> ilganList.contains(ilgan) && yenjiList.contains(yearJiji);
+            case CHEONGAN_JIJI -> {
+                List<String> allCheongan = Arrays.asList(yearCheongan, monthCheongan, hourCheongan);
+                List<String> jijiWithoutDay = Arrays.asList(yearJiji, monthJiji, hourJiji);
+                yield containsAny(allCheongan, ilganList) && containsAny(jijiWithoutDay, targetList);
+            }
+            case YENJI_TO_ANY -> {
+                if (!yenjiList.isEmpty()) {
+                    // target 이 yenjiList 에 있으면 년지만, 없으면 삼합(서로 다른 지지 2개 이상) 확인
+                    if (containsAny(yenjiList, targetList)) {
+                        if (!yenjiList.contains(yearJiji)) {
+                            yield false;
+                        }
+                    } else if (yenjiList.stream().filter(allJiji::contains).distinct().count() < 2) {
+                        yield false;
+                    }
+                }
+                yield containsAny(allJiji, targetList);
+            }
+            case ILJU_COMBINATION -> {
+                if ("any".equals(matchPosition)) {
+                    List<String> allCheongan = Arrays.asList(yearCheongan, monthCheongan, ilgan, hourCheongan);
+                    for (int i = 0; i < 4; i++) {
+                        if (ilganList.contains(allCheongan.get(i)) && targetList.contains(allJiji.get(i))) {
+                            yield true;
+                        }
+                    }
+                    yield false;
+                }
+                yield ilganList.contains(ilgan) && targetList.contains(dayJiji);
+            }
+            case JIJI_PAIR -> !yenjiList.isEmpty() && !targetList.isEmpty()
+                    && containsAny(allJiji, yenjiList) && containsAny(allJiji, targetList);
+            case JIJI_TO_CHEONGAN -> containsAny(allJiji, yenjiList)
+                    && containsAny(Arrays.asList(ilgan, yearCheongan, monthCheongan, hourCheongan), targetList);
+        };
+    }
+
+    private static boolean containsAny(List<String> source, List<String> values) {
+        for (String value : values) {
+            if (source.contains(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<String> parseJsonArray(String json) {
+        if (json == null || json.trim().isEmpty() || json.equals("any") || json.equals("[]")) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
+        } catch (Exception e) {
+            return new ArrayList<>();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.codism.service;
+
+import com.codism.model.dto.response.SajuDetailResponse;
+import com.codism.model.entity.SinsalMaster;
+import com.codism.model.entity.SinsalRule;
+import com.codism.model.vo.FourPillars;
+import com.codism.model.vo.Ganji;
+import com.codism.repository.SinsalMasterRepository;
+import com.codism.repository.SinsalRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 신살 계산 결과가 규칙 컴파일 이전의 판정 로직(ReferenceSinsalEvaluator)과 같은지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.sql.init.mode=always",
+        "spring.sql.init.encoding=UTF-8",
+        "spring.jpa.defer-datasource-initialization=true"
+})
+class SinsalCalculatorDBTest {
+
+    private static final int SAMPLES = 3000;
+
+    @Autowired
+    private SinsalCalculatorDB sinsalCalculatorDB;
+
+    @Autowired
+    private SinsalMasterRepository sinsalMasterRepository;
+
+    @Autowired
+    private SinsalRuleRepository sinsalRuleRepository;
+
+    private ReferenceSinsalEvaluator reference;
+
+    @BeforeEach
+    void setUp() {
+        reference = new ReferenceSinsalEvaluator(sinsalMasterRepository, sinsalRuleRepository);
+    }
+
+    @Test
+    void compiledProgramMatchesReference() {
+        // 월간/시간이 맞지 않는 조합과 시주가 없는 사주도 포함해 규칙 프로그램을 직접 평가 (explain)
+        Random random = new Random(7);
+        for (int i = 0; i < SAMPLES; i++) {
+            String ilgan = Ganji.stemName(random.nextInt(10));
+            String yearStem = Ganji.stemName(random.nextInt(10));
+            String monthStem = Ganji.stemName(random.nextInt(10));
+            String yearBranch = Ganji.branchName(random.nextInt(12));
+            String monthBranch = Ganji.branchName(random.nextInt(12));
+            String dayBranch = Ganji.branchName(random.nextInt(12));
+            boolean hasHour = random.nextInt(8) != 0;
+            String hourStem = hasHour ? Ganji.stemName(random.nextInt(10)) : null;
+            String hourBranch = hasHour ? Ganji.branchName(random.nextInt(12)) : null;
+
+            List<String> expected = reference.calculateAllSinsal(ilgan, yearBranch, monthBranch, dayBranch, hourBranch,
+                    yearStem, monthStem, hourStem);
+            List<String> actual = names(sinsalCalculatorDB.calculateAllSinsal(ilgan, yearBranch, monthBranch,
+                    dayBranch, hourBranch, yearStem, monthStem, hourStem, true));
+
+            assertEquals(expected, actual, () -> String.join(",", ilgan, yearStem, monthStem, hourStem,
+                    yearBranch, monthBranch, dayBranch, hourBranch));
+        }
+    }
+
+    @Test
+    void precomputedTableMatchesReference() {
+        SinsalCatalog catalog = sinsalCalculatorDB.getCatalog();
+        assertNotNull(catalog.table());
+
+        Random random = new Random(8);
+        for (int i = 0; i < SAMPLES; i++) {
+            int year = 1901 + random.nextInt(148);
+            int month = 1 + random.nextInt(12);
+            int day = 1 + random.nextInt(28);
+            Integer hour = random.nextInt(8) == 0 ? null : random.nextInt(24);
+            FourPillars pillars = StemBranchCalculator.getFourPillars(year, month, day, hour, random.nextInt(60), true);
+
+            Ganji hourPillar = pillars.hasHour() ? pillars.hour() : null;
+            List<SajuDetailResponse.SinsalInfo> fromTable = catalog.lookup(
+                    pillars.day().stem(), pillars.year().stem(), pillars.month().stem(),
+                    hourPillar != null ? hourPillar.stem() : -1,
+                    pillars.year().branch(), pillars.month().branch(), pillars.day().branch(),
+                    hourPillar != null ? hourPillar.branch() : -1);
+            assertNotNull(fromTable, pillars::toString);
+
+            List<String> expected = reference.calculateAllSinsal(pillars.day().stemName(),
+                    pillars.year().branchName(), pillars.month().branchName(), pillars.day().branchName(),
+                    hourPillar != null ? hourPillar.branchName() : null,
+                    pillars.year().stemName(), pillars.month().stemName(),
+                    hourPillar != null ? hourPillar.stemName() : null);
+            assertEquals(expected, names(fromTable), pillars::toString);
+        }
+    }
+
+    @Test
+    void unreachableChartFallsBackToProgram() {
+        // 갑년 인월의 월간은 병이어야 하므로 정인월은 테이블에 없음
+        assertNull(sinsalCalculatorDB.getCatalog().lookup(0, 0, 3, -1, 0, 2, 0, -1));
+
+        List<String> expected = reference.calculateAllSinsal("갑", "자", "인", "자", null, "갑", "정", null);
+        assertEquals(expected, names(sinsalCalculatorDB.calculateAllSinsal("갑", "자", "인", "자", null,
+                "갑", "정", null)));
+    }
+
+    @Test
+    void candidateIndexKeepsEveryMatchingRule() {
+        // (일간, 년지) 후보 목록마다 나머지 기둥을 바꿔 가며 전체 규칙을 훑는 기준 결과와 비교
+        SinsalRuleProgram program = sinsalCalculatorDB.getCatalog().program();
+        assertTrue(program.averageCandidateCount() < program.ruleCount());
+
+        Random random = new Random(12);
+        for (int ilgan = 0; ilgan < 10; ilgan++) {
+            for (int yearBranch = 0; yearBranch < 12; yearBranch++) {
+                for (int i = 0; i < 40; i++) {
+                    String il = Ganji.stemName(ilgan);
+                    String yb = Ganji.branchName(yearBranch);
+                    String ys = Ganji.stemName(random.nextInt(10));
+                    String ms = Ganji.stemName(random.nextInt(10));
+                    String mb = Ganji.branchName(random.nextInt(12));
+                    String db = Ganji.branchName(random.nextInt(12));
+                    boolean hasHour = random.nextInt(8) != 0;
+                    String hs = hasHour ? Ganji.stemName(random.nextInt(10)) : null;
+                    String hb = hasHour ? Ganji.branchName(random.nextInt(12)) : null;
+
+                    List<String> expected = reference.calculateAllSinsal(il, yb, mb, db, hb, ys, ms, hs);
+                    List<String> actual = names(sinsalCalculatorDB.calculateAllSinsal(il, yb, mb, db, hb,
+                            ys, ms, hs, true));
+                    assertEquals(expected, actual, () -> String.join(",", il, ys, ms, hs, yb, mb, db, hb));
+                }
+            }
+        }
+    }
+
+    @Test
+    void missingMatchPositionUsesRuleTypeDefault() {
+        // match_position 이 "any" 인 규칙을 NULL 이나 알 수 없는 값으로 바꿔 컴파일
+        // (년지조합은 년지만, 일주조합은 일주만, 일간-지지는 전체 지지를 봐야 함)
+        Map<Long, List<SinsalRule>> rulesBySinsal = new LinkedHashMap<>();
+        int changed = 0;
+        for (SinsalRule rule : sinsalRuleRepository.findActiveRulesWithSinsal()) {
+            SinsalRule copy = copyOf(rule);
+            if ("any".equals(rule.getMatchPosition())) {
+                copy.setMatchPosition(changed++ % 2 == 0 ? null : "all");
+            }
+            rulesBySinsal.computeIfAbsent(rule.getSinsalId(), id -> new ArrayList<>()).add(copy);
+        }
+        assertTrue(changed > 0);
+
+        List<SinsalMaster> sinsals = sinsalCalculatorDB.getCatalog().sinsals();
+        SinsalRuleProgram program = SinsalRuleProgram.compile(sinsals, rulesBySinsal);
+        ReferenceSinsalEvaluator withoutPosition = new ReferenceSinsalEvaluator(
+                () -> sinsals, id -> rulesBySinsal.getOrDefault(id, List.of()));
+
+        Random random = new Random(5);
+        for (int i = 0; i < SAMPLES; i++) {
+            int ilgan = random.nextInt(10);
+            int yearStem = random.nextInt(10);
+            int monthStem = random.nextInt(10);
+            int yearBranch = random.nextInt(12);
+            int monthBranch = random.nextInt(12);
+            int dayBranch = random.nextInt(12);
+            boolean hasHour = random.nextInt(8) != 0;
+            int hourStem = hasHour ? random.nextInt(10) : -1;
+            int hourBranch = hasHour ? random.nextInt(12) : -1;
+
+            List<String> expected = withoutPosition.calculateAllSinsal(Ganji.stemName(ilgan),
+                    Ganji.branchName(yearBranch), Ganji.branchName(monthBranch), Ganji.branchName(dayBranch),
+                    hasHour ? Ganji.branchName(hourBranch) : null,
+                    Ganji.stemName(yearStem), Ganji.stemName(monthStem), hasHour ? Ganji.stemName(hourStem) : null);
+            List<String> actual = names(program.explain(ilgan, yearStem, monthStem, hourStem,
+                    yearBranch, monthBranch, dayBranch, hourBranch, null));
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static SinsalRule copyOf(SinsalRule rule) {
+        SinsalRule copy = new SinsalRule();
+        copy.setRuleId(rule.getRuleId());
+        copy.setSinsalId(rule.getSinsalId());
+        copy.setRuleType(rule.getRuleType());
+        copy.setConditionIlgan(rule.getConditionIlgan());
+        copy.setConditionYenji(rule.getConditionYenji());
+        copy.setConditionTarget(rule.getConditionTarget());
+        copy.setMatchPosition(rule.getMatchPosition());
+        copy.setRequireAll(rule.getRequireAll());
+        copy.setDescription(rule.getDescription());
+        copy.setSinsalMaster(rule.getSinsalMaster());
+        return copy;
+    }
+
+    private static List<String> names(List<SajuDetailResponse.SinsalInfo> sinsals) {
+        return sinsals.stream().map(SajuDetailResponse.SinsalInfo::getSinsalName).toList();
+    }
+}
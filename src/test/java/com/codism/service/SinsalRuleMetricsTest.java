@@ -0,0 +1,63 @@
+package com.codism.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 신살 규칙 평가 통계 (직접 평가 경로의 스레드별 통계 재사용)
+ */
+@SpringBootTest(properties = {
+        "spring.sql.init.mode=always",
+        "spring.sql.init.encoding=UTF-8",
+        "spring.jpa.defer-datasource-initialization=true",
+        "sinsal.metrics.enabled=true"
+})
+class SinsalRuleMetricsTest {
+
+    @Autowired
+    private SinsalCalculatorDB sinsalCalculatorDB;
+
+    @Autowired
+    private SinsalRuleMetrics sinsalRuleMetrics;
+
+    @Test
+    void threadStatsIsReusedAndClearedAfterRecord() {
+        SinsalRuleProgram program = sinsalCalculatorDB.getCatalog().program();
+
+        SinsalRuleProgram.Stats stats = sinsalRuleMetrics.threadStats(program);
+        program.evaluate(0, 0, 2, 0, 0, 2, 0, 0, new long[program.wordCount()], 0, stats, null);
+        sinsalRuleMetrics.record(stats);
+
+        assertSame(stats, sinsalRuleMetrics.threadStats(program));
+        for (int r = 0; r < program.ruleCount(); r++) {
+            assertEquals(0, stats.evaluations(r));
+            assertEquals(0, stats.matches(r));
+        }
+    }
+
+    @Test
+    void directEvaluationsAreCountedOncePerRequest() {
+        long first = directEvaluationDelta();
+        long second = directEvaluationDelta();
+
+        assertTrue(first > 0);
+        assertEquals(first, second);
+    }
+
+    private long directEvaluationDelta() {
+        long before = totalEvaluations();
+        sinsalCalculatorDB.calculateAllSinsal("갑", "자", "인", "자", "자", "갑", "병", "갑", true);
+        return totalEvaluations() - before;
+    }
+
+    private long totalEvaluations() {
+        return sinsalRuleMetrics.byRule().values().stream()
+                .mapToLong(SinsalRuleMetrics.Counter::evaluations)
+                .sum();
+    }
+}
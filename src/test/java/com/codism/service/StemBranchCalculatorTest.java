@@ -0,0 +1,84 @@
+package com.codism.service;
+
+import com.codism.model.vo.Ganji;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 일주(일의 60갑자) 계산
+ */
+class StemBranchCalculatorTest {
+
+    private static final String[] CELESTIAL_STEMS = {"갑", "을", "병", "정", "무", "기", "경", "신", "임", "계"};
+    private static final String[] TERRESTRIAL_BRANCHES = {"자", "축", "인", "묘", "진", "사", "오", "미", "신", "유", "술", "해"};
+
+    @Test
+    void knownDays() {
+        assertEquals("갑술", StemBranchCalculator.getDayStemBranch(1900, 1, 1));
+        assertEquals("신사", StemBranchCalculator.getDayStemBranch(1970, 1, 1));
+        assertEquals("무오", StemBranchCalculator.getDayStemBranch(2000, 1, 1));
+        assertEquals("무술", StemBranchCalculator.getDayStemBranch(2024, 2, 4));
+    }
+
+    @Test
+    void matchesCalendarBasedCalculation() {
+        for (LocalDate date = LocalDate.of(1800, 1, 1); date.getYear() <= 2100; date = date.plusDays(1)) {
+            assertEquals(calendarDayStemBranch(date.getYear(), date.getMonthValue(), date.getDayOfMonth()),
+                    StemBranchCalculator.getDayStemBranch(date.getYear(), date.getMonthValue(), date.getDayOfMonth()),
+                    date::toString);
+        }
+    }
+
+    @Test
+    void dateOverloadMatchesEpochDay() {
+        for (LocalDate date = LocalDate.of(1583, 1, 1); date.getYear() <= 2400; date = date.plusDays(7)) {
+            assertEquals(StemBranchCalculator.getDayGanjiIndex(date.toEpochDay()),
+                    StemBranchCalculator.getDayGanjiIndex(date.getYear(), date.getMonthValue(), date.getDayOfMonth()),
+                    date::toString);
+        }
+    }
+
+    @Test
+    void advancesOneGanjiPerDay() {
+        LocalDate date = LocalDate.of(1800, 1, 1);
+        int previous = StemBranchCalculator.getDayGanjiIndex(date.toEpochDay());
+        for (int i = 0; i < 200_000; i++) {
+            date = date.plusDays(1);
+            int current = StemBranchCalculator.getDayGanjiIndex(date.toEpochDay());
+            assertEquals((previous + 1) % 60, current, date::toString);
+            assertEquals(Ganji.of(current).toString(),
+                    StemBranchCalculator.getDayStemBranch(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+            previous = current;
+        }
+    }
+
+    /**
+     * epoch day 연산 이전의 Calendar 기반 일주 계산
+     * 기존 코드는 기준일을 을해로 잡아 하루 늦었고, 기본 시간대의 역사적 오프셋 차이로 일수가 하루씩 어긋났으므로
+     * 기준일만 갑술로 바로잡고 오프셋 변화가 없는 UTC 0시로 계산합니다.
+     */
+    private static String calendarDayStemBranch(int solarYear, int solarMonth, int solarDay) {
+        TimeZone zone = TimeZone.getTimeZone("UTC");
+        Calendar baseDate = Calendar.getInstance(zone);
+        baseDate.clear();
+        baseDate.set(1900, 0, 1);
+        int baseStem = 0;
+        int baseBranch = 10;
+
+        Calendar targetDate = Calendar.getInstance(zone);
+        targetDate.clear();
+        targetDate.set(solarYear, solarMonth - 1, solarDay);
+
+        long diffDays = (targetDate.getTimeInMillis() - baseDate.getTimeInMillis()) / (24 * 60 * 60 * 1000);
+        int stemIndex = (int) ((baseStem + diffDays) % 10);
+        int branchIndex = (int) ((baseBranch + diffDays) % 12);
+        if (stemIndex < 0) stemIndex += 10;
+        if (branchIndex < 0) branchIndex += 12;
+        return CELESTIAL_STEMS[stemIndex] + TERRESTRIAL_BRANCHES[branchIndex];
+    }
+}
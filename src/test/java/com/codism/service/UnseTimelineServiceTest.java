@@ -0,0 +1,64 @@
+package com.codism.service;
+
+import com.codism.model.dto.response.UnseTimelineItem;
+import com.codism.model.vo.NatalChart;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 세운/월운 타임라인의 일간 기준 십성이 사주 상세 조회와 같은지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.sql.init.mode=always",
+        "spring.sql.init.encoding=UTF-8",
+        "spring.jpa.defer-datasource-initialization=true"
+})
+class UnseTimelineServiceTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1996, 12, 1);
+
+    @Autowired
+    private UnseTimelineService unseTimelineService;
+
+    @Autowired
+    private NatalChartService natalChartService;
+
+    @Autowired
+    private SipSungCalculatorDB sipSungCalculatorDB;
+
+    @Test
+    void seunUsesSameIlganAsDetail() {
+        for (boolean isSolarCalendar : new boolean[]{true, false}) {
+            String ilgan = natalChartService.getNatalChart(BIRTH_DATE, null, "M", isSolarCalendar, false).ilgan();
+            List<UnseTimelineItem> items = unseTimelineService.streamSeun(BIRTH_DATE, isSolarCalendar, 2024, 2026).toList();
+
+            assertEquals(3, items.size());
+            for (UnseTimelineItem item : items) {
+                assertEquals(sipSungCalculatorDB.calculateSipSung(ilgan, item.getPillar().getCheongan()),
+                        item.getPillar().getCheonganSipsung());
+                assertEquals(sipSungCalculatorDB.calculateJijiSipsung(ilgan, item.getPillar().getJiji()),
+                        item.getPillar().getJijiSipsung());
+            }
+        }
+    }
+
+    @Test
+    void wolunUsesSameIlganAsDetail() {
+        for (boolean isSolarCalendar : new boolean[]{true, false}) {
+            NatalChart natal = natalChartService.getNatalChart(BIRTH_DATE, null, "M", isSolarCalendar, false);
+            List<UnseTimelineItem> items = unseTimelineService.streamWolun(BIRTH_DATE, isSolarCalendar, 2025).toList();
+
+            assertEquals(12, items.size());
+            for (UnseTimelineItem item : items) {
+                assertEquals(sipSungCalculatorDB.calculateSipSung(natal.ilgan(), item.getPillar().getCheongan()),
+                        item.getPillar().getCheonganSipsung());
+            }
+        }
+    }
+}
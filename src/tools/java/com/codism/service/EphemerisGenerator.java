@@ -0,0 +1,53 @@
+package com.codism.service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EphemerisTable 용 바이너리 파일 생성기
+ * 실행: ./gradlew generateEphemeris (src/main/resources/ephemeris/ephemeris.bin 갱신)
+ *
+ * 빌드 전용 tools 소스셋에 있으므로 애플리케이션 jar 에는 포함되지 않습니다.
+ * 절기 시각은 SolarTermCalculator 로 계산합니다.
+ */
+public final class EphemerisGenerator {
+
+    static final int MIN_YEAR = SolarTermCalculator.MIN_CACHED_YEAR;
+    static final int MAX_YEAR = SolarTermCalculator.MAX_CACHED_YEAR;
+
+    private EphemerisGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path output = Paths.get(args.length > 0 ? args[0] : "src/main/resources/ephemeris/ephemeris.bin");
+
+        List<Long> terms = new ArrayList<>();
+        for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+            for (long minute : SolarTermCalculator.computeTerms(year)) {
+                terms.add(minute);
+            }
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream file = Files.newOutputStream(output);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(EphemerisTable.MAGIC);
+            out.writeInt(EphemerisTable.VERSION);
+            out.writeInt(MIN_YEAR);
+            out.writeInt(MAX_YEAR);
+            out.writeInt(terms.size());
+            for (long minute : terms) {
+                out.writeInt(Math.toIntExact(minute));
+            }
+        }
+
+        System.out.printf("%s 생성 완료 - %d~%d년, 절기 %d개%n", output, MIN_YEAR, MAX_YEAR, terms.size());
+    }
+}